@@ -55,6 +55,9 @@ public class CommonHibernateConfiguration {
     @Value("${hibernate.cache.use.structured.entries:false}")
     private boolean useStructuredEntries;
 
+    @Value("${hibernate.jdbc.batch.size:10}")
+    private int jdbcBatchSize;
+
     /**
      * Constructor of dataSource bean.
      * It's used in case atp.multi-tenancy.enabled=false.
@@ -159,7 +162,7 @@ public class CommonHibernateConfiguration {
         properties.setProperty("hibernate.order_updates", "true");
         properties.setProperty("hibernate.max_fetch_depth", "0");
         properties.setProperty("hibernate.jdbc.fetch_size", "50");
-        properties.setProperty("hibernate.jdbc.batch_size", "10");
+        properties.setProperty("hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize));
         properties.setProperty("hibernate.globally_quoted_identifiers", "false");
         properties.setProperty("hibernate.connection.CharSet", "utf8");
         properties.setProperty("hibernate.connection.characterEncoding", "utf8");
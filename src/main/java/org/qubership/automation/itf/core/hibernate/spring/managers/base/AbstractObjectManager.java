@@ -20,6 +20,8 @@ import static org.qubership.automation.itf.core.util.converter.IdConverter.toBig
 
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -28,10 +30,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.metamodel.Attribute;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.tuple.Triple;
@@ -68,8 +72,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.FluentQuery;
 
 import com.google.common.collect.Sets;
@@ -84,12 +90,15 @@ public abstract class AbstractObjectManager<T extends Storable, V extends T> imp
     private static final Set<Object> SO_REMOVAL_PREVENTER = Sets.newCopyOnWriteArraySet();
     private static final int STRIPES = 256;
     private static final Striped<Lock> LOCK_STRIPED = Striped.lazyWeakLock(STRIPES);
+    private static final int PROPERTIES_PAGE_SIZE = 1000;
+    private static final Sort SORT_BY_ID = Sort.by("ID");
     protected final StorableRepository<V> repository;
     protected final Class<T> myType;
 
     @Getter
     @PersistenceContext
     protected EntityManager entityManager;
+    private volatile Set<String> mappedProperties;
 
     protected AbstractObjectManager(StorableRepository<V> repository) {
         this.myType = null;
@@ -159,8 +168,31 @@ public abstract class AbstractObjectManager<T extends Storable, V extends T> imp
         return repository.findByParentName(name);
     }
 
+    /**
+     * Get objects of the project meeting all the properties.
+     * Conditions which can be expressed by Querydsl are executed in DB page by page
+     * (if the repository supports Querydsl); other ones are checked in memory.
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public Collection<T> getByProperties(BigInteger projectId, Triple<String, Match, ?>... properties) {
+        PropertyPredicates translation = translateProperties(projectId, properties);
+        if (translation != null) {
+            Triple<String, Match, ?>[] remaining = translation.getRemaining();
+            Collection<T> toReturn = new ArrayList<>();
+            Page<V> page;
+            int pageIndex = 0;
+            do {
+                page = ((QuerydslPredicateExecutor<V>) repository).findAll(translation.getPredicate(),
+                        PageRequest.of(pageIndex++, PROPERTIES_PAGE_SIZE, SORT_BY_ID));
+                for (V object : page) {
+                    if (PropertyHelper.meetsAllProperties(object, remaining)) {
+                        toReturn.add(object);
+                    }
+                }
+            } while (page.hasNext());
+            return toReturn;
+        }
         Collection<T> toReturn;
         Collection<? extends T> all = getAll();
         try {
@@ -168,14 +200,45 @@ public abstract class AbstractObjectManager<T extends Storable, V extends T> imp
         } catch (InstantiationException | IllegalAccessException e) {
             toReturn = Sets.newHashSetWithExpectedSize(all.size());
         }
+        Triple<String, Match, ?>[] conditions = properties;
+        if (projectId != null && myType != null && PropertyPredicates.isProjectScoped(myType)) {
+            conditions = Arrays.copyOf(properties, properties.length + 1);
+            conditions[properties.length] = Triple.of(PropertyPredicates.PROJECT_ID, Match.EQUALS, projectId);
+        }
         for (T t : all) {
-            if (PropertyHelper.meetsAllProperties(t, properties)) {
+            if (PropertyHelper.meetsAllProperties(t, conditions)) {
                 toReturn.add(t);
             }
         }
         return toReturn;
     }
 
+    /*  Null if the type can't be queried by Querydsl: the query is not even tried then,
+        as a failed repository call would mark the caller's transaction rollback-only.
+        Properties are checked against the persistence metamodel for the same reason.
+     */
+    private PropertyPredicates translateProperties(BigInteger projectId, Triple<String, Match, ?>[] properties) {
+        if (myType == null || !(repository instanceof QuerydslPredicateExecutor) || entityManager == null) {
+            return null;
+        }
+        try {
+            Set<String> mapped = mappedProperties;
+            if (mapped == null) {
+                mapped = entityManager.getMetamodel().managedType(myType).getSingularAttributes().stream()
+                        .filter(attribute -> attribute.getPersistentAttributeType()
+                                == Attribute.PersistentAttributeType.BASIC)
+                        .map(Attribute::getName)
+                        .collect(Collectors.toSet());
+                mappedProperties = mapped;
+            }
+            return PropertyPredicates.translate(myType, mapped, projectId, properties);
+        } catch (IllegalArgumentException e) {
+            // Not a managed type or there is no Querydsl query type for it
+            LOGGER.debug("Objects of {} are checked by properties in memory", myType.getName(), e);
+            return null;
+        }
+    }
+
     @Override
     public Collection<? extends T> getByParentAndName(Storable parent, String name) {
         return repository.findByParentIDAndName(parent.getID(), name);
@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.hibernate.spring.managers.base;
+
+import java.beans.PropertyDescriptor;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.tuple.Triple;
+import org.qubership.automation.itf.core.util.constants.Match;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.util.ClassUtils;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.SimplePath;
+
+/**
+ * Translation of property conditions of {@link ObjectManager#getByProperties} into a Querydsl predicate.
+ * Conditions on simple-valued properties mapped to columns are translated with the same semantics as
+ * {@link org.qubership.automation.itf.core.util.helper.PropertyHelper#meetsMatch} has;
+ * others (collections, maps, values of other types, unmapped or unknown properties)
+ * are left to be checked in memory.
+ */
+final class PropertyPredicates {
+
+    static final String PROJECT_ID = "projectId";
+
+    private final BooleanBuilder predicate = new BooleanBuilder();
+    private final List<Triple<String, Match, ?>> remaining = new ArrayList<>();
+
+    private PropertyPredicates() {
+    }
+
+    /**
+     * Translate the conditions; entities having mapped projectId property are scoped by the project.
+     *
+     * @param type             - entity type; Querydsl query type of it must exist
+     * @param mappedProperties - names of basic properties of the entity mapped to columns
+     *                         (only they may be used in a query)
+     * @param projectId        - project id, may be null
+     * @param properties       - conditions
+     * @return translation
+     */
+    static PropertyPredicates translate(Class<?> type, Set<String> mappedProperties, BigInteger projectId,
+                                        Triple<String, Match, ?>[] properties) {
+        EntityPath<?> entityPath = SimpleEntityPathResolver.INSTANCE.createPath(type);
+        PathBuilder<?> entity = new PathBuilder<>(entityPath.getType(), entityPath.getMetadata());
+        PropertyPredicates translation = new PropertyPredicates();
+        if (projectId != null && mappedProperties.contains(PROJECT_ID) && isProjectScoped(type)) {
+            translation.predicate.and(entity.getSimple(PROJECT_ID, BigInteger.class).eq(projectId));
+        }
+        for (Triple<String, Match, ?> property : properties) {
+            if (!mappedProperties.contains(property.getLeft()) || !translation.add(entity, type, property)) {
+                translation.remaining.add(property);
+            }
+        }
+        return translation;
+    }
+
+    static boolean isProjectScoped(Class<?> type) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, PROJECT_ID);
+        return descriptor != null && descriptor.getReadMethod() != null
+                && BigInteger.class.equals(descriptor.getPropertyType());
+    }
+
+    BooleanBuilder getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Conditions which are not translated.
+     */
+    @SuppressWarnings("unchecked")
+    Triple<String, Match, ?>[] getRemaining() {
+        return remaining.toArray(new Triple[0]);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean add(PathBuilder<?> entity, Class<?> type, Triple<String, Match, ?> property) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property.getLeft());
+        if (descriptor == null || descriptor.getReadMethod() == null || property.getMiddle() == null) {
+            return false;
+        }
+        Class<?> propertyType = ClassUtils.resolvePrimitiveIfNecessary(descriptor.getPropertyType());
+        if (!BeanUtils.isSimpleValueType(propertyType) || propertyType.isArray()) {
+            return false;
+        }
+        SimplePath path = entity.getSimple(property.getLeft(), propertyType);
+        Object value = property.getRight();
+        switch (property.getMiddle()) {
+            case EQUALS:
+                if (value == null) {
+                    predicate.and(path.isNull());
+                } else if (propertyType.isInstance(value)) {
+                    predicate.and(path.eq(value));
+                } else {
+                    return false;
+                }
+                return true;
+            case NOT_EQUALS:
+                if (value == null) {
+                    predicate.and(path.isNotNull());
+                } else if (propertyType.isInstance(value)) {
+                    predicate.and(path.ne(value).or(path.isNull()));
+                } else {
+                    return false;
+                }
+                return true;
+            case IN:
+                Collection<?> values = value instanceof Collection
+                        ? (Collection<?>) value : Collections.singleton(value);
+                if (values.isEmpty() || !values.stream().allMatch(propertyType::isInstance)) {
+                    return false;
+                }
+                predicate.and(path.in(values));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
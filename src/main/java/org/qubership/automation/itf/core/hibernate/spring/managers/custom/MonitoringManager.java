@@ -22,6 +22,7 @@ import java.util.Set;
 
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.ObjectManager;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.MonitoringContextTree;
 import org.qubership.automation.itf.core.model.jpa.context.TcContextBriefInfo;
 
 public interface MonitoringManager extends ObjectManager<InstanceContext> {
@@ -50,6 +51,8 @@ public interface MonitoringManager extends ObjectManager<InstanceContext> {
 
     String getContextVariables(String tcContextId);
 
+    Object getContextVariable(String tcContextId, Integer partNum, String... path);
+
     HashMap<String, String> getTcContextReportLinks(String tcContextId, Integer partNum);
 
     Set<String> getTcContextBindingKeys(String tcContextId, Integer partNum);
@@ -59,4 +62,16 @@ public interface MonitoringManager extends ObjectManager<InstanceContext> {
     String getValidationResults(Object spContextId, Integer partNum);
 
     HashMap<String, String> getTcContextStepsSituations(String tcContextId, Integer partNum);
+
+    /**
+     * Load the whole monitoring tree of the context with details of all steps by a few set-based queries.
+     * Trees of finished contexts are cached.
+     */
+    MonitoringContextTree getContextTree(String tcContextId, Integer partNum);
+
+    /**
+     * Load a page of the monitoring tree of the context (rows from offset, not more than limit)
+     * with details of the steps of the page.
+     */
+    MonitoringContextTree getContextTree(String tcContextId, Integer partNum, int offset, int limit);
 }
@@ -16,7 +16,9 @@
 
 package org.qubership.automation.itf.core.hibernate.spring.managers.executor;
 
+import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
@@ -32,11 +34,13 @@ import org.springframework.stereotype.Service;
 @Service
 public class CounterObjectManager extends AbstractObjectManager<Counter, Counter> {
 
+    private final CounterRepository counterRepository;
     private Map<String, Class<? extends Counter>> subclasses;
 
     @Autowired
     public CounterObjectManager(CounterRepository repository) {
         super(Counter.class, repository);
+        this.counterRepository = repository;
     }
 
     @Override
@@ -57,6 +61,15 @@ public class CounterObjectManager extends AbstractObjectManager<Counter, Counter
         return result;
     }
 
+    /**
+     * Find counters having the owner among their owners.
+     *
+     * @param owner - owner id, or null to find counters without owners
+     */
+    public List<Counter> getByOwner(BigInteger owner) {
+        return owner == null ? counterRepository.findWithoutOwners() : counterRepository.findByOwner(owner);
+    }
+
     @Override
     protected void protectedOnRemove(Counter object) {
 
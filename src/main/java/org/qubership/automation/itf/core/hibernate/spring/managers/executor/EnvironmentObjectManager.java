@@ -35,6 +35,7 @@ import org.qubership.automation.itf.core.hibernate.spring.managers.custom.Search
 import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.EnvironmentRepository;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.environment.Environment;
+import org.qubership.automation.itf.core.model.jpa.environment.OutboundRoutes;
 import org.qubership.automation.itf.core.model.jpa.report.LinkCollectorConfiguration;
 import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.slf4j.Logger;
@@ -56,6 +57,16 @@ public class EnvironmentObjectManager extends AbstractObjectManager<Environment,
         this.environmentRepository = repository;
     }
 
+    @Override
+    protected void protectedOnUpdate(Environment object) {
+        OutboundRoutes.getInstance().invalidate();
+    }
+
+    @Override
+    protected void protectedOnRemove(Environment object) {
+        OutboundRoutes.getInstance().invalidate();
+    }
+
     /**
      * To Set initial state of Environments when ITF is started.
      */
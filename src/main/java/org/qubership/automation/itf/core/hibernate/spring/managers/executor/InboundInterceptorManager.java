@@ -18,7 +18,9 @@ package org.qubership.automation.itf.core.hibernate.spring.managers.executor;
 
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.AbstractObjectManager;
 import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.InboundInterceptorRepository;
+import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.interceptor.TransportConfigurationInterceptor;
+import org.qubership.automation.itf.core.util.loader.InterceptorInstanceCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -29,4 +31,25 @@ public class InboundInterceptorManager
     public InboundInterceptorManager(InboundInterceptorRepository interceptorRepository) {
         super(TransportConfigurationInterceptor.class, interceptorRepository);
     }
+
+    @Override
+    public void store(Storable storable) {
+        super.store(storable);
+        InterceptorInstanceCache.getInstance().invalidate(storable.getID());
+    }
+
+    @Override
+    public void afterDelete(Storable object) {
+        InterceptorInstanceCache.getInstance().invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnUpdate(TransportConfigurationInterceptor object) {
+        InterceptorInstanceCache.getInstance().invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnRemove(TransportConfigurationInterceptor object) {
+        InterceptorInstanceCache.getInstance().invalidate(object.getID());
+    }
 }
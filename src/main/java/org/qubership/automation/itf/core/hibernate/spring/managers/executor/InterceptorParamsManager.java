@@ -18,7 +18,9 @@ package org.qubership.automation.itf.core.hibernate.spring.managers.executor;
 
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.AbstractObjectManager;
 import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.InterceptorParamsRepository;
+import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.interceptor.InterceptorParams;
+import org.qubership.automation.itf.core.util.loader.InterceptorInstanceCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -28,4 +30,29 @@ public class InterceptorParamsManager extends AbstractObjectManager<InterceptorP
     public InterceptorParamsManager(InterceptorParamsRepository interceptorRepository) {
         super(InterceptorParams.class, interceptorRepository);
     }
+
+    @Override
+    public void store(Storable storable) {
+        super.store(storable);
+        InterceptorInstanceCache.getInstance().invalidate(parentId(storable));
+    }
+
+    @Override
+    public void afterDelete(Storable object) {
+        InterceptorInstanceCache.getInstance().invalidate(parentId(object));
+    }
+
+    @Override
+    protected void protectedOnUpdate(InterceptorParams object) {
+        InterceptorInstanceCache.getInstance().invalidate(parentId(object));
+    }
+
+    @Override
+    protected void protectedOnRemove(InterceptorParams object) {
+        InterceptorInstanceCache.getInstance().invalidate(parentId(object));
+    }
+
+    private static Object parentId(Storable params) {
+        return params.getParent() == null ? null : params.getParent().getID();
+    }
 }
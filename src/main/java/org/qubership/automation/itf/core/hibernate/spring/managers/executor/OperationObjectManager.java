@@ -21,6 +21,7 @@ import static org.qubership.automation.itf.core.util.converter.IdConverter.toBig
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.folder.Folder;
 import org.qubership.automation.itf.core.model.jpa.step.Step;
+import org.qubership.automation.itf.core.model.jpa.system.OperationDispatchIndex;
 import org.qubership.automation.itf.core.model.jpa.system.System;
 import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
 import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
@@ -63,8 +65,19 @@ public class OperationObjectManager extends AbstractObjectManager<Operation, Ope
         this.stepRepository = stepRepository;
     }
 
+    @Override
+    protected void protectedOnCreate(Operation object) {
+        OperationDispatchIndex.getInstance().invalidate();
+    }
+
+    @Override
+    protected void protectedOnUpdate(Operation object) {
+        OperationDispatchIndex.getInstance().invalidate();
+    }
+
     @Override
     public void protectedOnRemove(Operation object) {
+        OperationDispatchIndex.getInstance().invalidate();
         stepRepository.onDeleteOperation(object);
     }
 
@@ -147,6 +160,20 @@ public class OperationObjectManager extends AbstractObjectManager<Operation, Ope
         return ((OperationRepository) repository).findByParentNameAndProject(name, toBigInt(projectId));
     }
 
+    /**
+     * Load operations with transports and parsing rules into the current persistence context by one query,
+     * before fast stub configuration reads them.
+     *
+     * @param operationIds - ids of operations.
+     * @return operations loaded.
+     */
+    public List<Operation> loadForFastStubs(Collection<BigInteger> operationIds) {
+        if (operationIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return ((OperationRepository) repository).findWithTransportAndParsingRulesByIds(operationIds);
+    }
+
     @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST", justification = "Only Operation objects are here")
     @Override
     public void afterDelete(Storable object) {
@@ -18,7 +18,9 @@ package org.qubership.automation.itf.core.hibernate.spring.managers.executor;
 
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.AbstractObjectManager;
 import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.OutboundInterceptorRepository;
+import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.interceptor.TemplateInterceptor;
+import org.qubership.automation.itf.core.util.loader.InterceptorInstanceCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -28,4 +30,25 @@ public class OutboundInterceptorManager extends AbstractObjectManager<TemplateIn
     public OutboundInterceptorManager(OutboundInterceptorRepository interceptorRepository) {
         super(TemplateInterceptor.class, interceptorRepository);
     }
+
+    @Override
+    public void store(Storable storable) {
+        super.store(storable);
+        InterceptorInstanceCache.getInstance().invalidate(storable.getID());
+    }
+
+    @Override
+    public void afterDelete(Storable object) {
+        InterceptorInstanceCache.getInstance().invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnUpdate(TemplateInterceptor object) {
+        InterceptorInstanceCache.getInstance().invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnRemove(TemplateInterceptor object) {
+        InterceptorInstanceCache.getInstance().invalidate(object.getID());
+    }
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.AbstractObjectManager;
 import org.qubership.automation.itf.core.hibernate.spring.managers.custom.EnvConfigurationManager;
 import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.OutboundTransportConfigurationRepository;
+import org.qubership.automation.itf.core.model.jpa.environment.OutboundRoutes;
 import org.qubership.automation.itf.core.model.jpa.environment.OutboundTransportConfiguration;
 import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,8 +37,19 @@ public class OutboundTransportConfigurationObjectManager
         super(OutboundTransportConfiguration.class, repository);
     }
 
+    @Override
+    protected void protectedOnCreate(OutboundTransportConfiguration object) {
+        OutboundRoutes.getInstance().invalidate();
+    }
+
+    @Override
+    protected void protectedOnUpdate(OutboundTransportConfiguration object) {
+        OutboundRoutes.getInstance().invalidate();
+    }
+
     @Override
     protected void protectedOnRemove(OutboundTransportConfiguration object) {
+        OutboundRoutes.getInstance().invalidate();
     }
 
     @Override
@@ -30,6 +30,7 @@ import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
 import org.qubership.automation.itf.core.util.constants.Match;
 import org.qubership.automation.itf.core.util.helper.PropertyHelper;
+import org.qubership.automation.itf.core.util.parser.CompiledParsingRules;
 import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
 import org.qubership.automation.itf.core.util.provider.ParsingRuleProvider;
 import org.slf4j.Logger;
@@ -72,6 +73,27 @@ public abstract class ParsingRuleObjectManager<K extends ParsingRuleProvider, T
         return parsingRule;
     }
 
+    @Override
+    public void store(Storable storable) {
+        super.store(storable);
+        CompiledParsingRules.getInstance().invalidate(storable.getID());
+    }
+
+    @Override
+    public void afterDelete(Storable object) {
+        CompiledParsingRules.getInstance().invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnUpdate(T object) {
+        CompiledParsingRules.getInstance().invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnRemove(T object) {
+        CompiledParsingRules.getInstance().invalidate(object.getID());
+    }
+
     public Collection<T> getByProjectId(BigInteger projectId) {
         return ((ParsingRuleRepository<K,T>) repository).findByProjectId(projectId);
     }
@@ -38,6 +38,7 @@ import org.qubership.automation.itf.core.hibernate.spring.repositories.executor.
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.environment.Environment;
 import org.qubership.automation.itf.core.model.jpa.environment.InboundTransportConfiguration;
+import org.qubership.automation.itf.core.model.jpa.environment.OutboundRoutes;
 import org.qubership.automation.itf.core.model.jpa.environment.OutboundTransportConfiguration;
 import org.qubership.automation.itf.core.model.jpa.environment.QEnvironment;
 import org.qubership.automation.itf.core.model.jpa.folder.Folder;
@@ -85,8 +86,14 @@ public class ServerObjectManager extends AbstractObjectManager<Server, ServerHB>
         INSTANCE = this;
     }
 
+    @Override
+    protected void protectedOnUpdate(Server object) {
+        OutboundRoutes.getInstance().invalidate();
+    }
+
     @Override
     public void protectedOnRemove(Server object) {
+        OutboundRoutes.getInstance().invalidate();
         Iterable<Environment> environments =
                 environmentRepository.findAll(QEnvironment.environment.outbound.containsValue(object));
         for (Environment environment : environments) {
@@ -21,6 +21,7 @@ import static org.qubership.automation.itf.core.util.converter.IdConverter.toBig
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -323,4 +324,23 @@ public class SituationObjectManager extends AbstractObjectManager<Situation, Sit
     public Optional<List<FastStubsCandidate>> getFastStubsCandidates(UUID projectUuid, List<BigInteger> operationIds) {
         return ((SituationRepository) repository).getFastStubsCandidates(projectUuid, operationIds);
     }
+
+    /**
+     * Load situations with steps, step templates (with transport properties) and operation event triggers
+     * into the current persistence context by a few queries, before fast stub configuration reads them.
+     *
+     * @param situationIds - ids of situations.
+     * @return situations loaded.
+     */
+    public List<Situation> loadForFastStubs(Collection<BigInteger> situationIds) {
+        if (situationIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SituationRepository situationRepository = (SituationRepository) repository;
+        // Templates go first, so step references are resolved to loaded templates instead of proxies
+        situationRepository.findStepTemplatesBySituationIds(situationIds);
+        List<Situation> situations = situationRepository.findWithStepsByIds(situationIds);
+        situationRepository.findWithOperationEventTriggersByIds(situationIds);
+        return situations;
+    }
 }
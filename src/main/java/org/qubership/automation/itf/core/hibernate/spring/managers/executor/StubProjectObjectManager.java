@@ -43,6 +43,7 @@ import org.qubership.automation.itf.core.model.jpa.system.System;
 import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.qubership.automation.itf.core.util.exception.StorageException;
+import org.qubership.automation.itf.core.util.helper.FailTimeOut;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.query.Param;
@@ -79,6 +80,16 @@ public class StubProjectObjectManager extends AbstractObjectManager<StubProject,
         return stubProjectRepository.save(project);
     }
 
+    @Override
+    protected void protectedOnUpdate(StubProject object) {
+        FailTimeOut.invalidate(object.getID());
+    }
+
+    @Override
+    protected void protectedOnRemove(StubProject object) {
+        FailTimeOut.invalidate(object.getID());
+    }
+
     @Override
     public void setReplicationRole(String roleName) {
         if (roleName.equals("replica")) {
@@ -182,6 +193,7 @@ public class StubProjectObjectManager extends AbstractObjectManager<StubProject,
                                      @Param("propShortName") String propShortName,
                                      @Param("propValue") String propValue) {
         stubProjectRepository.updateProjectSetting(projectId, propShortName, propValue);
+        FailTimeOut.invalidate(projectId);
     }
 
     private Map<String, String> formatProjectSettingsAsMap(List<Object[]> nameValueArrays) {
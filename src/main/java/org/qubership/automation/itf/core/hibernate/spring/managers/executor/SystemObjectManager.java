@@ -43,6 +43,7 @@ import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.environment.Environment;
 import org.qubership.automation.itf.core.model.jpa.environment.QEnvironment;
 import org.qubership.automation.itf.core.model.jpa.step.Step;
+import org.qubership.automation.itf.core.model.jpa.system.OperationDispatchIndex;
 import org.qubership.automation.itf.core.model.jpa.system.System;
 import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
 import org.qubership.automation.itf.core.model.usage.UsageInfo;
@@ -75,6 +76,7 @@ public class SystemObjectManager extends AbstractObjectManager<System, System> i
 
     @Override
     public void protectedOnRemove(System object) {
+        OperationDispatchIndex.getInstance().invalidate();
         stepRepository.onDeleteSystemSender(object);
         stepRepository.onDeleteSystemReceiver(object);
         Iterable<Environment> environments =
@@ -18,28 +18,56 @@ package org.qubership.automation.itf.core.hibernate.spring.managers.reports;
 
 import static org.qubership.automation.itf.core.util.converter.IdConverter.toBigInt;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.AbstractObjectManager;
 import org.qubership.automation.itf.core.hibernate.spring.managers.custom.MonitoringManager;
 import org.qubership.automation.itf.core.hibernate.spring.repositories.reports.InstanceContextRepository;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.MonitoringContextTree;
 import org.qubership.automation.itf.core.model.jpa.context.TcContextBriefInfo;
+import org.qubership.automation.itf.core.model.jpa.context.codec.ContextCodecs;
+import org.qubership.automation.itf.core.util.constants.Status;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
+
 @Service
 public class InstanceContextObjectManager extends AbstractObjectManager<InstanceContext, InstanceContext>
         implements MonitoringManager {
 
+    private static final int IDS_CHUNK_SIZE = 1000;
+    private static final long TREES_CACHE_SIZE = 32L * 1024 * 1024;
+
     private final InstanceContextRepository instanceContextRepository;
+    /*  Weighed by approximate size in chars: a single tree of a long testcase may be bigger than hundreds of
+        small ones. Trees bigger than the limit are loaded each time.
+     */
+    private final Cache<String, MonitoringContextTree> finishedTrees = CacheBuilder.newBuilder()
+            .maximumWeight(TREES_CACHE_SIZE)
+            .weigher((String key, MonitoringContextTree tree) -> (int) Math.min(Integer.MAX_VALUE,
+                    Math.max(1, tree.getSize())))
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
 
     @Autowired
     public InstanceContextObjectManager(InstanceContextRepository repository) {
@@ -87,7 +115,7 @@ public class InstanceContextObjectManager extends AbstractObjectManager<Instance
             idsMap.put("spContextId", ids.get(0)[0]);
             idsMap.put("incomingMessageId", ids.get(0)[1]);
             idsMap.put("outgoingMessageId", ids.get(0)[2]);
-            idsMap.put("stepContext", ids.get(0)[3]);
+            idsMap.put("stepContext", ContextCodecs.decode((String) ids.get(0)[3]));
         }
         return idsMap;
     }
@@ -155,17 +183,41 @@ public class InstanceContextObjectManager extends AbstractObjectManager<Instance
 
     @Override
     public List<Object[]> getTcContextInfo(String tcContextId) {
-        return instanceContextRepository.getTcContextInfo(toBigInt(tcContextId));
+        List<Object[]> info = instanceContextRepository.getTcContextInfo(toBigInt(tcContextId));
+        for (Object[] row : info) {
+            if (row.length > 7 && row[7] instanceof String) {
+                row[7] = ContextCodecs.decode((String) row[7]);
+            }
+        }
+        return info;
     }
 
     @Override
     public String getContextVariables(String tcContextId, Integer partNum) {
-        return instanceContextRepository.getContextVariables(toBigInt(tcContextId), partNum);
+        return ContextCodecs.decode(instanceContextRepository.getContextVariables(toBigInt(tcContextId), partNum));
     }
 
     @Override
     public String getContextVariables(String tcContextId) {
-        return instanceContextRepository.getContextVariables(toBigInt(tcContextId));
+        return ContextCodecs.decode(instanceContextRepository.getContextVariables(toBigInt(tcContextId)));
+    }
+
+    /**
+     * Get one context variable without parsing the whole context json.
+     *
+     * @param path - key of the variable and keys of nested objects, if any
+     * @return value as json-simple object, or null if it's not found
+     */
+    @Override
+    public Object getContextVariable(String tcContextId, Integer partNum, String... path) {
+        String stored = partNum == null
+                ? instanceContextRepository.getContextVariables(toBigInt(tcContextId))
+                : instanceContextRepository.getContextVariables(toBigInt(tcContextId), partNum);
+        try {
+            return ContextCodecs.readValue(stored, path);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Context variables of " + tcContextId + " can't be read", e);
+        }
     }
 
     @Override
@@ -211,4 +263,138 @@ public class InstanceContextObjectManager extends AbstractObjectManager<Instance
         }
         return situationsMap;
     }
+
+    @Override
+    public MonitoringContextTree getContextTree(String tcContextId, Integer partNum) {
+        return getContextTree(tcContextId, partNum, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public MonitoringContextTree getContextTree(String tcContextId, Integer partNum, int offset, int limit) {
+        Objects.requireNonNull(partNum, "partNum");
+        String key = tcContextId + '/' + partNum + '/' + offset + '/' + limit;
+        MonitoringContextTree tree = finishedTrees.getIfPresent(key);
+        if (tree == null) {
+            tree = loadContextTree(toBigInt(tcContextId), partNum, offset, limit);
+            if (tree.isFinished() && tree.getSize() < TREES_CACHE_SIZE) {
+                finishedTrees.put(key, tree);
+            }
+        }
+        return tree;
+    }
+
+    /*  Status is read first: if the context is finished then, the tree read after it is final.
+        A page is read by the paged query, so rows out of the page aren't transferred.
+     */
+    private MonitoringContextTree loadContextTree(BigInteger tcContextId, Integer partNum, int offset, int limit) {
+        Status status = EnumUtils.getEnum(Status.class,
+                instanceContextRepository.getContextStatus(tcContextId, partNum));
+        int from = Math.max(offset, 0);
+        List<Object[]> rows;
+        int totalRows;
+        if (from == 0 && limit == Integer.MAX_VALUE) {
+            rows = instanceContextRepository.getTcContextTree(tcContextId, partNum);
+            totalRows = rows.size();
+        } else {
+            totalRows = instanceContextRepository.getTcContextTreeSize(tcContextId, partNum);
+            from = Math.min(from, totalRows);
+            int pageSize = (int) Math.min(Math.max(limit, 0), (long) totalRows - from);
+            rows = pageSize == 0 ? Collections.emptyList()
+                    : instanceContextRepository.getTcContextTreePage(tcContextId, partNum, from, pageSize);
+        }
+        Set<BigInteger> stepInstanceIds = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            BigInteger id = toBigInt(row[0]);
+            if (id.signum() != 0) {
+                stepInstanceIds.add(id);
+            }
+        }
+        Map<BigInteger, Object[]> errors = new HashMap<>();
+        for (Object[] row : queryByChunks(stepInstanceIds,
+                ids -> instanceContextRepository.getStepInstancesErrors(ids, partNum))) {
+            errors.put(toBigInt(row[0]), row);
+        }
+        Map<BigInteger, Object[]> spContexts = new HashMap<>();
+        Set<BigInteger> messageIds = new HashSet<>();
+        for (Object[] row : queryByChunks(stepInstanceIds,
+                ids -> instanceContextRepository.getStepInstancesMessageIds(ids, partNum))) {
+            if (spContexts.putIfAbsent(toBigInt(row[0]), row) == null) {
+                addId(messageIds, row[2]);
+                addId(messageIds, row[3]);
+            }
+        }
+        Set<BigInteger> spContextIds = new HashSet<>();
+        spContexts.values().forEach(row -> addId(spContextIds, row[1]));
+        Map<BigInteger, String> texts = new HashMap<>();
+        for (Object[] row : queryByChunks(messageIds, ids -> instanceContextRepository.getMessageTexts(ids,
+                partNum))) {
+            texts.put(toBigInt(row[0]), (String) row[1]);
+        }
+        Map<BigInteger, Map<String, Object>> headers = groupByFirstColumn(queryByChunks(messageIds,
+                ids -> instanceContextRepository.getMessagesHeaders(ids, partNum)));
+        Map<BigInteger, Map<String, Object>> connectionProperties = groupByFirstColumn(queryByChunks(messageIds,
+                ids -> instanceContextRepository.getMessagesConnectionProperties(ids, partNum)));
+        Map<BigInteger, Map<String, Object>> parameters = groupByFirstColumn(queryByChunks(spContextIds,
+                ids -> instanceContextRepository.getSpMessagesParameters(ids, partNum)));
+
+        Map<BigInteger, MonitoringContextTree.StepDetails> steps = new HashMap<>();
+        for (BigInteger stepInstanceId : stepInstanceIds) {
+            Object[] error = errors.get(stepInstanceId);
+            Object[] spContext = spContexts.get(stepInstanceId);
+            if (error == null && spContext == null) {
+                continue;
+            }
+            BigInteger spContextId = spContext == null || spContext[1] == null ? null : toBigInt(spContext[1]);
+            steps.put(stepInstanceId, new MonitoringContextTree.StepDetails(stepInstanceId,
+                    error == null ? null : (String) error[1],
+                    error == null ? null : (String) error[2],
+                    spContextId,
+                    spContext == null ? null : ContextCodecs.decode((String) spContext[4]),
+                    spContext == null ? null : (String) spContext[5],
+                    spContextId == null ? Collections.emptyMap()
+                            : parameters.getOrDefault(spContextId, Collections.emptyMap()),
+                    spContext == null ? null : message(spContext[2], texts, headers, connectionProperties),
+                    spContext == null ? null : message(spContext[3], texts, headers, connectionProperties)));
+        }
+        return new MonitoringContextTree(tcContextId, partNum, status, from, totalRows, rows, steps);
+    }
+
+    private static MonitoringContextTree.MessageDetails message(Object messageId, Map<BigInteger, String> texts,
+                                                                Map<BigInteger, Map<String, Object>> headers,
+                                                                Map<BigInteger, Map<String, Object>> properties) {
+        if (messageId == null) {
+            return null;
+        }
+        BigInteger id = toBigInt(messageId);
+        return new MonitoringContextTree.MessageDetails(id, texts.get(id),
+                headers.getOrDefault(id, Collections.emptyMap()),
+                properties.getOrDefault(id, Collections.emptyMap()));
+    }
+
+    private static void addId(Set<BigInteger> ids, Object id) {
+        if (id != null) {
+            ids.add(toBigInt(id));
+        }
+    }
+
+    private static List<Object[]> queryByChunks(Collection<BigInteger> ids,
+                                                Function<List<BigInteger>, List<Object[]>> query) {
+        List<Object[]> result = new ArrayList<>();
+        for (List<BigInteger> chunk : Iterables.partition(ids, IDS_CHUNK_SIZE)) {
+            result.addAll(query.apply(chunk));
+        }
+        return result;
+    }
+
+    /*  Rows are (id, key, value).
+     */
+    private static Map<BigInteger, Map<String, Object>> groupByFirstColumn(List<Object[]> rows) {
+        Map<BigInteger, Map<String, Object>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row != null && row.length == 3 && row[1] != null) {
+                result.computeIfAbsent(toBigInt(row[0]), id -> new HashMap<>()).put(row[1].toString(), row[2]);
+            }
+        }
+        return result;
+    }
 }
@@ -16,10 +16,21 @@
 
 package org.qubership.automation.itf.core.hibernate.spring.repositories.executor;
 
+import java.math.BigInteger;
+import java.util.List;
+
 import org.qubership.automation.itf.core.hibernate.spring.repositories.base.RootRepository;
 import org.qubership.automation.itf.core.model.counter.Counter;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CounterRepository extends RootRepository<Counter> {
+
+    @Query("select distinct c from Counter c join c.owners o where o = :owner")
+    List<Counter> findByOwner(@Param("owner") BigInteger owner);
+
+    @Query("select c from Counter c where c.owners is empty")
+    List<Counter> findWithoutOwners();
 }
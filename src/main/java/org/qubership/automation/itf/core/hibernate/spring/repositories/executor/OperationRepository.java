@@ -34,6 +34,12 @@ import org.springframework.stereotype.Repository;
 @JaversSpringDataAuditable
 public interface OperationRepository extends StorableRepository<Operation>, QuerydslPredicateExecutor<Operation> {
 
+    @Query(value = "select distinct operation from Operation operation "
+            + "left join fetch operation.transport "
+            + "left join fetch operation.operationParsingRules "
+            + "where operation.id in :operationIds")
+    List<Operation> findWithTransportAndParsingRulesByIds(@Param("operationIds") Collection<BigInteger> operationIds);
+
     @Modifying
     @Query("update Operation o set o.transport = null where o.transport = :configuration")
     void onDeleteTransport(@Param("configuration") TransportConfiguration configuration);
@@ -27,6 +27,7 @@ import org.javers.spring.annotation.JaversSpringDataAuditable;
 import org.qubership.automation.itf.core.hibernate.spring.repositories.base.StorableRepository;
 import org.qubership.automation.itf.core.model.FastStubsCandidate;
 import org.qubership.automation.itf.core.model.IdNamePair;
+import org.qubership.automation.itf.core.model.jpa.message.template.Template;
 import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -152,4 +153,23 @@ public interface SituationRepository extends StorableRepository<Situation> {
             + "select d.* from common_with_details d", nativeQuery = true)
     Optional<List<FastStubsCandidate>> getFastStubsCandidates(@Param("projectUuid") UUID projectUuid,
                                                               @Param("operationIds") List<BigInteger> operationIds);
+
+    /*  Bulk loading of what fast stub configuration reads from situations;
+        collections are fetched by separate queries to avoid cartesian products.
+     */
+    @Query(value = "select distinct situation from Situation as situation "
+            + "left join fetch situation.steps "
+            + "where situation.id in :situationIds")
+    List<Situation> findWithStepsByIds(@Param("situationIds") Collection<BigInteger> situationIds);
+
+    @Query(value = "select distinct situation from Situation as situation "
+            + "left join fetch situation.operationEventTriggers "
+            + "where situation.id in :situationIds")
+    List<Situation> findWithOperationEventTriggersByIds(@Param("situationIds") Collection<BigInteger> situationIds);
+
+    @Query(value = "select distinct template from IntegrationStep as step, Template as template "
+            + "left join fetch template.transportProperties "
+            + "where step.parent.id in :situationIds "
+            + "and (template = step.operationTemplate or template = step.systemTemplate)")
+    List<Template> findStepTemplatesBySituationIds(@Param("situationIds") Collection<BigInteger> situationIds);
 }
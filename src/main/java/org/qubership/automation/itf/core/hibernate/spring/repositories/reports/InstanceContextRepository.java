@@ -17,6 +17,7 @@
 package org.qubership.automation.itf.core.hibernate.spring.repositories.reports;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -87,6 +88,33 @@ public interface InstanceContextRepository extends RootRepository<InstanceContex
     List<Object[]> getTcContextTree(@Param("tcContextId") BigInteger tcContextId,
                                     @Param("partNum") Integer partNum);
 
+    @Query(value = "select count(*) "
+            + "from get_messages_from_tc_context_no_message(cast(:tcContextId as int8), cast(:partNum as smallint))",
+            nativeQuery = true)
+    int getTcContextTreeSize(@Param("tcContextId") BigInteger tcContextId,
+                             @Param("partNum") Integer partNum);
+
+    /*  Page of getTcContextTree rows; id makes the order total, so pages don't overlap.
+     */
+    @Query(value = "select "
+            + " case  when \"ID\"  is null then 0 else \"ID\" end as id,"
+            + " case  when \"PARENT\"  is null then 0 else \"PARENT\" end as parent,"
+            + " case  when \"TYPE\"  is null then 'NULL' else \"TYPE\" end as type,"
+            + " case  when \"DESCRIPTION\"   is null then 'NULL' else \"DESCRIPTION\"  end as description, "
+            + " case  when \"PATH\"  is null then 'NULL' else \"PATH\"  end as path,"
+            + " case  when \"LEVEL\"  is null then 0 else \"LEVEL\" end  as level,"
+            + " case  when \"STATUS\"  is null then 'NULL' else \"STATUS\"  end as status,"
+            + " case  when \"DURATION\"   is null then 'NULL' else \"DURATION\" end as duration,"
+            + " case  when \"START_TIME\"   is null then 'NULL' else \"START_TIME\" end as start_time,"
+            + " case  when \"END_TIME\"   is null then 'NULL' else \"END_TIME\" end as end_time"
+            + " from  get_messages_from_tc_context_no_message(cast(:tcContextId as int8), cast(:partNum as smallint))"
+            + " order by start_time, type, id "
+            + " limit :limit offset :offset", nativeQuery = true)
+    List<Object[]> getTcContextTreePage(@Param("tcContextId") BigInteger tcContextId,
+                                        @Param("partNum") Integer partNum,
+                                        @Param("offset") int offset,
+                                        @Param("limit") int limit);
+
     @Query(value = "select sp_ctx.id, sp_ctx.incoming_message_id, sp_ctx.outgoing_message_id, sp_ctx.json_string "
             + "from mb_context some_ctx "
             + "inner join mb_context sp_ctx on sp_ctx.parent_ctx_id = some_ctx.id "
@@ -173,4 +201,67 @@ public interface InstanceContextRepository extends RootRepository<InstanceContex
             + "and part_num = :partNum", nativeQuery = true)
     List<Object[]> getTcContextStepsSituations(@Param("tcContextId") BigInteger tcContextId,
                                                @Param("partNum") Integer partNum);
+
+    /*  Set-based variants of the queries above, for loading of the whole monitoring tree;
+     *  the first column of each row is the id the row belongs to.
+     */
+    @Query(value = "select ctx.status from mb_context ctx "
+            + "where ctx.id = cast(:tcContextId as int8) "
+            + "and ctx.part_num = :partNum", nativeQuery = true)
+    String getContextStatus(@Param("tcContextId") BigInteger tcContextId,
+                            @Param("partNum") Integer partNum);
+
+    @Query(value = "select id, error_name, error_message from mb_instance "
+            + "where id in (:instanceIds) "
+            + "and part_num = :partNum "
+            + "and (error_name is not null or error_message is not null)", nativeQuery = true)
+    List<Object[]> getStepInstancesErrors(@Param("instanceIds") Collection<BigInteger> stepInstanceIds,
+                                          @Param("partNum") Integer partNum);
+
+    @Query(value = "select some_ctx.\"instance\", sp_ctx.id, sp_ctx.incoming_message_id, sp_ctx.outgoing_message_id, "
+            + "sp_ctx.json_string, sp_ctx.validation_results "
+            + "from mb_context some_ctx "
+            + "inner join mb_context sp_ctx on sp_ctx.parent_ctx_id = some_ctx.id "
+            + "  and sp_ctx.part_num = some_ctx.part_num "
+            + "where some_ctx.\"instance\" in (:instanceIds) "
+            + "and some_ctx.part_num = :partNum", nativeQuery = true)
+    List<Object[]> getStepInstancesMessageIds(@Param("instanceIds") Collection<BigInteger> stepInstanceIds,
+                                              @Param("partNum") Integer partNum);
+
+    @Query(value = "select id, text from mb_message where id in (:messageIds) "
+            + "and part_num = :partNum", nativeQuery = true)
+    List<Object[]> getMessageTexts(@Param("messageIds") Collection<BigInteger> messageIds,
+                                   @Param("partNum") Integer partNum);
+
+    @Query(value = "select parent_id, key, value from mb_message_headers "
+            + "where parent_id in (:messageIds) "
+            + "and part_num = :partNum", nativeQuery = true)
+    List<Object[]> getMessagesHeaders(@Param("messageIds") Collection<BigInteger> messageIds,
+                                      @Param("partNum") Integer partNum);
+
+    @Query(value = "select parent_id, key, value from mb_message_connection_properties "
+            + "where parent_id in (:messageIds) "
+            + "and part_num = :partNum", nativeQuery = true)
+    List<Object[]> getMessagesConnectionProperties(@Param("messageIds") Collection<BigInteger> messageIds,
+                                                   @Param("partNum") Integer partNum);
+
+    @Query(value = "select "
+            + "    mp.context_id, "
+            + "    mp.param_name, "
+            + "    case "
+            + "        when cardinality(mpmv.arr) = 1 then array_to_string(mpmv.arr, '') "
+            + "        else '[' || array_to_string(mpmv.arr, ', ') || ']' "
+            + "    end "
+            + "from "
+            + "    mb_message_param mp "
+            + "    left join lateral ( "
+            + "        select array_agg(mpmv.value) as arr "
+            + "        from mb_message_param_multiple_value mpmv "
+            + "        where mpmv.message_param_id = mp.id and mpmv.part_num = :partNum "
+            + "    ) mpmv on true "
+            + "where "
+            + "    mp.context_id in (:spContextIds) "
+            + "    and mp.part_num = :partNum", nativeQuery = true)
+    List<Object[]> getSpMessagesParameters(@Param("spContextIds") Collection<BigInteger> spContextIds,
+                                           @Param("partNum") Integer partNum);
 }
@@ -22,7 +22,12 @@ import static org.qubership.automation.itf.core.util.constants.ProjectSettingsCo
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
@@ -32,6 +37,7 @@ import org.qubership.automation.itf.core.model.jpa.message.parser.MessageParamet
 import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
 import org.qubership.automation.itf.core.util.exception.ContentException;
 import org.qubership.automation.itf.core.util.helper.ContentHelper;
+import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
 import org.qubership.automation.itf.core.util.provider.ParsingRuleProvider;
 import org.qubership.automation.itf.core.util.services.CoreServices;
 
@@ -41,6 +47,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class Parser {
 
+    /*  If true, rules of types supporting it (XPATH, JSON_PATH) are evaluated together
+        by one traversal of the message content, instead of one traversal per rule.
+     */
+    private final boolean batchEvaluation;
+
+    public Parser() {
+        this(true);
+    }
+
+    public Parser(boolean batchEvaluation) {
+        this.batchEvaluation = batchEvaluation;
+    }
+
     /**
      * Parse message against parsingRules; add parsed parameters to a new JsonContext and return it.
      */
@@ -97,8 +116,10 @@ public class Parser {
         Map<String, Boolean> contentTypes = Maps.newHashMapWithExpectedSize(3);
         String parsingRuleType;
         long startTime;
-        boolean expressionVarSetting = Boolean.parseBoolean(CoreServices.getProjectSettingsService().get(projectId,
-                EXPRESSION_VAR, EXPRESSION_VAR_DEFAULT_VALUE));
+        boolean expressionVarSetting = CoreServices.getProjectSettingsService().getBoolean(projectId,
+                EXPRESSION_VAR, EXPRESSION_VAR_DEFAULT_VALUE);
+        Map<ParsingRule, MessageParameter> batchResults = new IdentityHashMap<>();
+        Set<ParsingRuleType> batchedTypes = EnumSet.noneOf(ParsingRuleType.class);
         for (ParsingRule parsingRule : parsingRules) {
             /* Previous behaviour:
                  1. Apply rule - Assume that calculated parameter has not empty value
@@ -136,7 +157,16 @@ public class Parser {
                 if (parsingRule.applicable(message)) {
                     contentTypes.put(parsingRuleType, true);
                     startTime = System.currentTimeMillis();
-                    MessageParameter parameter = parsingRule.apply(message, instanceContext, expressionVarSetting);
+                    MessageParameter parameter = batchResults.remove(parsingRule);
+                    if (parameter == null && batchEvaluation && parsingRule.getParsingType().supportsBatch()
+                            && batchedTypes.add(parsingRule.getParsingType())) {
+                        batchResults.putAll(applyBatch(message, parsingRules, parsingRule.getParsingType(),
+                                parameters, instanceContext, expressionVarSetting));
+                        parameter = batchResults.remove(parsingRule);
+                    }
+                    if (parameter == null) {
+                        parameter = parsingRule.apply(message, instanceContext, expressionVarSetting);
+                    }
                     String paramName = parameter.getParamName();
                     longDurationWarning(startTime, paramName, parsingRule.getParsedExpression());
                     if (!(parameter.getMultipleValue().isEmpty() || StringUtils.isBlank(parameter.getSingleValue()))) {
@@ -148,17 +178,57 @@ public class Parser {
                 }
             } catch (ContentException ex) {
                 contentTypes.put(parsingRuleType, false);
-                log.error("Message parsing is failed (probably incorrect message format).  "
-                                + "Rule '{}' (expression: '{}') at {}\nException: ", parsingRule.getParamName(),
-                        parsingRule.getParsedExpression(), parsingRule.getParsingRulePath(), ex);
+                logContentError(parsingRule, ex);
             } catch (Throwable ex) {
-                log.error("Applying rule '{}' (expression: '{}') at {} failed with exception ",
-                        parsingRule.getParamName(), parsingRule.getParsedExpression(), parsingRule.getParsingRulePath(),
-                        ex);
+                // Content built lazily (see StreamableContent) reports malformed text on the first access
+                if (ex.getCause() instanceof ContentException) {
+                    contentTypes.put(parsingRuleType, false);
+                    logContentError(parsingRule, ex.getCause());
+                } else {
+                    log.error("Applying rule '{}' (expression: '{}') at {} failed with exception ",
+                            parsingRule.getParamName(), parsingRule.getParsedExpression(),
+                            parsingRule.getParsingRulePath(), ex);
+                }
             }
         }
     }
 
+    private void logContentError(ParsingRule parsingRule, Throwable ex) {
+        log.error("Message parsing is failed (probably incorrect message format).  "
+                        + "Rule '{}' (expression: '{}') at {}\nException: ", parsingRule.getParamName(),
+                parsingRule.getParsedExpression(), parsingRule.getParsingRulePath(), ex);
+    }
+
+    /*  Evaluate together all rules of the type which are still to be applied.
+        Rules failed in the batch are absent in the result, so they are applied (and their failures logged) one by one.
+        Malformed message text found while values are streamed from it is thrown as ContentException.
+     */
+    private Map<ParsingRule, MessageParameter> applyBatch(Message message,
+                                                          Collection<? extends ParsingRule> parsingRules,
+                                                          ParsingRuleType type,
+                                                          Map<String, MessageParameter> parameters,
+                                                          InstanceContext instanceContext,
+                                                          boolean expressionVarSetting)
+            throws ContentException {
+        List<ParsingRule> rules = parsingRules.stream()
+                .filter(rule -> rule.getParsingType() == type
+                        && StringUtils.isNotBlank(rule.getParamName())
+                        && parameters.get(rule.getParamName()) == null)
+                .collect(Collectors.toList());
+        if (rules.size() < 2) {
+            return Collections.emptyMap();
+        }
+        try {
+            for (ParsingRule rule : rules) {
+                rule.prepare(instanceContext, expressionVarSetting);
+            }
+            return type.parseAll(message, rules);
+        } catch (RuntimeException ex) {
+            log.debug("Batch evaluation of {} rules is failed, rules will be applied one by one", type, ex);
+            return Collections.emptyMap();
+        }
+    }
+
     private void longDurationWarning(long startTime, String paramName, String expression) {
         long duration = System.currentTimeMillis() - startTime;
         if (duration > 2000) {
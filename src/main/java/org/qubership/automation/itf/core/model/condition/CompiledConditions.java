@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.condition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.util.constants.Condition;
+import org.qubership.automation.itf.core.util.constants.Etc;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Conditions list of a trigger prepared for repeated evaluation:
+ * constant values are detected once, boolean operations are resolved to an array
+ * and the chain is stopped as soon as the result can't change anymore.
+ * Results (and exceptions) are the same as {@link ConditionsHelper#isApplicable} gave before.
+ * Programs are cached by list identity and rebuilt if the list or its parameters are changed.
+ */
+public final class CompiledConditions {
+
+    private static final Cache<List<ConditionParameter>, CompiledConditions> CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .build();
+
+    private final ConditionParameter[] parameters;
+    private final String[] names;
+    private final Condition[] conditions;
+    private final String[] values;
+    private final Etc[] etcs;
+    private final String[] constantValues;
+    /*  Boolean operations of the chain: not null etc values in the order of parameters,
+        operation[i - 1] joins the parameter i. Gaps (null etc) shift the operations, as Etc queue did.
+     */
+    private final Etc[] operations;
+    private final boolean[] orRemains;
+    private final boolean[] andRemains;
+    private final boolean complete;
+
+    private CompiledConditions(List<ConditionParameter> conditionParameters) {
+        int size = conditionParameters.size();
+        parameters = conditionParameters.toArray(new ConditionParameter[0]);
+        names = new String[size];
+        conditions = new Condition[size];
+        values = new String[size];
+        etcs = new Etc[size];
+        constantValues = new String[size];
+        List<Etc> chain = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ConditionParameter parameter = parameters[i];
+            names[i] = parameter.getName();
+            conditions[i] = parameter.getCondition();
+            values[i] = parameter.getValue();
+            etcs[i] = parameter.getEtc();
+            constantValues[i] = ConditionParameter.isConstantValue(values[i]) ? values[i] : null;
+            if (etcs[i] != null) {
+                chain.add(etcs[i]);
+            }
+        }
+        operations = chain.toArray(new Etc[0]);
+        orRemains = new boolean[operations.length + 1];
+        andRemains = new boolean[operations.length + 1];
+        for (int i = operations.length - 1; i >= 0; i--) {
+            orRemains[i] = orRemains[i + 1] || operations[i] == Etc.OR;
+            andRemains[i] = andRemains[i + 1] || operations[i] == Etc.AND;
+        }
+        complete = operations.length >= size - 1;
+    }
+
+    /**
+     * Get compiled program for the conditions list, from the cache if the list is not changed since compilation.
+     *
+     * @param conditionParameters - not empty conditions list
+     * @return compiled program
+     */
+    public static CompiledConditions of(List<ConditionParameter> conditionParameters) {
+        CompiledConditions compiled = CACHE.getIfPresent(conditionParameters);
+        if (compiled == null || !compiled.isCompiledFrom(conditionParameters)) {
+            compiled = new CompiledConditions(conditionParameters);
+            CACHE.put(conditionParameters, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Evaluate conditions against the context.
+     * CONDITIONS_STYLE_LEGACY project setting is requested at most once per evaluation.
+     *
+     * @param context - context with variables
+     * @return true/false result of evaluation
+     */
+    public boolean evaluate(JsonContext context) {
+        LegacyStyle legacyStyle = new LegacyStyle(context);
+        boolean result = check(0, context, legacyStyle);
+        for (int i = 1; i < parameters.length; i++) {
+            int operation = i - 1;
+            if (!result && !orRemains[operation]) {
+                break;
+            }
+            if (operation >= operations.length) {
+                throw new IllegalStateException(String.format("Etc attribute was not specified for condition "
+                        + "property %s, don't know how to process...", names[i - 1]));
+            }
+            if (result && complete && !andRemains[operation]) {
+                // Only OR operations remain: the result is true anyway
+                break;
+            }
+            if (operations[operation] == Etc.AND) {
+                result = result && check(i, context, legacyStyle);
+            } else {
+                result = result || check(i, context, legacyStyle);
+            }
+        }
+        return result;
+    }
+
+    private boolean check(int index, JsonContext context, BooleanSupplier legacyStyle) {
+        return parameters[index].applicable(context, constantValues[index], legacyStyle);
+    }
+
+    private boolean isCompiledFrom(List<ConditionParameter> conditionParameters) {
+        if (conditionParameters.size() != parameters.length) {
+            return false;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            ConditionParameter parameter = conditionParameters.get(i);
+            if (parameter != parameters[i]
+                    || conditions[i] != parameter.getCondition()
+                    || etcs[i] != parameter.getEtc()
+                    || !Objects.equals(names[i], parameter.getName())
+                    || !Objects.equals(values[i], parameter.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*  Project setting is resolved lazily: most evaluations don't meet absent variables at all.
+     */
+    private static final class LegacyStyle implements BooleanSupplier {
+
+        private final JsonContext context;
+        private Boolean value;
+
+        private LegacyStyle(JsonContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            if (value == null) {
+                value = ConditionParameter.isLegacyStyle(context);
+            }
+            return value;
+        }
+    }
+}
@@ -16,13 +16,10 @@
 
 package org.qubership.automation.itf.core.model.condition;
 
-import java.util.ArrayDeque;
 import java.util.List;
-import java.util.Queue;
 
 import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
 import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
-import org.qubership.automation.itf.core.util.constants.Etc;
 import org.qubership.automation.itf.core.util.helper.StorableUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,10 +32,6 @@ public class ConditionsHelper {
         StorableUtils.fillCollection(toConditionParameters, fromConditionParameters);
     }
 
-    private static boolean checkCondition(JsonContext context, ConditionParameter conditionParameter) {
-        return conditionParameter.applicable(context);
-    }
-
     /**
      * Evaluate conditions against context parameter.
      *
@@ -52,37 +45,6 @@ public class ConditionsHelper {
             return true;
         }
 
-        Queue<Etc> etcQueue = new ArrayDeque<>();
-        for (ConditionParameter conditionParameter : conditionParameters) {
-            if (conditionParameter.getEtc() != null) {
-                etcQueue.add(conditionParameter.getEtc());
-            }
-        }
-        boolean result = checkCondition(context, conditionParameters.get(0));
-        for (int i = 1; i < conditionParameters.size(); i++) {
-            if (!etcQueue.contains(Etc.OR) && !result) {
-                break;
-            }
-            Etc etc = etcQueue.poll();
-            if (etc == null) {
-                throw new IllegalStateException(String.format("Etc attribute was not specified for condition "
-                                + "property %s, don't know how to process...",
-                        conditionParameters.get(i - 1).getName()));
-            }
-            switch (etc) {
-                case AND: {
-                    result = result && checkCondition(context, conditionParameters.get(i));
-                    break;
-                }
-                case OR: {
-                    result = result || checkCondition(context, conditionParameters.get(i));
-                    break;
-                }
-                default: {
-                    throw new IllegalArgumentException(String.format("Illegal boolean operation: %s", etc));
-                }
-            }
-        }
-        return result;
+        return CompiledConditions.of(conditionParameters).evaluate(context);
     }
 }
@@ -21,6 +21,7 @@ import static org.qubership.automation.itf.core.util.constants.ProjectSettingsCo
 import static org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants.CONDITIONS_STYLE_LEGACY_DEFAULT_VALUE;
 
 import java.io.Serializable;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,6 +32,8 @@ import org.qubership.automation.itf.core.util.constants.Etc;
 import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
 import org.qubership.automation.itf.core.util.services.CoreServices;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -38,6 +41,11 @@ import lombok.Setter;
 @Setter
 public class ConditionParameter implements Serializable {
     private static final long serialVersionUID = 20250303L;
+    private static final int PATTERN_CACHE_MAX_SIZE = 5000;
+    private static final Cache<String, Pattern> PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(PATTERN_CACHE_MAX_SIZE)
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .build();
 
     /* If variable is absent in the context, then:
             1. EXISTS returns false,
@@ -60,6 +68,18 @@ public class ConditionParameter implements Serializable {
      * Evaluate condition against given context.
      */
     public boolean applicable(JsonContext context) {
+        return applicable(context, isConstantValue(value) ? value : null, () -> isLegacyStyle(context));
+    }
+
+    /**
+     * Evaluate condition against given context.
+     *
+     * @param context       - context with variables,
+     * @param constantValue - value if it is known to need no rendering (see {@link #isConstantValue(String)}),
+     *                      or null to render it by template engine,
+     * @param legacyStyle   - CONDITIONS_STYLE_LEGACY project setting, requested only if the variable is absent.
+     */
+    public boolean applicable(JsonContext context, String constantValue, BooleanSupplier legacyStyle) {
         if (condition == null) {
             return false;
         } else if (Condition.EXISTS.equals(condition)) {
@@ -67,16 +87,15 @@ public class ConditionParameter implements Serializable {
         } else if (Condition.NOTEXISTS.equals(condition)) {
             return !context.containsKey(getName());
         } else {
-            if (!context.containsKey(getName()) && context instanceof InstanceContext) {
-                return Boolean.parseBoolean(CoreServices.getProjectSettingsService().get(
-                        ((InstanceContext) context).tc().getProjectId(),
-                        CONDITIONS_STYLE_LEGACY,
-                        CONDITIONS_STYLE_LEGACY_DEFAULT_VALUE))
-                        && (Condition.NOTEQUALS.equals(condition) || Condition.NOTMATCHES.equals(condition));
+            if (context instanceof InstanceContext && !context.containsKey(getName())) {
+                return (Condition.NOTEQUALS.equals(condition) || Condition.NOTMATCHES.equals(condition))
+                        && legacyStyle.getAsBoolean();
             }
             Object keyValue = context.get(getName());
             String stringValue = (keyValue == null) ? "" : keyValue.toString();
-            String processedValue = TemplateEngineFactory.process(null, value, context);
+            String processedValue = constantValue != null
+                    ? constantValue
+                    : TemplateEngineFactory.process(null, value, context);
             switch (condition) {
                 case EQUALS:
                     return stringValue.equals(processedValue);
@@ -84,8 +103,7 @@ public class ConditionParameter implements Serializable {
                     return !stringValue.equals(processedValue);
                 case MATCHES:
                 case NOTMATCHES:
-                    Pattern pattern = Pattern.compile(processedValue);
-                    Matcher matcher = pattern.matcher(stringValue);
+                    Matcher matcher = pattern(processedValue).matcher(stringValue);
                     return isKeyFound(matcher);
                 case LESS:
                     return less(stringValue, processedValue);
@@ -97,6 +115,35 @@ public class ConditionParameter implements Serializable {
         }
     }
 
+    /**
+     * Check if the value needs no rendering (see {@link TemplateEngineFactory#isPlainText(String)}).
+     */
+    public static boolean isConstantValue(String value) {
+        return value != null && TemplateEngineFactory.isPlainText(value);
+    }
+
+    /**
+     * Get CONDITIONS_STYLE_LEGACY project setting for the project of the context testcase.
+     */
+    public static boolean isLegacyStyle(JsonContext context) {
+        return CoreServices.getProjectSettingsService().getBoolean(
+                ((InstanceContext) context).tc().getProjectId(),
+                CONDITIONS_STYLE_LEGACY,
+                CONDITIONS_STYLE_LEGACY_DEFAULT_VALUE);
+    }
+
+    /*  Compiled patterns are immutable, so they are shared between all conditions via bounded cache.
+        Invalid regex is not cached: PatternSyntaxException is thrown on each evaluation, as before.
+     */
+    private static Pattern pattern(String regex) {
+        Pattern pattern = PATTERNS.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            PATTERNS.put(regex, pattern);
+        }
+        return pattern;
+    }
+
     private boolean isKeyFound(Matcher matcher) {
         return Condition.MATCHES.equals(this.condition) == matcher.matches();
     }
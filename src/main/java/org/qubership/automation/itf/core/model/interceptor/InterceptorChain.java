@@ -21,8 +21,8 @@ import java.util.List;
 
 import javax.annotation.Nonnull;
 
-import org.qubership.automation.itf.core.model.jpa.interceptor.InterceptorParams;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.util.loader.InterceptorInstanceCache;
 
 public class InterceptorChain {
     private List<Interceptor> interceptors = new ArrayList<>(10);
@@ -54,9 +54,7 @@ public class InterceptorChain {
         Message data = message;
         for (Interceptor interceptor : interceptors) {
             if (interceptor.isActive()) {
-                TransportInterceptor transportInterceptor =
-                        (TransportInterceptor) Class.forName(interceptor.getTypeName())
-                                .getConstructor(InterceptorParams.class).newInstance(interceptor);
+                TransportInterceptor transportInterceptor = InterceptorInstanceCache.getInstance().get(interceptor);
                 data = transportInterceptor.apply(data);
             }
         }
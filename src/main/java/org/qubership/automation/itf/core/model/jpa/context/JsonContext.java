@@ -16,13 +16,15 @@
 
 package org.qubership.automation.itf.core.model.jpa.context;
 
-import java.util.Iterator;
+import java.io.ObjectStreamException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -35,7 +37,6 @@ import org.qubership.automation.itf.core.model.extension.ExtendableImpl;
 import org.qubership.automation.itf.core.model.extension.Extension;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -45,10 +46,6 @@ import com.google.common.collect.Maps;
 public class JsonContext extends JSONObject implements IJsonContext, Extendable {
     private static final long serialVersionUID = 20240812L;
 
-    private static final Splitter SPLITTER = Splitter.on('.');
-    private static final Pattern ARRAY_PATTERN = Pattern.compile("(\\w+)\\s*\\[\\s*(\\d+)\\s*\\]");
-    private static final Pattern MAP_PATTERN = Pattern.compile("(\\w+)\\s*\\[\\s*(\"|')(\\w+)(\\2)\\s*\\]");
-
     private Object version;
 
     private List<String> labels = Lists.newArrayListWithExpectedSize(10);
@@ -57,6 +54,11 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
     private transient WeakHashMap<Object, Pair<Object, Object>> history;
     private boolean collectHistory = false;
 
+    /*  Copy-on-write layer: top-level keys absent in this context are read from the base one.
+        Writes go to this context only. Views, iteration and bulk operations materialize the layer first.
+     */
+    private transient JsonContext base;
+
     public JsonContext() {
         super();
         this.history = new WeakHashMap<>();
@@ -77,10 +79,18 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
         if (key instanceof String) {
             return iterateForGet((String) key, false, true);
         } else {
-            return super.get(key);
+            return getOwn(key);
         }
     }
 
+    /**
+     * Get value by the key as {@link #get(Object)} does, but null is returned instead of exception
+     * if some intermediate part of the key is absent or is not a map/list.
+     */
+    public Object getIfPresent(String key) {
+        return iterateForGet(key, false, false);
+    }
+
     /**
      * TODO: Add JavaDoc.
      */
@@ -130,7 +140,7 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
     public boolean containsKey(Object key) {
         return key instanceof String
                 ? iterateForGet((String) key, false, false) != null
-                : super.containsKey(key);
+                : hasOwn(key);
     }
 
     public Object create(Object key, boolean list) {
@@ -143,27 +153,25 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
     }
 
     private Object iterateForGet(String stringKey, boolean checkLast, boolean doThrow) {
+        return iterateForGet(JsonContextPath.of(stringKey), stringKey, checkLast, doThrow);
+    }
+
+    private Object iterateForGet(JsonContextPath path, String stringKey, boolean checkLast, boolean doThrow) {
         Object tmpObject = this;
-        Iterator<String> iterator = SPLITTER.split(stringKey).iterator();
-        Matcher arrayMatcher = ARRAY_PATTERN.matcher("");
-        Matcher mapMatcher = MAP_PATTERN.matcher("");
-        do {
-            String keyPart = iterator.next();
-            if (checkLast && !iterator.hasNext()) {
-                break;
-            }
+        int count = checkLast ? path.size() - 1 : path.size();
+        for (int i = 0; i < count; i++) {
+            JsonContextPath.Segment segment = path.segment(i);
             if (tmpObject == null) {
                 if (doThrow) {
                     throw new IllegalStateException(String.format("Full key is '%s'. Cannot take property \"%s\" "
-                            + "(may be there are dots in the full key?).", stringKey, keyPart));
+                            + "(may be there are dots in the full key?).", stringKey, segment.raw));
                 } else {
                     return null;
                 }
             } else if (tmpObject instanceof Map) {
-                if (arrayMatcher.reset(keyPart).matches()) {
-                    String varName = arrayMatcher.group(1);
-                    int index = Integer.parseInt(arrayMatcher.group(2));
-                    Object o = ((Map) tmpObject).get(varName);
+                if (segment.kind == JsonContextPath.Kind.LIST_INDEX) {
+                    int index = segment.index();
+                    Object o = getPart((Map) tmpObject, segment.name);
                     if (o instanceof List) {
                         if (((List) o).size() > index) {
                             tmpObject = ((List) o).get(index);
@@ -179,50 +187,115 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
                             return null;
                         }
                     }
-                } else if (mapMatcher.reset(keyPart).matches()) {
-                    String varName = mapMatcher.group(1);
-                    String subVarName = mapMatcher.group(3);
-                    Object o = ((Map) tmpObject).get(varName);
+                } else if (segment.kind == JsonContextPath.Kind.MAP_KEY) {
+                    Object o = getPart((Map) tmpObject, segment.name);
                     if (o instanceof Map) {
-                        tmpObject = ((Map) o).get(subVarName);
+                        tmpObject = ((Map) o).get(segment.subKey);
                     } else {
                         if (doThrow) {
                             throw new IllegalStateException(String.format("Cannot take property \"%s\" from "
                                             + "object [%s], class is [%s]. Object is not map. Full key is '%s'",
-                                    subVarName, tmpObject, tmpObject.getClass().getSimpleName(), stringKey));
+                                    segment.subKey, tmpObject, tmpObject.getClass().getSimpleName(), stringKey));
                         } else {
                             return null;
                         }
                     }
                 } else {
-                    tmpObject = (tmpObject == this) ? super.get(keyPart) : ((Map) tmpObject).get(keyPart);
+                    tmpObject = getPart((Map) tmpObject, segment.raw);
                 }
             } else {
                 if (doThrow) {
                     throw new IllegalStateException(String.format("Cannot take property \"%s\" from object [%s], "
-                                    + "class is [%s]. Object is not map. Full key is '%s'", keyPart, tmpObject,
+                                    + "class is [%s]. Object is not map. Full key is '%s'", segment.raw, tmpObject,
                             tmpObject.getClass().getSimpleName(), stringKey));
                 } else {
                     return null;
                 }
             }
-        } while (iterator.hasNext());
+        }
         return tmpObject;
     }
 
+    /**
+     * Get a single (already split) key part from the map.
+     * Nested contexts are read directly, because the key part can't contain dots
+     * and parsing it once again gives the same result.
+     */
+    private Object getPart(Map map, String keyPart) {
+        if (map == this) {
+            return getOwn(keyPart);
+        }
+        return map instanceof JsonContext ? ((JsonContext) map).getOwn(keyPart) : map.get(keyPart);
+    }
+
+    /**
+     * Get a value stored directly in this context (or its base, for a layer) by the key,
+     * without dotted key resolution.
+     */
+    protected Object getOwn(Object key) {
+        Object value = super.get(key);
+        if (value == null && base != null && !super.containsKey(key)) {
+            return base.getOwn(key);
+        }
+        return value;
+    }
+
+    /**
+     * Check if the key is stored directly in this context (or its base, for a layer), even with null value.
+     */
+    protected boolean hasOwn(Object key) {
+        return super.containsKey(key) || (base != null && base.hasOwn(key));
+    }
+
+    /**
+     * Make this context a copy-on-write layer over the base context.
+     * The result is the same as of {@link #putAll(Map)} of the base: entries of the base replace own ones.
+     * But the base entries are not copied: they are read through until the layer is materialized,
+     * i.e. iterated or serialized.
+     *
+     * @param base - context to read through.
+     */
+    public void layerOver(JsonContext base) {
+        materialize();
+        if (base == null || base == this) {
+            return;
+        }
+        super.keySet().removeIf(base::hasOwn);
+        this.base = base;
+    }
+
+    /**
+     * Check if this context is a copy-on-write layer which is not materialized yet.
+     */
+    public boolean isLayered() {
+        return base != null;
+    }
+
+    /*  Copy base entries which are not overridden in this layer. The base itself is iterated,
+        so its own layers are materialized as well.
+     */
+    private void materialize() {
+        JsonContext layerBase = base;
+        if (layerBase == null) {
+            return;
+        }
+        base = null;
+        for (Object entry : layerBase.entrySet()) {
+            Map.Entry baseEntry = (Map.Entry) entry;
+            if (!super.containsKey(baseEntry.getKey())) {
+                super.put(baseEntry.getKey(), baseEntry.getValue());
+            }
+        }
+    }
+
     private Object iterateForPut(String key, Object value) {
-        Object tmpObject = iterateForGet(key, true, true);
-        Iterator<String> iterator = SPLITTER.split(key).iterator();
-        String lastKey;
-        do {
-            lastKey = iterator.next();
-        } while (iterator.hasNext());
-        Matcher arrayMatcher = ARRAY_PATTERN.matcher(lastKey);
-        Matcher mapMatcher = MAP_PATTERN.matcher(lastKey);
+        JsonContextPath path = JsonContextPath.of(key);
+        Object tmpObject = iterateForGet(path, key, true, true);
+        JsonContextPath.Segment segment = path.last();
         String simpleName = (tmpObject == null) ? "null" : tmpObject.getClass().getSimpleName();
-        if (arrayMatcher.matches()) {
-            String varName = arrayMatcher.group(1);
-            int index = Integer.parseInt(arrayMatcher.group(2));
+        if (segment.kind == JsonContextPath.Kind.LIST_INDEX) {
+            String varName = segment.name;
+            int index = segment.index();
             if (tmpObject instanceof Map) {
                 Object o = ((Map) tmpObject).get(varName);
                 if (o == null) {
@@ -255,9 +328,9 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
                 throw new IllegalStateException(String.format("Cannot take property \"%s\" from object [%s], "
                         + "class is [%s]. Object is not map. Full key is '%s'", varName, tmpObject, simpleName, key));
             }
-        } else if (mapMatcher.matches()) {
-            String varName = mapMatcher.group(1);
-            String subVarName = mapMatcher.group(3);
+        } else if (segment.kind == JsonContextPath.Kind.MAP_KEY) {
+            String varName = segment.name;
+            String subVarName = segment.subKey;
             if (tmpObject instanceof Map) {
                 Object o = ((Map) tmpObject).get(varName);
                 if (o == null) {
@@ -276,6 +349,7 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
                         + "class is [%s]. Object is not map. Full key is '%s'", varName, tmpObject, simpleName, key));
             }
         } else {
+            String lastKey = segment.raw;
             if (tmpObject instanceof Map) {
                 return (tmpObject == this) ? super.put(lastKey, value) : ((Map) tmpObject).put(lastKey, value);
             } else {
@@ -476,4 +550,130 @@ public class JsonContext extends JSONObject implements IJsonContext, Extendable
             put("parsed", parse);
         }
     }
+
+    /*  Map operations below need all entries, so a layer is materialized before them.
+     */
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && (base == null || base.isEmpty());
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        materialize();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        base = null;
+        super.clear();
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return hasOwn(key) ? getOwn(key) : defaultValue;
+    }
+
+    @Override
+    public Object putIfAbsent(Object key, Object value) {
+        materialize();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean replace(Object key, Object oldValue, Object newValue) {
+        materialize();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(Object key, Object value) {
+        materialize();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public Object computeIfAbsent(Object key, Function mappingFunction) {
+        materialize();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(Object key, BiFunction remappingFunction) {
+        materialize();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(Object key, BiFunction remappingFunction) {
+        materialize();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(Object key, Object value, BiFunction remappingFunction) {
+        materialize();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(BiConsumer action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction function) {
+        materialize();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object clone() {
+        materialize();
+        return super.clone();
+    }
+
+    protected Object writeReplace() throws ObjectStreamException {
+        materialize();
+        return this;
+    }
 }
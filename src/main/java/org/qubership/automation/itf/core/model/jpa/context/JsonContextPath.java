@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.jpa.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Pre-parsed dotted key of {@link JsonContext}, like 'tc.saved.list[0].map["key"]'.
+ * Keys are parsed once and shared between all contexts via bounded cache,
+ * so get/put/containsKey walk segments without any regex work.
+ */
+final class JsonContextPath {
+
+    private static final Pattern ARRAY_PATTERN = Pattern.compile("(\\w+)\\s*\\[\\s*(\\d+)\\s*\\]");
+    private static final Pattern MAP_PATTERN = Pattern.compile("(\\w+)\\s*\\[\\s*(\"|')(\\w+)(\\2)\\s*\\]");
+    private static final int CACHE_MAX_SIZE = 20000;
+    private static final Cache<String, JsonContextPath> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_MAX_SIZE)
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .build();
+
+    private final Segment[] segments;
+
+    private JsonContextPath(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Get parsed path for the key, from the shared cache if possible.
+     *
+     * @param key - full dotted key
+     * @return parsed path, never null and never empty
+     */
+    static JsonContextPath of(String key) {
+        JsonContextPath path = CACHE.getIfPresent(key);
+        if (path == null) {
+            path = parse(key);
+            CACHE.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Parse the key without caching. Splitting is the same as Splitter.on('.'): empty parts are kept.
+     */
+    static JsonContextPath parse(String key) {
+        List<Segment> parts = new ArrayList<>();
+        Matcher arrayMatcher = ARRAY_PATTERN.matcher("");
+        Matcher mapMatcher = MAP_PATTERN.matcher("");
+        int start = 0;
+        int dot;
+        do {
+            dot = key.indexOf('.', start);
+            String keyPart = dot < 0 ? key.substring(start) : key.substring(start, dot);
+            parts.add(Segment.of(keyPart, arrayMatcher, mapMatcher));
+            start = dot + 1;
+        } while (dot >= 0);
+        return new JsonContextPath(parts.toArray(new Segment[0]));
+    }
+
+    int size() {
+        return segments.length;
+    }
+
+    Segment segment(int index) {
+        return segments[index];
+    }
+
+    Segment last() {
+        return segments[segments.length - 1];
+    }
+
+    enum Kind {
+        /**
+         * Simple property name: 'name'.
+         */
+        PLAIN,
+        /**
+         * List element: 'name[1]'.
+         */
+        LIST_INDEX,
+        /**
+         * Map sub-key: 'name["key"]' or "name['key']".
+         */
+        MAP_KEY
+    }
+
+    static final class Segment {
+        final Kind kind;
+        final String raw;
+        final String name;
+        final String subKey;
+        private final String indexText;
+        private final int index;
+
+        private Segment(Kind kind, String raw, String name, String indexText, String subKey) {
+            this.kind = kind;
+            this.raw = raw;
+            this.name = name;
+            this.subKey = subKey;
+            this.indexText = indexText;
+            int parsed;
+            try {
+                parsed = indexText == null ? -1 : Integer.parseInt(indexText);
+            } catch (NumberFormatException e) {
+                // Keep the failure lazy: it is thrown only when the segment is really reached, as before.
+                parsed = -1;
+            }
+            this.index = parsed;
+        }
+
+        int index() {
+            return index >= 0 ? index : Integer.parseInt(indexText);
+        }
+
+        private static Segment of(String keyPart, Matcher arrayMatcher, Matcher mapMatcher) {
+            if (arrayMatcher.reset(keyPart).matches()) {
+                return new Segment(Kind.LIST_INDEX, keyPart, arrayMatcher.group(1),
+                        arrayMatcher.group(2), null);
+            } else if (mapMatcher.reset(keyPart).matches()) {
+                return new Segment(Kind.MAP_KEY, keyPart, mapMatcher.group(1), null, mapMatcher.group(3));
+            } else {
+                return new Segment(Kind.PLAIN, keyPart, keyPart, null, null);
+            }
+        }
+    }
+}
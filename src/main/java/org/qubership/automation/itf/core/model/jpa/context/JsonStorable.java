@@ -26,7 +26,9 @@ import java.util.UUID;
 import javax.persistence.Entity;
 
 import org.apache.commons.lang3.NotImplementedException;
+import org.json.simple.parser.ParseException;
 import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.context.codec.ContextCodecs;
 import org.qubership.automation.itf.core.model.jpa.storage.AbstractStorable;
 import org.qubership.automation.itf.core.model.usage.UsageInfo;
 import org.qubership.automation.itf.core.util.exception.CopyException;
@@ -162,6 +164,21 @@ public class JsonStorable extends JsonContext implements Storable {
         delegate.setVersion(version);
     }
 
+    /**
+     * Json as it is stored in the json_string column: encoded by the configured codec.
+     */
+    @JsonIgnore
+    public String getStoredJsonString() {
+        return ContextCodecs.encode(getJsonString());
+    }
+
+    /**
+     * Load context from json_string column value; plain json (legacy rows) and encoded values are accepted.
+     */
+    public void setStoredJsonString(String storedJsonString) throws ParseException {
+        setJsonString(ContextCodecs.decode(storedJsonString));
+    }
+
     public Date getStartTime() {
         return startTime;
     }
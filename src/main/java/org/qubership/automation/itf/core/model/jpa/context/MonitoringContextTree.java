@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.jpa.context;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.qubership.automation.itf.core.util.constants.Status;
+
+import lombok.Getter;
+
+/**
+ * Monitoring view of a testcase context (or a page of its tree): tree rows
+ * (as {@link org.qubership.automation.itf.core.hibernate.spring.managers.custom.MonitoringManager
+ * #getTreeMessagesFromTcContext} returns) and details of steps found in the rows.
+ * Instances are immutable, so trees of finished contexts can be cached and shared.
+ */
+public final class MonitoringContextTree {
+
+    @Getter
+    private final BigInteger contextId;
+    @Getter
+    private final Integer partNum;
+    @Getter
+    private final Status status;
+    @Getter
+    private final int offset;
+    @Getter
+    private final int totalRows;
+    /*  Approximate size of the tree in chars, to limit the cache of trees by memory.
+     */
+    @Getter
+    private final long size;
+    private final List<Object[]> rows;
+    private final Map<BigInteger, StepDetails> steps;
+
+    /**
+     * Constructor.
+     *
+     * @param rows  - tree rows of the page; they are copied
+     * @param steps - details by step instance id
+     */
+    public MonitoringContextTree(BigInteger contextId, Integer partNum, Status status, int offset, int totalRows,
+                                 List<Object[]> rows, Map<BigInteger, StepDetails> steps) {
+        this.contextId = contextId;
+        this.partNum = partNum;
+        this.status = status;
+        this.offset = offset;
+        this.totalRows = totalRows;
+        List<Object[]> copy = new ArrayList<>(rows.size());
+        rows.forEach(row -> copy.add(row.clone()));
+        this.rows = Collections.unmodifiableList(copy);
+        this.steps = Collections.unmodifiableMap(new HashMap<>(steps));
+        long chars = 0;
+        for (Object[] row : copy) {
+            chars += length(row);
+        }
+        for (StepDetails step : steps.values()) {
+            chars += length(step.stepContext) + length(step.validationResults) + length(step.errorMessage)
+                    + length(step.messageParameters) + length(step.incomingMessage) + length(step.outgoingMessage);
+        }
+        this.size = chars;
+    }
+
+    private static long length(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof Object[]) {
+            long chars = 0;
+            for (Object item : (Object[]) value) {
+                chars += length(item);
+            }
+            return chars;
+        } else if (value instanceof Map) {
+            long chars = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                chars += length(entry.getKey()) + length(entry.getValue());
+            }
+            return chars;
+        } else if (value instanceof MessageDetails) {
+            MessageDetails message = (MessageDetails) value;
+            return length(message.text) + length(message.headers) + length(message.connectionProperties);
+        }
+        return 16;
+    }
+
+    /**
+     * Check if the context is finished, i.e. its tree will not change anymore.
+     */
+    public boolean isFinished() {
+        return Status.PASSED.equals(status) || Status.FAILED.equals(status) || Status.STOPPED.equals(status)
+                || Status.FAILED_BY_TIMEOUT.equals(status);
+    }
+
+    /**
+     * Get tree rows: id, parent, type, description, path, level, status, duration, start time, end time.
+     *
+     * @return copies of the rows
+     */
+    public List<Object[]> getRows() {
+        List<Object[]> copy = new ArrayList<>(rows.size());
+        rows.forEach(row -> copy.add(row.clone()));
+        return copy;
+    }
+
+    /**
+     * Get details of the step instance.
+     *
+     * @return details or null if the step instance isn't in the rows
+     */
+    public StepDetails getStep(BigInteger stepInstanceId) {
+        return steps.get(stepInstanceId);
+    }
+
+    public Map<BigInteger, StepDetails> getSteps() {
+        return steps;
+    }
+
+    @Getter
+    public static final class StepDetails {
+        private final BigInteger stepInstanceId;
+        private final String errorName;
+        private final String errorMessage;
+        private final BigInteger spContextId;
+        private final String stepContext;
+        private final String validationResults;
+        private final Map<String, Object> messageParameters;
+        private final MessageDetails incomingMessage;
+        private final MessageDetails outgoingMessage;
+
+        /**
+         * Constructor.
+         *
+         * @param stepContext - decoded json of the step context
+         */
+        public StepDetails(BigInteger stepInstanceId, String errorName, String errorMessage, BigInteger spContextId,
+                           String stepContext, String validationResults, Map<String, Object> messageParameters,
+                           MessageDetails incomingMessage, MessageDetails outgoingMessage) {
+            this.stepInstanceId = stepInstanceId;
+            this.errorName = errorName;
+            this.errorMessage = errorMessage;
+            this.spContextId = spContextId;
+            this.stepContext = stepContext;
+            this.validationResults = validationResults;
+            this.messageParameters = Collections.unmodifiableMap(new HashMap<>(messageParameters));
+            this.incomingMessage = incomingMessage;
+            this.outgoingMessage = outgoingMessage;
+        }
+    }
+
+    @Getter
+    public static final class MessageDetails {
+        private final BigInteger id;
+        private final String text;
+        private final Map<String, Object> headers;
+        private final Map<String, Object> connectionProperties;
+
+        /**
+         * Constructor.
+         */
+        public MessageDetails(BigInteger id, String text, Map<String, Object> headers,
+                              Map<String, Object> connectionProperties) {
+            this.id = id;
+            this.text = text;
+            this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
+            this.connectionProperties = Collections.unmodifiableMap(new HashMap<>(connectionProperties));
+        }
+    }
+}
@@ -297,9 +297,9 @@ public class TcContext extends JsonStorable {
             setNeedToReportToItf(true);
         } else if (StartedFrom.RAM2.equals(getStartedFrom()) || StartedFrom.ATP.equals(getStartedFrom())
                 || getStartedByAtp()) {
-            setNeedToReportToItf(Boolean.parseBoolean(CoreServices.getProjectSettingsService().get(getProjectId(),
+            setNeedToReportToItf(CoreServices.getProjectSettingsService().getBoolean(getProjectId(),
                     ProjectSettingsConstants.ENABLE_ITF_REPORTING,
-                    ProjectSettingsConstants.ENABLE_ITF_REPORTING_DEFAULT_VALUE)));
+                    ProjectSettingsConstants.ENABLE_ITF_REPORTING_DEFAULT_VALUE));
         } else {
             setNeedToReportToItf(true);
         }
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.jpa.context.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.xerial.snappy.SnappyInputStream;
+import org.xerial.snappy.SnappyOutputStream;
+
+/**
+ * Compression of context json, as it is stored in the json_string column.
+ * Codec name is the format marker of stored value, see {@link ContextCodecs}.
+ */
+public enum ContextCodec {
+
+    /**
+     * Plain json text; the only format of rows written before codecs.
+     */
+    JSON("json") {
+        @Override
+        public OutputStream compressing(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream decompressing(InputStream in) {
+            return in;
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        public OutputStream compressing(OutputStream out) {
+            return new DeflaterOutputStream(out);
+        }
+
+        @Override
+        public InputStream decompressing(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+    },
+    SNAPPY("snappy") {
+        @Override
+        public OutputStream compressing(OutputStream out) {
+            return new SnappyOutputStream(out);
+        }
+
+        @Override
+        public InputStream decompressing(InputStream in) throws IOException {
+            return new SnappyInputStream(in);
+        }
+    };
+
+    private final String marker;
+
+    ContextCodec(String marker) {
+        this.marker = marker;
+    }
+
+    public String getMarker() {
+        return marker;
+    }
+
+    public abstract OutputStream compressing(OutputStream out) throws IOException;
+
+    public abstract InputStream decompressing(InputStream in) throws IOException;
+
+    /**
+     * Find codec by marker (or by name), case-insensitive.
+     *
+     * @return codec or null if there is no such one
+     */
+    public static ContextCodec of(String marker) {
+        for (ContextCodec codec : values()) {
+            if (codec.marker.equalsIgnoreCase(marker) || codec.name().equalsIgnoreCase(marker)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
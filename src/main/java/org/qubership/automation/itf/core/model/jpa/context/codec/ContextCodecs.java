@@ -0,0 +1,235 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.jpa.context.codec;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.CONTEXT_CODEC;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.CONTEXT_CODEC_MIN_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Encoding of context json for the json_string column.
+ * Encoded value is '~' + codec marker + ':' + Base64 of compressed UTF-8 json;
+ * json text never starts with '~', so values without the prefix (all legacy rows) are plain json.
+ * The column is text, that's why compressed bytes are Base64-encoded.
+ */
+public final class ContextCodecs {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContextCodecs.class);
+    private static final char PREFIX = '~';
+    private static final char SEPARATOR = ':';
+    private static final int MAX_MARKER_LENGTH = 16;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ContextCodecs() {
+    }
+
+    /**
+     * Encode json by the configured codec ({@code context.codec}, plain json by default).
+     * Json shorter than {@code context.codec.min.size} characters is stored as is.
+     */
+    public static String encode(String json) {
+        if (json == null || json.length() < Settings.MIN_SIZE) {
+            return json;
+        }
+        return encode(json, Settings.CODEC);
+    }
+
+    /**
+     * Encode json by the codec. If the codec fails (e.g. snappy native library can't be loaded),
+     * json is returned as is.
+     */
+    public static String encode(String json, ContextCodec codec) {
+        if (json == null || codec == ContextCodec.JSON) {
+            return json;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length() / 2 + MAX_MARKER_LENGTH);
+        bytes.write(PREFIX);
+        byte[] marker = codec.getMarker().getBytes(ISO_8859_1);
+        bytes.write(marker, 0, marker.length);
+        bytes.write(SEPARATOR);
+        try (OutputStream out = codec.compressing(Base64.getEncoder().wrap(bytes))) {
+            out.write(json.getBytes(UTF_8));
+        } catch (IOException | RuntimeException | LinkageError e) {
+            LOGGER.warn("Context can't be encoded by '{}' codec, it's stored as plain json", codec.getMarker(), e);
+            return json;
+        }
+        return new String(bytes.toByteArray(), ISO_8859_1);
+    }
+
+    /**
+     * Decode stored value to json text. Plain json is returned as is.
+     *
+     * @throws IllegalArgumentException if the value is encoded but can't be decoded
+     */
+    public static String decode(String stored) {
+        ContextCodec codec = codecOf(stored);
+        if (codec == null || codec == ContextCodec.JSON) {
+            return stored;
+        }
+        try (InputStream in = decompressing(stored, codec)) {
+            return new String(ByteStreams.toByteArray(in), UTF_8);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Context stored in '" + codec.getMarker()
+                    + "' format can't be decoded", e);
+        }
+    }
+
+    /**
+     * Check if stored value is encoded (not plain json).
+     */
+    public static boolean isEncoded(String stored) {
+        ContextCodec codec = codecOf(stored);
+        return codec != null && codec != ContextCodec.JSON;
+    }
+
+    /**
+     * Read one value from stored context without decoding and parsing the whole json:
+     * the json is decompressed and parsed as a stream, other values are skipped.
+     * Values are built as json-simple objects, like {@code JsonContext} has.
+     *
+     * @param stored - value of json_string column, encoded or plain
+     * @param path   - keys of the top-level object, of the nested one etc.
+     * @return value found; null if there is no such value or the value is null
+     */
+    public static Object readValue(String stored, String... path) throws IOException {
+        if (Strings.isNullOrEmpty(stored) || path.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = parser(stored)) {
+            return parser.nextToken() == JsonToken.START_OBJECT ? find(parser, path, 0) : null;
+        }
+    }
+
+    private static JsonParser parser(String stored) throws IOException {
+        ContextCodec codec = codecOf(stored);
+        if (codec == null || codec == ContextCodec.JSON) {
+            return JSON_FACTORY.createParser(stored);
+        }
+        return JSON_FACTORY.createParser(decompressing(stored, codec));
+    }
+
+    private static InputStream decompressing(String stored, ContextCodec codec) throws IOException {
+        byte[] bytes = stored.getBytes(ISO_8859_1);
+        int offset = codec.getMarker().length() + 2;
+        return codec.decompressing(Base64.getDecoder().wrap(
+                new ByteArrayInputStream(bytes, offset, bytes.length - offset)));
+    }
+
+    private static ContextCodec codecOf(String stored) {
+        if (stored == null || stored.isEmpty() || stored.charAt(0) != PREFIX) {
+            return null;
+        }
+        int separator = stored.indexOf(SEPARATOR, 1);
+        if (separator < 0 || separator > MAX_MARKER_LENGTH) {
+            return null;
+        }
+        return ContextCodec.of(stored.substring(1, separator));
+    }
+
+    /*  Parser is at START_OBJECT. Stored json has no duplicate keys, so the first match is returned.
+     */
+    private static Object find(JsonParser parser, String[] path, int depth) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (!path[depth].equals(name)) {
+                parser.skipChildren();
+            } else if (depth == path.length - 1) {
+                return readValue(parser);
+            } else {
+                return token == JsonToken.START_OBJECT ? find(parser, path, depth + 1) : null;
+            }
+        }
+        return null;
+    }
+
+    /*  Same types as json-simple parser produces.
+     */
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    object.put(name, readValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return Long.valueOf(parser.getText());
+            case VALUE_NUMBER_FLOAT:
+                return Double.valueOf(parser.getText());
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static final class Settings {
+
+        private static final ContextCodec CODEC = codec();
+        private static final int MIN_SIZE = ApplicationConfig.env == null
+                ? 0 : NumberUtils.toInt(ApplicationConfig.env.getProperty(CONTEXT_CODEC_MIN_SIZE), 2048);
+
+        private static ContextCodec codec() {
+            if (ApplicationConfig.env == null) {
+                return ContextCodec.JSON;
+            }
+            String marker = ApplicationConfig.env.getProperty(CONTEXT_CODEC, ContextCodec.JSON.getMarker());
+            ContextCodec codec = ContextCodec.of(marker.trim());
+            if (codec == null) {
+                LOGGER.warn("Unknown {} value '{}'; contexts are stored as plain json", CONTEXT_CODEC, marker);
+                return ContextCodec.JSON;
+            }
+            LOGGER.info("Contexts are stored in '{}' format", codec.getMarker());
+            return codec;
+        }
+    }
+}
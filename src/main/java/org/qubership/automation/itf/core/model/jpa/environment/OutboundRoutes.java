@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.jpa.environment;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.qubership.automation.itf.core.model.jpa.server.Server;
+import org.qubership.automation.itf.core.model.jpa.system.System;
+import org.qubership.automation.itf.core.util.db.TxExecutor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Resolved outbound routes: properties of outbound configurations by server, system and transport type,
+ * so outbound dispatch doesn't go to DB.
+ * Routes keep ids and a copy of the properties only, no entities: they are shared by all threads.
+ * Any change of environments, servers or outbound configurations increments the version and drops all routes
+ * (at flush and once more after commit); routes resolved before the change are never cached after it.
+ * Expiration is a safety net for changes made on other instances.
+ */
+public class OutboundRoutes {
+
+    private static final OutboundRoutes INSTANCE = new OutboundRoutes();
+    private static final int MAX_ROUTES = 100000;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<RouteKey, Route> routes = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ROUTES)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    public static OutboundRoutes getInstance() {
+        return INSTANCE;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get properties of the outbound configuration of the server for the system and transport type.
+     *
+     * @param loader - resolves the configuration if there is no actual route; its properties are cached
+     * @return unmodifiable copy of the configuration properties
+     */
+    public Map<String, String> getProperties(Server server, System system, String typeName,
+                                             Supplier<OutboundTransportConfiguration> loader) {
+        RouteKey key = new RouteKey(server.getID(), system.getID(), typeName);
+        long current = version.get();
+        Route route = routes.getIfPresent(key);
+        if (route != null && route.version == current) {
+            return route.properties;
+        }
+        OutboundTransportConfiguration outbound = loader.get();
+        Map<String, String> properties = Collections.unmodifiableMap(new HashMap<>(outbound));
+        if (key.isComplete() && version.get() == current) {
+            routes.put(key, new Route(properties, current));
+        }
+        return properties;
+    }
+
+    /**
+     * Drop all routes. Should be called when environments, servers or outbound configurations are changed.
+     * Routes are dropped right now and once more after commit of the current transaction,
+     * because a route resolved by other thread between flush and commit contains old state.
+     */
+    public void invalidate() {
+        invalidateAll();
+        TxExecutor.runAfterCommit(this::invalidateAll);
+    }
+
+    private void invalidateAll() {
+        version.incrementAndGet();
+        routes.invalidateAll();
+    }
+
+    private static final class Route {
+        private final Map<String, String> properties;
+        private final long version;
+
+        private Route(Map<String, String> properties, long version) {
+            this.properties = properties;
+            this.version = version;
+        }
+    }
+
+    private static final class RouteKey {
+        private final Object serverId;
+        private final Object systemId;
+        private final String typeName;
+
+        private RouteKey(Object serverId, Object systemId, String typeName) {
+            this.serverId = serverId;
+            this.systemId = systemId;
+            this.typeName = typeName;
+        }
+
+        private boolean isComplete() {
+            return serverId != null && systemId != null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RouteKey)) {
+                return false;
+            }
+            RouteKey that = (RouteKey) o;
+            return Objects.equals(serverId, that.serverId) && Objects.equals(systemId, that.systemId)
+                    && Objects.equals(typeName, that.typeName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serverId, systemId, typeName);
+        }
+    }
+}
@@ -68,10 +68,17 @@ public abstract class AbstractParsingRule<T extends ParsingRuleProvider>
      * @return MessageParameter
      */
     public MessageParameter apply(Message message, InstanceContext context, boolean projectExpressionVarValue) {
-        this.parsedExpression = computeParsedExpression(context, projectExpressionVarValue);
+        prepare(context, projectExpressionVarValue);
         return parsingType.parse(message, this);
     }
 
+    /**
+     * Compute parsedExpression only; used when rules of the same type are applied together.
+     */
+    public void prepare(InstanceContext context, boolean projectExpressionVarValue) {
+        this.parsedExpression = computeParsedExpression(context, projectExpressionVarValue);
+    }
+
     /**
      * Check if the parsing rule is applicable to the message.
      *
@@ -52,6 +52,8 @@ public interface ParsingRule<T extends ParsingRuleProvider>
 
     MessageParameter apply(Message message, InstanceContext context, boolean projectExpressionVarValue);
 
+    void prepare(InstanceContext context, boolean projectExpressionVarValue);
+
     String getParsingRulePath();
 
     boolean applicable(Message message);
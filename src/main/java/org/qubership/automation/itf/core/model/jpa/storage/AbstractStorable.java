@@ -333,12 +333,10 @@ public abstract class AbstractStorable extends AbstractNamedImpl implements Stor
     public void performPostImportActionsParent(BigInteger projectId, BigInteger sessionId) {
         if (getParent() != null) {
             Storable byId = DeserializedEntitiesCache.getInstance().getCacheBySessionId(sessionId)
-                    .getById((BigInteger) getParent().getID());
+                    .putIfAbsent((BigInteger) getParent().getID(), this.getParent());
             if (byId != null) {
                 setParent(byId);
             } else {
-                DeserializedEntitiesCache.getInstance().getCacheBySessionId(sessionId)
-                        .put((BigInteger) getParent().getID(), this.getParent());
                 getParent().performPostImportActionsParent(projectId, sessionId);
             }
         }
@@ -0,0 +1,171 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.jpa.system;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.core.hibernate.spring.managers.custom.NativeManager;
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+import org.qubership.automation.itf.core.model.key.KeyDefinition;
+import org.qubership.automation.itf.core.model.key.KeyDefinitionAnalyzer;
+import org.qubership.automation.itf.core.util.converter.IdConverter;
+import org.qubership.automation.itf.core.util.db.TxExecutor;
+import org.qubership.automation.itf.core.util.exception.KeyDefinitionException;
+import org.qubership.automation.itf.core.util.helper.KeyHelper;
+import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Operation dispatch of systems: operation key definitions analyzed once
+ * (trivial ones are evaluated without the template engine, see {@link KeyDefinitionAnalyzer})
+ * and operation ids by definition key per system, so an operation is defined by a hash lookup.
+ * Any change of operations or systems increments the version and drops all indexes;
+ * indexes built before the change are never cached after it.
+ * Expiration is a safety net for changes made on other instances.
+ */
+public class OperationDispatchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationDispatchIndex.class);
+    private static final OperationDispatchIndex INSTANCE = new OperationDispatchIndex();
+    private static final int MAX_DEFINITIONS = 10000;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<String, Optional<KeyDefinition>> definitions = CacheBuilder.newBuilder()
+            .maximumSize(MAX_DEFINITIONS)
+            .build();
+    private final Cache<BigInteger, Map<String, BigInteger>> operationIds = CacheBuilder.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    public static OperationDispatchIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Define key by the macro; the template engine is used only if the macro isn't trivial
+     * or its variable is absent in the context.
+     *
+     * @param macro   - key definition macro
+     * @param context - instance context
+     * @param owner   - owner of the macro (used by the template engine)
+     * @return trimmed key
+     */
+    public String defineKey(String macro, InstanceContext context, System owner) throws KeyDefinitionException {
+        Optional<KeyDefinition> definition = definitions.getIfPresent(macro);
+        if (definition == null) {
+            definition = Optional.ofNullable(KeyDefinitionAnalyzer.analyze(macro));
+            definitions.put(macro, definition);
+        }
+        if (definition.isPresent()) {
+            String key = definition.get().defineKey(context);
+            if (!Strings.isNullOrEmpty(key)) {
+                return key.trim();
+            }
+        }
+        return KeyHelper.defineKey(macro, context, owner);
+    }
+
+    /**
+     * Get operation of the system by definition key.
+     * Keys absent in the index are looked for in DB, in case the operation is created on other instance.
+     *
+     * @return operation or null if not found
+     */
+    public Operation getOperation(System system, String key) {
+        BigInteger systemId = system.getID() == null ? null : IdConverter.toBigInt(system.getID());
+        if (systemId != null) {
+            BigInteger operationId = getIndex(systemId).get(key);
+            if (operationId != null) {
+                Operation operation = CoreObjectManager.getInstance().getManager(Operation.class)
+                        .getById(operationId);
+                if (operation != null) {
+                    return operation;
+                }
+            }
+        }
+        return (Operation) CoreObjectManager.getInstance()
+                .getSpecialManager(System.class, NativeManager.class)
+                .getChildByClass(system, Operation.class, key);
+    }
+
+    /**
+     * Drop all indexes. Should be called when operations or systems are changed.
+     * Indexes are dropped right now and once more after commit of the current transaction,
+     * because an index built by other thread between flush and commit contains old state.
+     */
+    public void invalidate() {
+        invalidateAll();
+        TxExecutor.runAfterCommit(this::invalidateAll);
+    }
+
+    private void invalidateAll() {
+        version.incrementAndGet();
+        operationIds.invalidateAll();
+    }
+
+    private Map<String, BigInteger> getIndex(BigInteger systemId) {
+        Map<String, BigInteger> index = operationIds.getIfPresent(systemId);
+        if (index != null) {
+            return index;
+        }
+        long current = version.get();
+        index = TxExecutor.executeUnchecked(() -> build(systemId), TxExecutor.readOnlyTransaction());
+        if (version.get() == current) {
+            operationIds.put(systemId, index);
+        }
+        return index;
+    }
+
+    private static Map<String, BigInteger> build(BigInteger systemId) {
+        System system = CoreObjectManager.getInstance().getManager(System.class).getById(systemId);
+        if (system == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, BigInteger> index = new HashMap<>();
+        Set<String> conflicts = new HashSet<>();
+        for (Operation operation : system.getOperations()) {
+            String key = operation.getOperationDefinitionKey();
+            if (key != null && operation.getID() != null
+                    && index.putIfAbsent(key, IdConverter.toBigInt(operation.getID())) != null) {
+                conflicts.add(key);
+            }
+        }
+        /*  Operations with the same key are not indexed: they are looked for in DB as before,
+            so the choice among them doesn't depend on the order of system operations.
+         */
+        if (!conflicts.isEmpty()) {
+            LOGGER.warn("System [id={}] has several operations with the same definition keys {}", systemId,
+                    conflicts);
+            index.keySet().removeAll(conflicts);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
@@ -26,7 +26,6 @@ import java.util.stream.Collectors;
 
 import javax.persistence.Entity;
 
-import org.qubership.automation.itf.core.hibernate.spring.managers.custom.NativeManager;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.eci.AbstractEciConfigurable;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
@@ -45,9 +44,7 @@ import org.qubership.automation.itf.core.util.constants.SystemMode;
 import org.qubership.automation.itf.core.util.ei.deserialize.SystemFolderDeserializer;
 import org.qubership.automation.itf.core.util.ei.serialize.IdSerializer;
 import org.qubership.automation.itf.core.util.exception.OperationDefinitionException;
-import org.qubership.automation.itf.core.util.helper.KeyHelper;
 import org.qubership.automation.itf.core.util.helper.StorableUtils;
-import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.qubership.automation.itf.core.util.provider.KeyDefinitionProvider;
 import org.qubership.automation.itf.core.util.provider.ParsingRuleProvider;
 import org.qubership.automation.itf.core.util.provider.TemplateProvider;
@@ -199,14 +196,12 @@ public class System extends AbstractEciConfigurable
                 throw new OperationDefinitionException("Cannot define operation! "
                         + "Operation key definition is null! System: " + getName());
             }
-            String key = KeyHelper.defineKey(operationKeyDefinition, context, this);
+            String key = OperationDispatchIndex.getInstance().defineKey(operationKeyDefinition, context, this);
             if (Strings.isNullOrEmpty(key)) {
                 throw new OperationDefinitionException(String.format("Cannot define operation! Key defined by "
                         + "definition %s in empty! System: %s", operationKeyDefinition, getName()));
             }
-            Operation operation = (Operation) CoreObjectManager.getInstance()
-                    .getSpecialManager(System.class, NativeManager.class)
-                    .getChildByClass(this, Operation.class, key);
+            Operation operation = OperationDispatchIndex.getInstance().getOperation(this, key);
             if (!Objects.isNull(operation)) {
                 return operation;
             }
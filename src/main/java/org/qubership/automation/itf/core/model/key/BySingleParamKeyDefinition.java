@@ -42,10 +42,10 @@ public class BySingleParamKeyDefinition extends AbstractStorable implements KeyD
     }
 
     /**
-     * TODO: Add JavaDoc.
+     * Define key as the value of the parameter; null if the parameter (or a part of its path) is absent.
      */
     public String defineKey(InstanceContext context) throws KeyDefinitionException {
-        Object parameter = context.get(expression);
+        Object parameter = context.getIfPresent(expression);
         if (parameter instanceof String) {
             return ((String) parameter).trim();
         } else {
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.key;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
+
+/**
+ * Recognizes trivial key definition macros which can be evaluated without the template engine:
+ * <ul>
+ *     <li>constant - no references, directives or escapes, like "getOrder";</li>
+ *     <li>single context variable - "$tc.operation" or "${tc.operation}".</li>
+ * </ul>
+ * Other macros (several references, methods, indexes, directives, quiet references) are left for the engine.
+ */
+public final class KeyDefinitionAnalyzer {
+
+    private static final String IDENTIFIER = "[A-Za-z_][\\w\\-]*";
+    private static final String PATH = IDENTIFIER + "(?:\\." + IDENTIFIER + ")*";
+    private static final Pattern SINGLE_PARAM = Pattern.compile("^\\$(?:(" + PATH + ")|\\{(" + PATH + ")})$");
+
+    private KeyDefinitionAnalyzer() {
+    }
+
+    /**
+     * Analyze the macro.
+     *
+     * @param macro - key definition macro
+     * @return {@link ByConstantKeyDefinition}, {@link BySingleParamKeyDefinition} or null if the macro isn't trivial
+     */
+    public static KeyDefinition analyze(String macro) {
+        if (macro == null) {
+            return null;
+        }
+        String trimmed = macro.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        if (TemplateEngineFactory.isPlainText(trimmed)) {
+            return new ByConstantKeyDefinition(trimmed);
+        }
+        Matcher matcher = SINGLE_PARAM.matcher(trimmed);
+        if (matcher.matches()) {
+            return new BySingleParamKeyDefinition(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.stub.fast;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
+
+import lombok.Getter;
+
+/**
+ * Fast stub response body compiled once:
+ * <ul>
+ *     <li>STATIC - no references, directives or escapes; the body is pre-encoded to UTF-8,</li>
+ *     <li>SUBSTITUTION - text with ${var} / ${var.path} references only; filled without the template engine,</li>
+ *     <li>DYNAMIC - anything else, to be rendered by the template engine.</li>
+ * </ul>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class FastResponseBody {
+
+    private static final String PATH = "[A-Za-z][\\w\\-]*(?:\\.[A-Za-z][\\w\\-]*)*";
+    private static final Pattern REFERENCE = Pattern.compile("\\$\\{(" + PATH + ")}");
+    private static final FastResponseBody EMPTY = new FastResponseBody(Kind.STATIC, "", null);
+
+    public enum Kind {
+        STATIC, SUBSTITUTION, DYNAMIC
+    }
+
+    @Getter
+    private final Kind kind;
+    @Getter
+    private final String text;
+    private final ByteBuffer encoded;
+    /*  Literal texts (String) and variable paths (Reference), in order.
+     */
+    private final List<Object> segments;
+
+    private FastResponseBody(Kind kind, String text, List<Object> segments) {
+        this.kind = kind;
+        this.text = text;
+        this.encoded = kind == Kind.STATIC
+                ? ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer()
+                : null;
+        this.segments = segments == null ? Collections.emptyList() : Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Compile the body.
+     *
+     * @param text - body text (template)
+     * @return compiled body
+     */
+    public static FastResponseBody compile(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+        if (isStatic(text)) {
+            return new FastResponseBody(Kind.STATIC, text, null);
+        }
+        if (text.indexOf('#') >= 0 || text.indexOf('\\') >= 0) {
+            return new FastResponseBody(Kind.DYNAMIC, text, null);
+        }
+        List<Object> segments = new ArrayList<>();
+        Matcher matcher = REFERENCE.matcher(text);
+        int position = 0;
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                segments.add(text.substring(position, matcher.start()));
+            }
+            segments.add(new Reference(matcher.group(1)));
+            position = matcher.end();
+        }
+        String tail = text.substring(position);
+        if (tail.indexOf('$') >= 0 || segments.stream().anyMatch(segment ->
+                segment instanceof String && ((String) segment).indexOf('$') >= 0)) {
+            return new FastResponseBody(Kind.DYNAMIC, text, null);
+        }
+        if (!tail.isEmpty()) {
+            segments.add(tail);
+        }
+        return new FastResponseBody(Kind.SUBSTITUTION, text, segments);
+    }
+
+    /**
+     * Check if the text contains nothing the template engine would process
+     * (see {@link TemplateEngineFactory#isPlainText(String)}).
+     */
+    public static boolean isStatic(String text) {
+        return text == null || TemplateEngineFactory.isPlainText(text);
+    }
+
+    /**
+     * Get UTF-8 bytes of STATIC body.
+     *
+     * @return read-only buffer positioned at the beginning, or null if the body isn't STATIC
+     */
+    public ByteBuffer getEncoded() {
+        return encoded == null ? null : encoded.duplicate();
+    }
+
+    /**
+     * Render STATIC or SUBSTITUTION body; variables are resolved by {@link JsonContext#getIfPresent(String)}.
+     *
+     * @return rendered body, or null if the body is DYNAMIC or some variable (or a part of its path) is absent
+     *     (the template engine should render it then)
+     */
+    public String render(JsonContext context) {
+        switch (kind) {
+            case STATIC:
+                return text;
+            case SUBSTITUTION:
+                StringBuilder result = new StringBuilder(text.length() + 64);
+                for (Object segment : segments) {
+                    if (segment instanceof Reference) {
+                        Object value = context.getIfPresent(((Reference) segment).path);
+                        if (value == null) {
+                            return null;
+                        }
+                        result.append(value);
+                    } else {
+                        result.append((String) segment);
+                    }
+                }
+                return result.toString();
+            default:
+                return null;
+        }
+    }
+
+    private static final class Reference {
+        private final String path;
+
+        private Reference(String path) {
+            this.path = path;
+        }
+    }
+}
@@ -17,32 +17,94 @@
 package org.qubership.automation.itf.core.stub.fast;
 
 import java.io.Serializable;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.qubership.automation.itf.core.hibernate.spring.managers.executor.OperationObjectManager;
+import org.qubership.automation.itf.core.hibernate.spring.managers.executor.SituationObjectManager;
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
+import org.qubership.automation.itf.core.util.converter.IdConverter;
+import org.qubership.automation.itf.core.util.db.TxExecutor;
+import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Getter
 @Setter
 @NoArgsConstructor
 public class FastResponseConfig implements Serializable {
     private static final long serialVersionUID = 20250303L;
+    private static final String METRIC_NAME = "itf.fast.stubs.configuration";
+    private static final Timer LOAD_TIMER = Timer.builder(METRIC_NAME).tag("phase", "load")
+            .register(Metrics.globalRegistry);
+    private static final Timer ASSEMBLE_TIMER = Timer.builder(METRIC_NAME).tag("phase", "assemble")
+            .register(Metrics.globalRegistry);
 
     private String projectUuid;
     private List<TransportConfig> transportConfigs;
 
     /**
      * Constructor.
+     * Operations and situations of the request are loaded in bulk first, in the same read-only transaction
+     * (so in the same persistence context) as building of endpoint configurations,
+     * so the building doesn't query them one by one.
      * @param config - FastConfigurationRequest object.
      */
     public FastResponseConfig(FastConfigurationRequest config) {
         super();
         this.projectUuid = config.getProjectUuid();
         this.transportConfigs = new ArrayList<>();
+        TxExecutor.executeUnchecked(() -> {
+            long start = System.nanoTime();
+            load(config);
+            long loaded = System.nanoTime();
+            LOAD_TIMER.record(loaded - start, TimeUnit.NANOSECONDS);
+            for (FastConfigurationRequest.FastTransportConfig transportConfig : config.getTransportConfigs()) {
+                this.transportConfigs.add(new TransportConfig(transportConfig));
+            }
+            long assembled = System.nanoTime();
+            ASSEMBLE_TIMER.record(assembled - loaded, TimeUnit.NANOSECONDS);
+            log.debug("FastResponseConfig: loaded in {} millis, assembled in {} millis",
+                    TimeUnit.NANOSECONDS.toMillis(loaded - start),
+                    TimeUnit.NANOSECONDS.toMillis(assembled - loaded));
+            return null;
+        }, TxExecutor.readOnlyTransaction());
+    }
+
+    private static void load(FastConfigurationRequest config) {
+        Set<BigInteger> operationIds = new HashSet<>();
+        Set<BigInteger> situationIds = new HashSet<>();
         for (FastConfigurationRequest.FastTransportConfig transportConfig : config.getTransportConfigs()) {
-            this.transportConfigs.add(new TransportConfig(transportConfig));
+            if (transportConfig.getSystems() == null) {
+                continue;
+            }
+            for (FastConfigurationRequest.FastSystem fastSystem : transportConfig.getSystems()) {
+                if (fastSystem.getOperations() == null) {
+                    continue;
+                }
+                for (FastConfigurationRequest.FastOperation fastOperation : fastSystem.getOperations()) {
+                    operationIds.add(IdConverter.toBigInt(fastOperation.getId()));
+                    if (fastOperation.getSituations() != null) {
+                        fastOperation.getSituations().forEach(fastSituation ->
+                                situationIds.add(IdConverter.toBigInt(fastSituation.getId())));
+                    }
+                }
+            }
         }
+        CoreObjectManager.getInstance().getSpecialManager(Operation.class, OperationObjectManager.class)
+                .loadForFastStubs(operationIds);
+        CoreObjectManager.getInstance().getSpecialManager(Situation.class, SituationObjectManager.class)
+                .loadForFastStubs(situationIds);
     }
 }
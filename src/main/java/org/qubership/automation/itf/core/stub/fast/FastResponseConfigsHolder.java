@@ -20,10 +20,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,22 +38,43 @@ public enum FastResponseConfigsHolder {
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
-    private final ConcurrentHashMap<String, StubEndpointConfig> cfg = new ConcurrentHashMap<>();
+    /*  Endpoint configs by project UUID, then by transport type, then by configured endpoint.
+     */
+    private final ConcurrentHashMap<String, Map<String, Map<String, StubEndpointConfig>>> cfg =
+            new ConcurrentHashMap<>();
 
     public StubEndpointConfig getConfig(String projectUuid, String transportType, String configuredEndpoint) {
-        return cfg.get(projectUuid + "/" + transportType + "/" + configuredEndpoint);
+        Map<String, Map<String, StubEndpointConfig>> projectConfigs = cfg.get(projectUuid);
+        if (projectConfigs == null) {
+            return null;
+        }
+        Map<String, StubEndpointConfig> transportConfigs = projectConfigs.get(transportType);
+        return transportConfigs == null ? null : transportConfigs.get(configuredEndpoint);
     }
 
     public void putConfig(String projectUuid, String transportType, StubEndpointConfig config) {
-        cfg.put(projectUuid + "/" + transportType + "/" + config.getConfiguredEndpoint(), config);
+        cfg.computeIfAbsent(projectUuid, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(transportType, key -> new ConcurrentHashMap<>())
+                .put(config.getConfiguredEndpoint(), config);
     }
 
+    /**
+     * Reset config by key in the form 'projectUuid/transportType/configuredEndpoint'.
+     */
     public void resetConfigByKey(String key) {
-        cfg.entrySet().removeIf(entry -> entry.getKey().equals(key));
+        String[] parts = key.split("/", 3);
+        if (parts.length < 3) {
+            return;
+        }
+        Map<String, Map<String, StubEndpointConfig>> projectConfigs = cfg.get(parts[0]);
+        Map<String, StubEndpointConfig> transportConfigs = projectConfigs == null ? null : projectConfigs.get(parts[1]);
+        if (transportConfigs != null) {
+            transportConfigs.remove(parts[2]);
+        }
     }
 
     public void resetConfigForProject(String projectUuid) {
-        cfg.entrySet().removeIf(entry -> entry.getKey().startsWith(projectUuid));
+        cfg.remove(projectUuid);
     }
 
     /**
@@ -94,22 +114,14 @@ public enum FastResponseConfigsHolder {
      */
     public List<FastStubsTreeView> getEndpoints(UUID projectUuid) {
         List<FastStubsTreeView> endpoints = new ArrayList<>();
-
-        Pattern restPattern = Pattern.compile(
-                String.format("%s\\/%s\\/.*", projectUuid, StubEndpointConfig.TransportTypes.REST));
-        Pattern soapPattern = Pattern.compile(
-                String.format("%s\\/%s\\/.*", projectUuid, StubEndpointConfig.TransportTypes.SOAP));
-        Matcher restMatcher;
-        Matcher soapMatcher;
-        for (String key : cfg.keySet()) {
-            restMatcher = restPattern.matcher(key);
-            if (restMatcher.find()) {
-                endpoints.add(createFastStubsTreeView(cfg.get(key), StubEndpointConfig.TransportTypes.REST));
-                continue;
-            }
-            soapMatcher = soapPattern.matcher(key);
-            if (soapMatcher.find()) {
-                endpoints.add(createFastStubsTreeView(cfg.get(key), StubEndpointConfig.TransportTypes.SOAP));
+        Map<String, Map<String, StubEndpointConfig>> projectConfigs = cfg.get(projectUuid.toString());
+        if (projectConfigs != null) {
+            for (StubEndpointConfig.TransportTypes transportType : StubEndpointConfig.TransportTypes.values()) {
+                Map<String, StubEndpointConfig> transportConfigs = projectConfigs.get(transportType.name());
+                if (transportConfigs != null) {
+                    transportConfigs.values().forEach(config ->
+                            endpoints.add(createFastStubsTreeView(config, transportType)));
+                }
             }
         }
         return endpoints;
@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.stub.fast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.util.constants.Condition;
+import org.qubership.automation.itf.core.util.constants.Etc;
+
+/**
+ * Dispatch index of conditional responses of an endpoint.
+ * Responses are grouped by operation definition key. Inside a group, the condition name most often
+ * compared by EQUALS with a constant value is chosen as discriminator; responses which require it
+ * (all conditions are joined by AND) are indexed by the value, the rest are candidates for any value.
+ * So candidates for a request are a single hash lookup instead of the scan of all responses.
+ * Candidate lists keep the priority order of the source list. Instances are immutable.
+ */
+final class FastResponseIndex {
+
+    private final List<ResponseDescription> source;
+    private final int sourceSize;
+    private final Map<String, OperationResponses> byOperation = new HashMap<>();
+
+    private FastResponseIndex(List<ResponseDescription> source) {
+        this.source = source;
+        this.sourceSize = source.size();
+        Map<String, List<ResponseDescription>> groups = new HashMap<>();
+        for (ResponseDescription response : source) {
+            groups.computeIfAbsent(operationDefinitionKey(response), key -> new ArrayList<>()).add(response);
+        }
+        groups.forEach((key, responses) -> byOperation.put(key, new OperationResponses(responses)));
+    }
+
+    static FastResponseIndex build(List<ResponseDescription> conditionalResponses) {
+        return new FastResponseIndex(conditionalResponses == null
+                ? Collections.emptyList() : conditionalResponses);
+    }
+
+    /**
+     * Check if the index is built from the list (the same instance of the same size).
+     */
+    boolean isBuiltFrom(List<ResponseDescription> conditionalResponses) {
+        return conditionalResponses == null
+                ? sourceSize == 0
+                : source == conditionalResponses && sourceSize == conditionalResponses.size();
+    }
+
+    /**
+     * Get responses of the operation which may match the context, in priority order.
+     * Conditions are not evaluated here: a candidate still may not match.
+     */
+    List<ResponseDescription> candidates(String operationDefinitionKey, JsonContext context) {
+        OperationResponses responses = byOperation.get(operationDefinitionKey);
+        return responses == null ? Collections.emptyList() : responses.candidates(context);
+    }
+
+    private static String operationDefinitionKey(ResponseDescription response) {
+        return response.getResponseCondition() == null
+                ? null : response.getResponseCondition().getOperationDefinitionKey();
+    }
+
+    /*  Value of EQUALS condition on the name with constant value, if all conditions must be true.
+        Null if the response can't be indexed by the name. Empty value is not indexed: it matches
+        absent variable in plain context, so such responses must be candidates for any value.
+     */
+    private static String requiredValue(ResponseDescription response, String name) {
+        List<ConditionParameter> conditions = response.getResponseCondition() == null
+                ? null : response.getResponseCondition().getConditionParameters();
+        if (conditions == null || conditions.isEmpty() || !isConjunction(conditions)) {
+            return null;
+        }
+        for (ConditionParameter condition : conditions) {
+            if (Condition.EQUALS.equals(condition.getCondition()) && name.equals(condition.getName())
+                    && ConditionParameter.isConstantValue(condition.getValue())) {
+                return StringUtils.isEmpty(condition.getValue()) ? null : condition.getValue();
+            }
+        }
+        return null;
+    }
+
+    /*  Boolean operations are taken from not null Etc values in order (see CompiledConditions):
+        the chain is a conjunction if there are enough of them and all are AND.
+     */
+    private static boolean isConjunction(List<ConditionParameter> conditions) {
+        int operations = 0;
+        for (ConditionParameter condition : conditions) {
+            if (operations == conditions.size() - 1) {
+                break;
+            }
+            if (condition.getEtc() != null) {
+                if (condition.getEtc() != Etc.AND) {
+                    return false;
+                }
+                operations++;
+            }
+        }
+        return operations == conditions.size() - 1;
+    }
+
+    private static final class OperationResponses {
+
+        private final String discriminator;
+        private final Map<String, List<ResponseDescription>> byValue = new HashMap<>();
+        private final List<ResponseDescription> unindexed;
+
+        private OperationResponses(List<ResponseDescription> responses) {
+            discriminator = chooseDiscriminator(responses);
+            List<Integer> rest = new ArrayList<>();
+            Map<String, List<Integer>> indexed = new HashMap<>();
+            for (int i = 0; i < responses.size(); i++) {
+                String value = discriminator == null ? null : requiredValue(responses.get(i), discriminator);
+                if (value == null) {
+                    rest.add(i);
+                } else {
+                    indexed.computeIfAbsent(value, key -> new ArrayList<>()).add(i);
+                }
+            }
+            unindexed = Collections.unmodifiableList(merge(responses, Collections.emptyList(), rest));
+            // Candidates of each value are merged with unindexed ones here, so lookup doesn't allocate
+            indexed.forEach((value, positions) ->
+                    byValue.put(value, Collections.unmodifiableList(merge(responses, positions, rest))));
+        }
+
+        /*  Merge of two ascending position lists keeps the priority order of responses.
+         */
+        private static List<ResponseDescription> merge(List<ResponseDescription> responses,
+                                                       List<Integer> first, List<Integer> second) {
+            List<ResponseDescription> merged = new ArrayList<>(first.size() + second.size());
+            int i = 0;
+            int j = 0;
+            while (i < first.size() || j < second.size()) {
+                if (j == second.size() || (i < first.size() && first.get(i) < second.get(j))) {
+                    merged.add(responses.get(first.get(i++)));
+                } else {
+                    merged.add(responses.get(second.get(j++)));
+                }
+            }
+            return merged;
+        }
+
+        private List<ResponseDescription> candidates(JsonContext context) {
+            if (discriminator == null) {
+                return unindexed;
+            }
+            /*  Responses requiring "" are not indexed (see requiredValue),
+                so absent variable (or absent part of its path) means unindexed candidates only.
+             */
+            Object value = context.getIfPresent(discriminator);
+            List<ResponseDescription> candidates = value == null ? null : byValue.get(value.toString());
+            return candidates == null ? unindexed : candidates;
+        }
+
+        private static String chooseDiscriminator(List<ResponseDescription> responses) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (ResponseDescription response : responses) {
+                List<ConditionParameter> conditions = response.getResponseCondition() == null
+                        ? null : response.getResponseCondition().getConditionParameters();
+                if (conditions == null || !isConjunction(conditions)) {
+                    continue;
+                }
+                conditions.stream()
+                        .filter(condition -> Condition.EQUALS.equals(condition.getCondition())
+                                && condition.getName() != null
+                                && !StringUtils.isEmpty(condition.getValue())
+                                && ConditionParameter.isConstantValue(condition.getValue()))
+                        .map(ConditionParameter::getName)
+                        .distinct()
+                        .forEach(name -> counts.merge(name, 1, Integer::sum));
+            }
+            return counts.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+    }
+}
@@ -32,6 +32,8 @@ import org.qubership.automation.itf.core.model.jpa.system.stub.OperationEventTri
 import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
 import org.qubership.automation.itf.core.model.jpa.template.OutboundTemplateTransportConfiguration;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -53,6 +55,10 @@ public class ResponseDescription implements Serializable {
     private Boolean skipReporting;
     private Boolean disabled = false;
     private Integer priority = 0;
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile FastResponseBody compiledBody;
 
     /**
      * Constructor.
@@ -74,6 +80,44 @@ public class ResponseDescription implements Serializable {
                 ChronoUnit.MILLIS.between(start, Instant.now()));
     }
 
+    public void setBody(String body) {
+        this.body = body;
+        this.compiledBody = null;
+    }
+
+    /**
+     * Get the body compiled for fast rendering; it's compiled once, on the first call.
+     */
+    @JsonIgnore
+    public FastResponseBody getCompiledBody() {
+        FastResponseBody compiled = compiledBody;
+        if (compiled == null) {
+            compiled = FastResponseBody.compile(body);
+            compiledBody = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * Check if the whole response (body, headers and response code) needs no rendering,
+     * so the pre-encoded body and the headers can be sent as is.
+     */
+    @JsonIgnore
+    public boolean isStaticResponse() {
+        if (getCompiledBody().getKind() != FastResponseBody.Kind.STATIC
+                || !FastResponseBody.isStatic(responseCode)) {
+            return false;
+        }
+        if (headers != null) {
+            for (Object value : headers.values()) {
+                if (value != null && !FastResponseBody.isStatic(value.toString())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private void fillBodyAndHeaders(Situation storableSituation, StubEndpointConfig.TransportTypes transportType) {
         IntegrationStep step = (IntegrationStep) storableSituation.getSteps().get(0);
         if (step != null) {
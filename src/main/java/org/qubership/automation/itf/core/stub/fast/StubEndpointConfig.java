@@ -26,12 +26,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
 import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
 import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
 import org.qubership.automation.itf.core.stub.parser.SimpleParsingRule;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -54,6 +56,10 @@ public class StubEndpointConfig implements Serializable {
     private Map<String,List<SimpleParsingRule>> operationParsingRules = new HashMap<>();
     private Boolean skipReporting;
     private Boolean disabled;
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile FastResponseIndex responseIndex;
 
     @Getter
     public enum TransportTypes {
@@ -85,7 +91,7 @@ public class StubEndpointConfig implements Serializable {
         this.configuredEndpoint = endPoint;
         this.operationDefinitionScript = fastSystem.getStorableSystem().getOperationKeyDefinition();
         this.parsingRules = new LinkedList<>();
-        this.conditionalResponses = new LinkedList<>();
+        this.conditionalResponses = new ArrayList<>();
         Instant start = Instant.now();
         fastSystem.getStorableSystem().getSystemParsingRules().forEach(systemParsingRule ->
                 this.parsingRules.add(new SimpleParsingRule(systemParsingRule)));
@@ -102,7 +108,7 @@ public class StubEndpointConfig implements Serializable {
         if (!parsingRulesFromOperation.isEmpty()) {
             this.operationParsingRules.put(storableOperation.getOperationDefinitionKey(), parsingRulesFromOperation);
         }
-        List<ResponseDescription> orderedConditionalResponses = new LinkedList<>();
+        List<ResponseDescription> orderedConditionalResponses = new ArrayList<>();
         for (FastConfigurationRequest.FastSituation fastSituation : fastOperation.getSituations()) {
             Situation storableSituation = CoreObjectManager.getInstance().getManager(Situation.class)
                     .getById(fastSituation.getId());
@@ -117,5 +123,29 @@ public class StubEndpointConfig implements Serializable {
         }
         orderedConditionalResponses.sort(Comparator.comparing(ResponseDescription::getPriority));
         this.conditionalResponses.addAll(orderedConditionalResponses);
+        this.responseIndex = null;
+    }
+
+    public void setConditionalResponses(List<ResponseDescription> conditionalResponses) {
+        this.conditionalResponses = conditionalResponses;
+        this.responseIndex = null;
+    }
+
+    /**
+     * Get conditional responses of the operation which may match the request context, in priority order.
+     * Responses requiring a value of some variable (EQUALS with constant value, joined by AND)
+     * are found by hash lookup; conditions of the candidates are still to be checked by the caller.
+     *
+     * @param operationDefinitionKey - operation definition key of the request,
+     * @param context - context the conditions are evaluated against.
+     * @return candidate responses, not modifiable.
+     */
+    public List<ResponseDescription> getCandidateResponses(String operationDefinitionKey, JsonContext context) {
+        FastResponseIndex index = responseIndex;
+        if (index == null || !index.isBuiltFrom(conditionalResponses)) {
+            index = FastResponseIndex.build(conditionalResponses);
+            responseIndex = index;
+        }
+        return index.candidates(operationDefinitionKey, context);
     }
 }
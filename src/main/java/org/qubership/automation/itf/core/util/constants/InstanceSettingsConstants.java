@@ -31,6 +31,8 @@ public class InstanceSettingsConstants {
                     + " Example value: https://bv.atp-cloud.our-company.com/";
 
     public static final String LOG_LEVEL = "log.level";
+    public static final String LOG_LEVEL_LOGGERS = "log.level.loggers";
+    public static final String LOG_LEVEL_PROJECTS = "log.level.projects";
     public static final String LOG_APPENDER_DATE_FORMAT = "log.appender.date.format";
     public static final String TRANSPORT_FOLDER = "transport.folder";
     public static final String TRIGGER_FOLDER = "trigger.folder";
@@ -60,10 +62,26 @@ public class InstanceSettingsConstants {
     public static final String FEIGN_ATP_CATALOGUE_ROUTE = "feign.atp.catalogue.route";
     public static final String FEIGN_ATP_EXECUTOR_ROUTE = "feign.atp.executor.route";
     public static final String VELOCITY_CONFIG = "velocity.config";
+    public static final String MESSAGE_CONTENT_STREAMING = "message.content.streaming";
 
     public static final String LOCK_PROVIDER_PROCESS_TIMEOUT = "lock.provider.process.timeout";
     public static final String SESSION_HANDLER_PROCESS_TIMEOUT = "session.handler.process.timeout";
     public static final String INFINITE_LOOP_PROTECTION_BARRIER = "infinite.loop.protection.barrier";
     public static final String REPORT_EXECUTION_RECEIVER_THREAD_POOL_SIZE =
             "report.execution.receiver.thread.pool.size";
+    public static final String REPORT_ASYNC_ENABLED = "report.async.enabled";
+    public static final String REPORT_ASYNC_QUEUE_CAPACITY = "report.async.queue.capacity";
+    public static final String REPORT_ASYNC_LANES = "report.async.lanes";
+    public static final String REPORT_ASYNC_BATCH_SIZE = "report.async.batch.size";
+    public static final String REPORT_ASYNC_OVERFLOW_POLICY = "report.async.overflow.policy";
+    public static final String REPORT_ASYNC_FLUSH_TIMEOUT = "report.async.flush.timeout";
+    public static final String ID_GENERATOR_BLOCK_MIN = "id.generator.block.min";
+    public static final String ID_GENERATOR_BLOCK_MAX = "id.generator.block.max";
+    public static final String ID_GENERATOR_REFILL_PERIOD = "id.generator.refill.period";
+    public static final String ID_GENERATOR_REFILL_TIMEOUT = "id.generator.refill.timeout";
+    public static final String CONTEXT_CODEC = "context.codec";
+    public static final String CONTEXT_CODEC_MIN_SIZE = "context.codec.min.size";
+    public static final String IMPORT_PARALLELISM = "import.parallelism";
+    public static final String IMPORT_SESSION_EXPIRATION = "import.session.expiration";
+    public static final String COUNTER_RESERVATION_SIZE = "counter.reservation.size";
 }
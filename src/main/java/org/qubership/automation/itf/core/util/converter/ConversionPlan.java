@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
+import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
+import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
+import org.qubership.automation.itf.core.util.helper.Reflection;
+
+import com.google.common.base.Strings;
+
+/**
+ * Conversion of string configuration to {@link ConnectionProperties} of a transport type,
+ * prepared once per property descriptors of the type.
+ * Target classes are resolved once; immutable values (strings, numbers, booleans, enums) converted
+ * from the same string are reused. Map properties are converted per call, because the values are mutable
+ * and may be templates ('$...', '#...') rendered by the instance context.
+ */
+final class ConversionPlan {
+
+    private final Property[] properties;
+
+    ConversionPlan(Map<String, PropertyDescriptor> descriptors) {
+        this.properties = new Property[descriptors.size()];
+        int i = 0;
+        for (Map.Entry<String, PropertyDescriptor> entry : descriptors.entrySet()) {
+            properties[i++] = new Property(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Convert the configuration; empty values are skipped.
+     */
+    ConnectionProperties convert(InstanceContext instanceContext, Map<String, String> configuration) {
+        ConnectionProperties toReturn = new ConnectionProperties();
+        for (Property property : properties) {
+            String stringValue = configuration.get(property.name);
+            if (!Strings.isNullOrEmpty(stringValue)) {
+                property.convertTo(toReturn, stringValue, instanceContext);
+            }
+        }
+        return toReturn;
+    }
+
+    /**
+     * Convert configurations merged in order: for each property the last non-blank value wins.
+     * Null configurations are skipped.
+     */
+    ConnectionProperties convert(InstanceContext instanceContext, List<? extends Map<String, String>> configurations) {
+        ConnectionProperties toReturn = new ConnectionProperties();
+        for (Property property : properties) {
+            for (int i = configurations.size() - 1; i >= 0; i--) {
+                Map<String, String> configuration = configurations.get(i);
+                String stringValue = configuration == null ? null : configuration.get(property.name);
+                if (StringUtils.isNotBlank(stringValue)) {
+                    property.convertTo(toReturn, stringValue, instanceContext);
+                    break;
+                }
+            }
+        }
+        return toReturn;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Double || value instanceof Float
+                || value instanceof Short || value instanceof Byte || value instanceof Character
+                || value instanceof BigInteger || value instanceof BigDecimal || value instanceof Enum;
+    }
+
+    private static final class Property {
+        private final String name;
+        private final PropertyDescriptor descriptor;
+        private final Class<?> targetClass;
+        private volatile Converted last;
+
+        private Property(String name, PropertyDescriptor descriptor) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.targetClass = targetClass(descriptor);
+        }
+
+        private void convertTo(ConnectionProperties toReturn, String stringValue, InstanceContext instanceContext) {
+            Object converted = convert(stringValue, instanceContext);
+            if (converted != null) {
+                toReturn.put(name, converted);
+            }
+        }
+
+        private Object convert(String stringValue, InstanceContext instanceContext) {
+            if (descriptor.isMap()) {
+                return convert(stringValue.startsWith("$") || stringValue.startsWith("#")
+                        ? TemplateEngineFactory.get().process((Storable) null, stringValue,
+                        (instanceContext == null) ? new JsonContext() : instanceContext)
+                        : stringValue);
+            }
+            Converted converted = last;
+            if (converted != null && converted.source.equals(stringValue)) {
+                return converted.value;
+            }
+            Object value = convert(stringValue);
+            if (isImmutable(value)) {
+                last = new Converted(stringValue, value);
+            }
+            return value;
+        }
+
+        private Object convert(String stringValue) {
+            // Unknown class: descriptor throws the same exception as before
+            return targetClass == null
+                    ? descriptor.convert(stringValue)
+                    : Reflection.detectAndConvertFromString(targetClass, stringValue);
+        }
+
+        private static Class<?> targetClass(PropertyDescriptor descriptor) {
+            try {
+                return Class.forName("java.io.File".equals(descriptor.getTypeName())
+                        ? "java.lang.String" : descriptor.getTypeName());
+            } catch (ClassNotFoundException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Converted {
+        private final String source;
+        private final Object value;
+
+        private Converted(String source, Object value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
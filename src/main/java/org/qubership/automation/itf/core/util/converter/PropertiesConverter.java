@@ -17,31 +17,37 @@
 package org.qubership.automation.itf.core.util.converter;
 
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.apache.commons.lang3.StringUtils;
-import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
-import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
 import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
 import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
-import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
 import org.qubership.automation.itf.core.util.exception.TransportException;
 import org.qubership.automation.itf.core.util.transport.manager.TransportRegistryManager;
 
-import com.google.common.base.Strings;
-import com.google.common.collect.Maps;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class PropertiesConverter {
 
+    /*  Plans by transport type name; dropped when the transport is registered again or unregistered
+        (its property descriptors may be changed), see invalidate(String).
+        Each invalidation increments the version of the type; a plan is used only if it's built
+        at the current version, so a plan built from old descriptors concurrently with invalidation is never used.
+     */
+    private static final Cache<String, VersionedPlan> PLANS = CacheBuilder.newBuilder()
+            .maximumSize(500)
+            .build();
+    private static final ConcurrentMap<String, AtomicLong> VERSIONS = new ConcurrentHashMap<>();
+
     @SafeVarargs
     public static ConnectionProperties convert(String typeName, Map<String, String>... configurations)
             throws TransportException {
-        return convert(null, typeName,
-                Arrays.stream(configurations).filter(Objects::nonNull).collect(Collectors.toList()));
+        return convert(null, typeName, Arrays.asList(configurations));
     }
 
     @SafeVarargs
@@ -49,23 +55,20 @@ public class PropertiesConverter {
                                                String typeName,
                                                Map<String, String>... configurations)
             throws TransportException {
-        return convert(instanceContext, typeName,
-                Arrays.stream(configurations).filter(Objects::nonNull).collect(Collectors.toList()));
+        return convert(instanceContext, typeName, Arrays.asList(configurations));
     }
 
+    /*  Configurations are merged in order, ignoring blank values; null configurations are skipped.
+     */
     private static ConnectionProperties convert(InstanceContext instanceContext, String typeName,
-                                                Collection<? extends Map<String, String>> configurations)
+                                                List<? extends Map<String, String>> configurations)
             throws  TransportException {
-        Map<String, String> merged = Maps.newHashMap();
-        for (Map<String, String> configuration : configurations) {
-            for (Map.Entry<String, String> entry : configuration.entrySet()) {
-                String value = entry.getValue();
-                if (StringUtils.isNotBlank(value)) {
-                    merged.put(entry.getKey(), value);
-                }
-            }
+        ConversionPlan plan = getPlan(typeName);
+        if (plan == null) {
+            throw new IllegalStateException(String.format("Transport %s did not export any properties. "
+                    + "Configuration is %s", typeName, configurations));
         }
-        return convert(instanceContext, typeName, merged);
+        return plan.convert(instanceContext, configurations);
     }
 
     /**
@@ -75,36 +78,62 @@ public class PropertiesConverter {
                                                String typeName,
                                                Map<String, String> configuration)
             throws TransportException {
-        Map<String, PropertyDescriptor> properties = TransportRegistryManager.getInstance().getProperties(typeName);
-        if (properties == null) {
+        ConversionPlan plan = getPlan(typeName);
+        if (plan == null) {
             throw new IllegalStateException(String.format("Transport %s did not export any properties. "
                     + "Configuration is %s", typeName, configuration));
         }
-        ConnectionProperties toReturn = new ConnectionProperties();
-        for (Map.Entry<String, PropertyDescriptor> entry : properties.entrySet()) {
-            String stringValue = configuration.get(entry.getKey());
-            if (!Strings.isNullOrEmpty(stringValue)) {
-                PropertyDescriptor descriptor = entry.getValue();
-                Object convert = descriptor.convert(descriptor.isMap()
-                        ? preProcess(stringValue, descriptor, instanceContext) : stringValue);
-                if (convert != null) {
-                    toReturn.put(entry.getKey(), convert);
-                }
-            }
+        return plan.convert(instanceContext, configuration);
+    }
+
+    /**
+     * Drop the conversion plan of the transport type; it is rebuilt from the current property descriptors
+     * on the next conversion.
+     */
+    public static void invalidate(String typeName) {
+        version(typeName).incrementAndGet();
+        PLANS.invalidate(typeName);
+    }
+
+    /**
+     * Drop conversion plans of all transport types, e.g. when the transport registry is replaced.
+     */
+    public static void invalidateAll() {
+        for (AtomicLong version : VERSIONS.values()) {
+            version.incrementAndGet();
+        }
+        PLANS.invalidateAll();
+    }
+
+    private static ConversionPlan getPlan(String typeName) throws TransportException {
+        AtomicLong version = version(typeName);
+        long current = version.get();
+        VersionedPlan cached = PLANS.getIfPresent(typeName);
+        if (cached != null && cached.version == current) {
+            return cached.plan;
+        }
+        Map<String, PropertyDescriptor> properties = TransportRegistryManager.getInstance().getProperties(typeName);
+        if (properties == null) {
+            return null;
+        }
+        ConversionPlan plan = new ConversionPlan(properties);
+        if (version.get() == current) {
+            PLANS.put(typeName, new VersionedPlan(plan, current));
         }
-        return toReturn;
+        return plan;
     }
 
-    private static String preProcess(String stringValue,
-                                     PropertyDescriptor descriptor,
-                                     InstanceContext instanceContext) {
-        if (descriptor.isMap() && (stringValue.startsWith("$") || stringValue.startsWith("#"))) {
-            return TemplateEngineFactory.get().process(
-                    (Storable) null,
-                    stringValue,
-                    (instanceContext == null) ? new JsonContext() : instanceContext);
-        } else {
-            return stringValue;
+    private static AtomicLong version(String typeName) {
+        return VERSIONS.computeIfAbsent(typeName, key -> new AtomicLong());
+    }
+
+    private static final class VersionedPlan {
+        private final ConversionPlan plan;
+        private final long version;
+
+        private VersionedPlan(ConversionPlan plan, long version) {
+            this.plan = plan;
+            this.version = version;
         }
     }
 }
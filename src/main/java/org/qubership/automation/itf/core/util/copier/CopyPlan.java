@@ -0,0 +1,238 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.copier;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.util.annotation.NoCopy;
+import org.qubership.automation.itf.core.util.annotation.OperationRefCopyAsNewObject;
+import org.qubership.automation.itf.core.util.annotation.ProduceNewObject;
+import org.qubership.automation.itf.core.util.annotation.RefCopy;
+import org.qubership.automation.itf.core.util.annotation.RefCopyAsNewObject;
+import org.qubership.automation.itf.core.util.annotation.TemplateRefCopyAsNewObject;
+import org.springframework.beans.BeanUtils;
+
+import com.google.common.collect.Maps;
+import lombok.Getter;
+
+/**
+ * How {@link StorableCopier} copies objects of a class: copyable properties, their kinds
+ * (by copy annotations and property types) and accessors.
+ * Plans are built once per class and shared; instances are immutable.
+ */
+final class CopyPlan {
+
+    private static final String HIBERNATE_PROXY = "org.hibernate.proxy.HibernateProxy";
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ConcurrentMap<Class<?>, CopyPlan> PLANS = Maps.newConcurrentMap();
+
+    @Getter
+    private final Class<? extends Storable> copyClass;
+    @Getter
+    private final List<Property> properties;
+
+    private CopyPlan(Class<? extends Storable> copyClass) {
+        this.copyClass = copyClass;
+        List<Property> properties = new ArrayList<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(copyClass)) {
+            Method getter = descriptor.getReadMethod();
+            Method setter = getSetOrFillMethod(descriptor, copyClass);
+            if (getter == null || setter == null || getter.isAnnotationPresent(NoCopy.class)) {
+                continue;
+            }
+            Kind kind = kindOf(getter);
+            if (kind != null) {
+                properties.add(new Property(descriptor.getName(), kind,
+                        getter.isAnnotationPresent(ProduceNewObject.class),
+                        handle(getter).asType(GETTER_TYPE), handle(setter).asType(SETTER_TYPE)));
+            }
+        }
+        this.properties = Collections.unmodifiableList(properties);
+    }
+
+    /**
+     * Get plan to copy the object of the class. Copies of Hibernate proxies are objects of the entity class.
+     */
+    static CopyPlan of(Class<? extends Storable> objectClass) {
+        CopyPlan plan = PLANS.get(objectClass);
+        if (plan == null) {
+            plan = isHibernateProxy(objectClass)
+                    ? of(objectClass.getSuperclass().asSubclass(Storable.class))
+                    : new CopyPlan(objectClass);
+            CopyPlan existing = PLANS.putIfAbsent(objectClass, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    private static boolean isHibernateProxy(Class<?> objectClass) {
+        for (Class<?> anInterface : objectClass.getInterfaces()) {
+            if (HIBERNATE_PROXY.equals(anInterface.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Storable newInstance() throws InstantiationException, IllegalAccessException {
+        return copyClass.newInstance();
+    }
+
+    private static Method getSetOrFillMethod(PropertyDescriptor descriptor, Class<?> owner) {
+        Method method = descriptor.getWriteMethod();
+        if (method == null) {
+            String methodName = "fill" + StringUtils.capitalize(descriptor.getName());
+            try {
+                method = owner.getMethod(methodName, descriptor.getPropertyType());
+            } catch (NoSuchMethodException ignored) {
+                //ok, no such method - no setter
+            }
+        }
+        return method;
+    }
+
+    /*  Same order of checks as the copier always had. Null means the property isn't copied.
+     */
+    private static Kind kindOf(Method getter) {
+        Class<?> type = getter.getReturnType();
+        if (Storable.class.isAssignableFrom(type)) {
+            if (getter.isAnnotationPresent(RefCopyAsNewObject.class)) {
+                return Kind.REFERENCE_AS_NEW_OBJECT;
+            } else if (getter.isAnnotationPresent(RefCopy.class)) {
+                return Kind.REFERENCE;
+            } else if (getter.isAnnotationPresent(OperationRefCopyAsNewObject.class)) {
+                return Kind.OPERATION_REFERENCE_AS_NEW_OBJECT;
+            } else if (getter.isAnnotationPresent(TemplateRefCopyAsNewObject.class)) {
+                return Kind.TEMPLATE_REFERENCE_AS_NEW_OBJECT;
+            }
+            return Kind.CHILD;
+        } else if (Collection.class.isAssignableFrom(type)) {
+            if (!(getter.getGenericReturnType() instanceof ParameterizedType)) {
+                return null;
+            }
+            Type[] types = ((ParameterizedType) getter.getGenericReturnType()).getActualTypeArguments();
+            if (types == null || types.length == 0) {
+                return Kind.COLLECTION;
+            }
+            Type elementType = types[0];
+            Class<?> elementClass;
+            if (elementType instanceof Class) {
+                elementClass = (Class<?>) elementType;
+            } else if (elementType instanceof ParameterizedType) {
+                elementClass = (Class<?>) ((ParameterizedType) elementType).getRawType();
+            } else if (elementType instanceof TypeVariable) {
+                Type bound = ((TypeVariable) elementType).getBounds()[0];
+                elementClass = bound instanceof Class ? (Class<?>) bound : Object.class;
+            } else {
+                return Kind.UNSUPPORTED;
+            }
+            return Storable.class.isAssignableFrom(elementClass) && !getter.isAnnotationPresent(RefCopy.class)
+                    ? Kind.CHILD_COLLECTION : Kind.COLLECTION;
+        } else if (Map.class.isAssignableFrom(type)) {
+            return Kind.MAP;
+        }
+        return Kind.VALUE;
+    }
+
+    private static MethodHandle handle(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // Public method declared in non-public class
+            method.setAccessible(true);
+            try {
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException("Method " + method + " is not accessible for copying", ex);
+            }
+        }
+    }
+
+    enum Kind {
+        REFERENCE_AS_NEW_OBJECT,
+        REFERENCE,
+        OPERATION_REFERENCE_AS_NEW_OBJECT,
+        TEMPLATE_REFERENCE_AS_NEW_OBJECT,
+        CHILD,
+        CHILD_COLLECTION,
+        COLLECTION,
+        MAP,
+        VALUE,
+        UNSUPPORTED
+    }
+
+    /**
+     * Copyable property. Exceptions thrown by accessors are wrapped into InvocationTargetException,
+     * like reflective calls do.
+     */
+    static final class Property {
+
+        @Getter
+        private final String name;
+        @Getter
+        private final Kind kind;
+        @Getter
+        private final boolean produceNewObject;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private Property(String name, Kind kind, boolean produceNewObject, MethodHandle getter,
+                         MethodHandle setter) {
+            this.name = name;
+            this.kind = kind;
+            this.produceNewObject = produceNewObject;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        Object get(Object owner) throws InvocationTargetException {
+            try {
+                return (Object) getter.invokeExact(owner);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        void set(Object owner, Object value) throws InvocationTargetException {
+            try {
+                setter.invokeExact(owner, value);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+}
@@ -21,11 +21,6 @@ import static org.qubership.automation.itf.core.util.constants.ProjectSettingsCo
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.lang.reflect.TypeVariable;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,7 +28,6 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 
-import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.core.model.common.LabeledStorable;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.message.parser.OperationParsingRule;
@@ -45,13 +39,8 @@ import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
 import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
 import org.qubership.automation.itf.core.model.jpa.system.stub.SituationEventTrigger;
 import org.qubership.automation.itf.core.model.jpa.transport.TransportConfiguration;
-import org.qubership.automation.itf.core.util.annotation.NoCopy;
-import org.qubership.automation.itf.core.util.annotation.OperationRefCopyAsNewObject;
-import org.qubership.automation.itf.core.util.annotation.ProduceNewObject;
-import org.qubership.automation.itf.core.util.annotation.RefCopy;
-import org.qubership.automation.itf.core.util.annotation.RefCopyAsNewObject;
-import org.qubership.automation.itf.core.util.annotation.TemplateRefCopyAsNewObject;
 import org.qubership.automation.itf.core.util.constants.Mep;
+import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.qubership.automation.itf.core.util.exception.CopyException;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.qubership.automation.itf.core.util.provider.ParsingRuleProvider;
@@ -59,8 +48,6 @@ import org.qubership.automation.itf.core.util.provider.TemplateProvider;
 import org.qubership.automation.itf.core.util.services.CoreServices;
 import org.springframework.beans.BeanUtils;
 
-import com.google.common.base.Predicate;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -91,28 +78,14 @@ public class StorableCopier {
         mapCopyFlag.put(key, value);
     }
 
-    private static Method getSetOrFillMethod(PropertyDescriptor descriptor, Class owner) {
-        Method method = descriptor.getWriteMethod();
-        if (method == null) {
-            String methodName = "fill" + StringUtils.capitalize(descriptor.getName());
-            try {
-                method = owner.getMethod(methodName, descriptor.getPropertyType());
-            } catch (NoSuchMethodException ignored) {
-                //ok, no such method - no setter
-            }
-        }
-        return method;
-    }
-
-    private static void copyReferenceOrValue(PropertyDescriptor descriptor, Storable source, Storable dest)
+    private static void copyReferenceOrValue(CopyPlan.Property property, Storable source, Storable dest)
             throws CopyException {
         try {
-            Object value = descriptor.getReadMethod().isAnnotationPresent(ProduceNewObject.class)
-                    ? source.getID().toString() : descriptor.getReadMethod().invoke(source);
-            getSetOrFillMethod(descriptor, dest.getClass()).invoke(dest, value);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            Object value = property.isProduceNewObject() ? source.getID().toString() : property.get(source);
+            property.set(dest, value);
+        } catch (IllegalArgumentException | InvocationTargetException e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, dest), e);
+                    property.getName(), source, dest), e);
         }
     }
 
@@ -154,39 +127,55 @@ public class StorableCopier {
         }
     }
 
-    private static void copyCollection(PropertyDescriptor descriptor, Storable source, Storable dest)
+    private static void copyCollection(CopyPlan.Property property, Storable source, Storable dest)
             throws CopyException {
         try {
-            Collection collection = (Collection) descriptor.getReadMethod().invoke(source);
+            Collection collection = (Collection) property.get(source);
             Collection newCollection = produceNewCollection(collection);
             newCollection.addAll(collection);
-            getSetOrFillMethod(descriptor, dest.getClass()).invoke(dest, newCollection);
-        } catch (IllegalAccessException | InvocationTargetException e) {
+            property.set(dest, newCollection);
+        } catch (InvocationTargetException e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, dest), e);
+                    property.getName(), source, dest), e);
         }
     }
 
-    private static void copyMap(PropertyDescriptor descriptor, Storable source, Storable dest) throws CopyException {
+    private static void copyMap(CopyPlan.Property property, Storable source, Storable dest) throws CopyException {
         try {
-            Map map = (Map) descriptor.getReadMethod().invoke(source);
+            Map map = (Map) property.get(source);
             Map newCollection = (map == null) ? new HashMap() : produceNewMap(map);
             if (map != null) {
                 newCollection.putAll(map);
             }
-            getSetOrFillMethod(descriptor, dest.getClass()).invoke(dest, newCollection);
-        } catch (IllegalAccessException | InvocationTargetException e) {
+            property.set(dest, newCollection);
+        } catch (InvocationTargetException e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, dest), e);
+                    property.getName(), source, dest), e);
         }
     }
 
     /**
      * Copy from storable to destination.
+     * The whole graph is copied in one transaction: new objects are inserted at commit,
+     * in JDBC batches, instead of a transaction per stored object.
      */
-    @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST", justification = "Casted objects have proper types")
     public Storable copy(Storable storable, Storable destination, String projectId, String prefix)
             throws CopyException {
+        try {
+            return TxExecutor.execute(() -> copyGraph(storable, destination, projectId, prefix),
+                    TxExecutor.defaultWritableTransaction());
+        } catch (CopyException | RuntimeException e) {
+            OriginalCopyMap.getInstance().clear(sessionId);
+            throw e;
+        } catch (Exception e) {
+            OriginalCopyMap.getInstance().clear(sessionId);
+            throw new CopyException(String.format("Error while storing copy of %s to %s", storable, destination), e);
+        }
+    }
+
+    @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST", justification = "Casted objects have proper types")
+    private Storable copyGraph(Storable storable, Storable destination, String projectId, String prefix)
+            throws CopyException {
         String propertyName;
         propertyName = CoreObjectManager.getInstance().getManager(destination.getClass()).acceptsTo(storable);
         if (propertyName == null) {
@@ -240,95 +229,55 @@ public class StorableCopier {
             postActionsForUpdateTriggerOnSituation(newStorable, useCaseForTemplate);
         }
         newStorable.store();
-        newStorable.performPostCopyActions(Boolean.parseBoolean(CoreServices.getProjectSettingsService().get(projectId,
-                COPY_OBJECT_SET_STATUS_OFF, COPY_OBJECT_SET_STATUS_OFF_DEFAULT_VALUE)));
+        newStorable.performPostCopyActions(CoreServices.getProjectSettingsService().getBoolean(projectId,
+                COPY_OBJECT_SET_STATUS_OFF, COPY_OBJECT_SET_STATUS_OFF_DEFAULT_VALUE));
         return newStorable;
     }
 
     private Storable createCopy(Storable storable, Storable destination, String prefix, boolean sameParent,
                                 String useCaseForTemplate) throws CopyException {
+        CopyPlan plan = CopyPlan.of(storable.getClass());
         Storable newStorable;
         try {
-            if (Iterables.tryFind(Arrays.asList(storable.getClass().getInterfaces()),
-                            (Predicate<Class>) input -> input.getName().equals("org.hibernate.proxy.HibernateProxy"))
-                    .isPresent()) {
-                newStorable = storable.getClass().getSuperclass().asSubclass(Storable.class).newInstance();
-            } else {
-                newStorable = storable.getClass().newInstance();
-            }
+            newStorable = plan.newInstance();
         } catch (InstantiationException | IllegalAccessException e) {
             throw new CopyException(String.format("Error creating copy of %s", storable));
         }
-        PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(newStorable.getClass());
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (descriptor.getReadMethod() != null
-                    && getSetOrFillMethod(descriptor, newStorable.getClass()) != null
-                    && !descriptor.getReadMethod().isAnnotationPresent(NoCopy.class)) {
-                if (Storable.class.isAssignableFrom(descriptor.getReadMethod().getReturnType())) {
-                    if (descriptor.getReadMethod().isAnnotationPresent(RefCopyAsNewObject.class)) {
-                        if (sameParent) {
-                            copyReferenceOrValue(descriptor, storable, newStorable);
-                        } else {
-                            copyReferenceAsNewEntity(descriptor, storable, destination, newStorable,
-                                    prefix, useCaseForTemplate);
-                        }
-                    } else if (descriptor.getReadMethod().isAnnotationPresent(RefCopy.class)) {
-                        copyReferenceOrValue(descriptor, storable, newStorable);
-                    } else if (descriptor.getReadMethod().isAnnotationPresent(OperationRefCopyAsNewObject.class)) {
-                        forOperation_copyReferenceAsNewEntity(descriptor, storable, destination, newStorable,
-                                prefix, useCaseForTemplate);
-                    } else if (descriptor.getReadMethod().isAnnotationPresent(TemplateRefCopyAsNewObject.class)) {
-                        forTemplate_copyReferenceAsNewEntity(descriptor, storable, destination, newStorable,
-                                prefix, useCaseForTemplate);
+        for (CopyPlan.Property property : plan.getProperties()) {
+            switch (property.getKind()) {
+                case REFERENCE_AS_NEW_OBJECT:
+                    if (sameParent) {
+                        copyReferenceOrValue(property, storable, newStorable);
                     } else {
-                        copyChild(descriptor, storable, newStorable, prefix, useCaseForTemplate);
-                    }
-                } else if (Collection.class.isAssignableFrom(descriptor.getReadMethod().getReturnType())) {
-                    if (descriptor.getReadMethod().getGenericReturnType() instanceof ParameterizedType) {
-                        Type[] types =
-                                ((ParameterizedType) descriptor.getReadMethod().getGenericReturnType())
-                                        .getActualTypeArguments();
-                        if (types != null && types.length > 0) {
-                            if (types[0] instanceof Class) {
-                                if (Storable.class.isAssignableFrom((Class<?>) types[0])
-                                        && !descriptor.getReadMethod().isAnnotationPresent(RefCopy.class)) {
-                                    copyChildCollection(descriptor, storable, newStorable,
-                                            prefix, useCaseForTemplate);
-                                } else {
-                                    copyCollection(descriptor, storable, newStorable);
-                                }
-                            } else if (types[0] instanceof ParameterizedType) {
-                                if (Storable.class.isAssignableFrom((Class<?>) ((ParameterizedType) types[0])
-                                        .getRawType())
-                                        && !descriptor.getReadMethod().isAnnotationPresent(RefCopy.class)) {
-                                    copyChildCollection(descriptor, storable, newStorable,
-                                            prefix, useCaseForTemplate);
-                                } else {
-                                    copyCollection(descriptor, storable, newStorable);
-                                }
-                            } else if (types[0] instanceof TypeVariable) {
-                                if (((TypeVariable) types[0]).getBounds()[0] instanceof Class
-                                        && Storable.class.isAssignableFrom((Class<?>) ((TypeVariable) types[0])
-                                        .getBounds()[0])
-                                        && !descriptor.getReadMethod().isAnnotationPresent(RefCopy.class)) {
-                                    copyChildCollection(descriptor, storable, newStorable,
-                                            prefix, useCaseForTemplate);
-                                } else {
-                                    copyCollection(descriptor, storable, newStorable);
-                                }
-                            } else {
-                                throw new CopyException("Don't know what to do with property. "
-                                        + "Please, contact Mockingbird support");
-                            }
-                        } else {
-                            copyCollection(descriptor, storable, newStorable);
-                        }
+                        copyReferenceAsNewEntity(property, storable, destination, newStorable,
+                                prefix, useCaseForTemplate);
                     }
-                } else if (Map.class.isAssignableFrom(descriptor.getReadMethod().getReturnType())) {
-                    copyMap(descriptor, storable, newStorable);
-                } else {
-                    copyReferenceOrValue(descriptor, storable, newStorable);
-                }
+                    break;
+                case OPERATION_REFERENCE_AS_NEW_OBJECT:
+                    forOperation_copyReferenceAsNewEntity(property, storable, destination, newStorable,
+                            prefix, useCaseForTemplate);
+                    break;
+                case TEMPLATE_REFERENCE_AS_NEW_OBJECT:
+                    forTemplate_copyReferenceAsNewEntity(property, storable, destination, newStorable,
+                            prefix, useCaseForTemplate);
+                    break;
+                case CHILD:
+                    copyChild(property, storable, newStorable, prefix, useCaseForTemplate);
+                    break;
+                case CHILD_COLLECTION:
+                    copyChildCollection(property, storable, newStorable, prefix, useCaseForTemplate);
+                    break;
+                case COLLECTION:
+                    copyCollection(property, storable, newStorable);
+                    break;
+                case MAP:
+                    copyMap(property, storable, newStorable);
+                    break;
+                case UNSUPPORTED:
+                    throw new CopyException("Don't know what to do with property. "
+                            + "Please, contact Mockingbird support");
+                default:
+                    copyReferenceOrValue(property, storable, newStorable);
             }
         }
         if (storable instanceof Map) {
@@ -347,11 +296,11 @@ public class StorableCopier {
         return newStorable;
     }
 
-    private void copyReferenceAsNewEntity(PropertyDescriptor descriptor, Storable source, Storable dest,
+    private void copyReferenceAsNewEntity(CopyPlan.Property property, Storable source, Storable dest,
                                           Storable entity, String prefix, String useCaseForTemplate)
             throws CopyException {
         try {
-            Storable value = (Storable) descriptor.getReadMethod().invoke(source);
+            Storable value = (Storable) property.get(source);
             if (value == null) {
                 return;
             }
@@ -362,18 +311,18 @@ public class StorableCopier {
                 cachedCopiedEntity.store();
                 OriginalCopyMap.getInstance().put(sessionId, value.getID(), cachedCopiedEntity);
             }
-            getSetOrFillMethod(descriptor, entity.getClass()).invoke(entity, cachedCopiedEntity);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            property.set(entity, cachedCopiedEntity);
+        } catch (IllegalArgumentException | InvocationTargetException e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, entity), e);
+                    property.getName(), source, entity), e);
         }
     }
 
-    private void forOperation_copyReferenceAsNewEntity(PropertyDescriptor descriptor, Storable source, Storable dest,
+    private void forOperation_copyReferenceAsNewEntity(CopyPlan.Property property, Storable source, Storable dest,
                                                        Storable entity, String prefix, String useCaseForTemplate)
             throws CopyException {
         try {
-            Storable value = (Storable) descriptor.getReadMethod().invoke(source);
+            Storable value = (Storable) property.get(source);
             if (value == null) {
                 return;
             }
@@ -388,27 +337,27 @@ public class StorableCopier {
                             cachedCopiedEntity = createCopy(value, dest.getParent().getParent(), prefix,
                                     false, useCaseForTemplate);
                             cachedCopiedEntity.store();
-                            getSetOrFillMethod(descriptor, entity.getClass()).invoke(entity, cachedCopiedEntity);
+                            property.set(entity, cachedCopiedEntity);
                             OriginalCopyMap.getInstance().put(sessionId, value.getID(), cachedCopiedEntity);
                         }
                     } else {
-                        getSetOrFillMethod(descriptor, entity.getClass()).invoke(entity, value);
+                        property.set(entity, value);
                         break;
                     }
                     break;
                 }
                 default: {
-                    getSetOrFillMethod(descriptor, entity.getClass()).invoke(entity, value);
+                    property.set(entity, value);
                     break;
                 }
             }
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+        } catch (IllegalArgumentException | InvocationTargetException e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, entity), e);
+                    property.getName(), source, entity), e);
         }
     }
 
-    private void doSpecificActions(PropertyDescriptor descriptor,
+    private void doSpecificActions(CopyPlan.Property property,
                                    Storable dest,
                                    Storable entity,
                                    String prefix,
@@ -425,14 +374,14 @@ public class StorableCopier {
             cachedCopiedEntity.store();
             OriginalCopyMap.getInstance().put(sessionId, value.getID(), cachedCopiedEntity);
         }
-        getSetOrFillMethod(descriptor, entity.getClass()).invoke(entity, cachedCopiedEntity);
+        property.set(entity, cachedCopiedEntity);
     }
 
-    private void forTemplate_copyReferenceAsNewEntity(PropertyDescriptor descriptor, Storable source,
+    private void forTemplate_copyReferenceAsNewEntity(CopyPlan.Property property, Storable source,
                                                       Storable dest, Storable entity, String prefix,
                                                       String useCaseForTemplate) throws CopyException {
         try {
-            Storable value = (Storable) descriptor.getReadMethod().invoke(source);
+            Storable value = (Storable) property.get(source);
             if (value == null) {
                 return;
             }
@@ -446,7 +395,7 @@ public class StorableCopier {
                     //UC3. Copy Operation to another System
                 case "UC.6": {
                     //UC6. Copy Situation to another Operation to another System
-                    doSpecificActions(descriptor, dest, entity, prefix, cachedCopiedEntity, value, parent);
+                    doSpecificActions(property, dest, entity, prefix, cachedCopiedEntity, value, parent);
                     break;
                 }
                 case "UC.2":
@@ -461,21 +410,21 @@ public class StorableCopier {
                                 cachedCopiedEntity.store();
                                 OriginalCopyMap.getInstance().put(sessionId, value.getID(), cachedCopiedEntity);
                             }
-                            getSetOrFillMethod(descriptor, entity.getClass()).invoke(entity, cachedCopiedEntity);
+                            property.set(entity, cachedCopiedEntity);
                         } else if (parent instanceof System) {
-                            copyReferenceOrValue(descriptor, source, entity);
+                            copyReferenceOrValue(property, source, entity);
                         }
                     } else {
-                        doSpecificActions(descriptor, dest, entity, prefix, cachedCopiedEntity, value, parent);
+                        doSpecificActions(property, dest, entity, prefix, cachedCopiedEntity, value, parent);
                     }
                     break;
                 }
                 case "UC.4": {
                     //UC4. Copy Situation to the same Operation
                     if (!copyFlag) {
-                        copyReferenceOrValue(descriptor, source, entity);
+                        copyReferenceOrValue(property, source, entity);
                     } else {
-                        doSpecificActions(descriptor, dest, entity, prefix, cachedCopiedEntity, value, parent);
+                        doSpecificActions(property, dest, entity, prefix, cachedCopiedEntity, value, parent);
                     }
                     break;
                 }
@@ -484,29 +433,29 @@ public class StorableCopier {
             }
         } catch (Exception e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, entity), e);
+                    property.getName(), source, entity), e);
         }
     }
 
-    private void copyChild(PropertyDescriptor descriptor, Storable source, Storable dest,
+    private void copyChild(CopyPlan.Property property, Storable source, Storable dest,
                            String prefix, String useCaseForTemplate) throws CopyException {
         try {
-            Storable child = (Storable) descriptor.getReadMethod().invoke(source);
+            Storable child = (Storable) property.get(source);
             if (child != null) {
                 Storable childCopy = createCopy(child, dest, prefix, false, useCaseForTemplate);
-                getSetOrFillMethod(descriptor, dest.getClass()).invoke(dest, childCopy);
+                property.set(dest, childCopy);
                 childCopy.setParent(dest);
             }
-        } catch (IllegalAccessException | InvocationTargetException e) {
+        } catch (InvocationTargetException e) {
             throw new CopyException(String.format("Error while copying property %s from %s to %s",
-                    descriptor.getName(), source, dest), e);
+                    property.getName(), source, dest), e);
         }
     }
 
-    private void copyChildCollection(PropertyDescriptor descriptor, Storable source, Storable dest,
+    private void copyChildCollection(CopyPlan.Property property, Storable source, Storable dest,
                                      String prefix, String useCaseForTemplate) throws CopyException {
         try {
-            Collection<Storable> collection = (Collection<Storable>) descriptor.getReadMethod().invoke(source);
+            Collection<Storable> collection = (Collection<Storable>) property.get(source);
             Collection newCollection = produceNewCollection(collection);
             for (Storable storable : collection) {
                 if (storable != null) {
@@ -519,10 +468,10 @@ public class StorableCopier {
                     newCollection.add(cachedCopiedEntity);
                 }
             }
-            getSetOrFillMethod(descriptor, dest.getClass()).invoke(dest, newCollection);
-        } catch (IllegalAccessException | InvocationTargetException e) {
+            property.set(dest, newCollection);
+        } catch (InvocationTargetException e) {
             log.error("Exception while child collection {} copying from {} to {}",
-                    descriptor.getName(), source, dest, e);
+                    property.getName(), source, dest, e);
         }
     }
 
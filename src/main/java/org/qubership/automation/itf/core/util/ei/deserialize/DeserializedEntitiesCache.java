@@ -16,15 +16,28 @@
 
 package org.qubership.automation.itf.core.util.ei.deserialize;
 
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.IMPORT_SESSION_EXPIRATION;
+
 import java.math.BigInteger;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 
-import com.google.common.collect.Maps;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class DeserializedEntitiesCache {
 
     private static volatile DeserializedEntitiesCache deserializedEntitiesCache;
-    private Map<BigInteger, ImportedDataCache> sessionToStorable = Maps.newHashMap();
+    /*  Import sessions are removed by removeSessionRecord; the ones left after failed imports expire
+        if not accessed for import.session.expiration minutes (60 by default).
+     */
+    private final Cache<BigInteger, ImportedDataCache> sessionToStorable = CacheBuilder.newBuilder()
+            .expireAfterAccess(ApplicationConfig.env == null ? 60
+                    : NumberUtils.toLong(ApplicationConfig.env.getProperty(IMPORT_SESSION_EXPIRATION), 60),
+                    TimeUnit.MINUTES)
+            .build();
 
     private DeserializedEntitiesCache() {
         if (deserializedEntitiesCache != null) {
@@ -49,7 +62,7 @@ public class DeserializedEntitiesCache {
     }
 
     public ImportedDataCache getCacheBySessionId(BigInteger sessionId) {
-        return sessionToStorable.get(sessionId);
+        return sessionToStorable.getIfPresent(sessionId);
     }
 
     /**
@@ -63,4 +76,11 @@ public class DeserializedEntitiesCache {
         sessionToStorable.put(sessionId, importedDataCache);
         return importedDataCache;
     }
+
+    /**
+     * Remove cache of the import session, when the import is finished.
+     */
+    public void removeSessionRecord(BigInteger sessionId) {
+        sessionToStorable.invalidate(sessionId);
+    }
 }
@@ -16,14 +16,27 @@
 
 package org.qubership.automation.itf.core.util.ei.deserialize;
 
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.IMPORT_PARALLELISM;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.commons.lang3.math.NumberUtils;
 import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
+import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.qubership.automation.itf.core.util.exception.NoSuchManagerException;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.slf4j.Logger;
@@ -32,43 +45,103 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 
 public class ImportedDataCache {
 
     public static final String SIMPLE_PARENT_MARKER = "#SimpleParent#";
     private static final Logger LOGGER = LoggerFactory.getLogger(ImportedDataCache.class);
     private final Map<BigInteger, Storable> importedDataCache = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<Storable>> deferredPostImport = new ThreadLocal<>();
     private BigInteger projectId;
 
     /**
      * Deserialize storable identified by 'id' treeNode.
+     * Can be called from several threads for the same session (see {@link #deserializeAll(List, BigInteger)}):
+     * if the same entity is deserialized concurrently, the object published first is returned to all callers.
      *
      * @return deserialized Storable object
      */
-    public synchronized Storable deserialize(JsonParser p, BigInteger sessionId) throws IOException {
+    public Storable deserialize(JsonParser p, BigInteger sessionId) throws IOException {
         JsonNode treeNode = p.getCodec().readTree(p);
         BigInteger id = new BigInteger(treeNode.get("id").asText());
         boolean jsonIsSimpleParent = checkJsonSimpleParent(treeNode.get("description"));
         Storable storable = importedDataCache.get(id);
-        if (storable == null || !jsonIsSimpleParent && storable.getDescription() != null && storable.getDescription()
-                .equals(SIMPLE_PARENT_MARKER)) {
+        if (storable == null || !jsonIsSimpleParent && isSimpleParent(storable)) {
             storable = getDeserializedEntity(p, treeNode, id);
             if (storable.getParent() == null && "ROOT".equals(storable.getName())) {
                 storable = storable.findRootObject(projectId);
                 importedDataCache.put((BigInteger) storable.getID(), storable);
             } else {
-                storable.performPostImportActions(projectId, sessionId);
+                Storable deserialized = storable;
+                storable = importedDataCache.compute(id, (key, existing) -> existing == null
+                        || !jsonIsSimpleParent && isSimpleParent(existing) ? deserialized : existing);
+                if (storable == deserialized) {
+                    List<Storable> deferred = deferredPostImport.get();
+                    if (deferred == null) {
+                        storable.performPostImportActions(projectId, sessionId);
+                    } else {
+                        deferred.add(storable);
+                    }
+                }
             }
         }
         return storable;
     }
 
+    /**
+     * Deserialize subtrees (e.g. systems, environments, folders) given by separate parsers.
+     * Only parsing is done in parallel. Post-import actions aren't independent across subtrees
+     * (they share the session cache of deserialized entities and parent collections, and some of them read DB),
+     * so they are performed afterwards in the calling thread, in the order of parsers
+     * and in the order they would be performed by sequential {@link #deserialize(JsonParser, BigInteger)} calls.
+     *
+     * @param parsers - parsers of the subtrees, each with its own input
+     * @return deserialized objects, in the order of parsers
+     */
+    public List<Storable> deserializeAll(List<JsonParser> parsers, BigInteger sessionId) throws IOException {
+        List<CompletableFuture<ParsedSubtree>> futures = new ArrayList<>(parsers.size());
+        for (JsonParser parser : parsers) {
+            futures.add(CompletableFuture.supplyAsync(() -> parse(parser, sessionId), DeserializerPool.INSTANCE));
+        }
+        List<ParsedSubtree> subtrees = new ArrayList<>(parsers.size());
+        try {
+            for (CompletableFuture<ParsedSubtree> future : futures) {
+                subtrees.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        List<Storable> storables = new ArrayList<>(subtrees.size());
+        for (ParsedSubtree subtree : subtrees) {
+            for (Storable storable : subtree.pendingPostImport) {
+                storable.performPostImportActions(projectId, sessionId);
+            }
+            storables.add(subtree.storable);
+        }
+        return storables;
+    }
+
+    private ParsedSubtree parse(JsonParser parser, BigInteger sessionId) {
+        List<Storable> deferred = new ArrayList<>();
+        deferredPostImport.set(deferred);
+        try {
+            return new ParsedSubtree(deserialize(parser, sessionId), deferred);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deferredPostImport.remove();
+        }
+    }
+
     private Storable getDeserializedEntity(JsonParser p, JsonNode treeNode, BigInteger entityId) {
         String clazz = treeNode.get("type").asText();
         try {
             Class<? extends Storable> storableClass = Class.forName(clazz).asSubclass(Storable.class);
-            return ((ObjectMapper) p.getCodec()).readValue(treeNode.toString(), storableClass);
+            return p.getCodec().treeToValue(treeNode, storableClass);
         } catch (ClassNotFoundException | JsonProcessingException e) {
             LOGGER.warn(String.format("Class for type=%s of entity with id=%s was not found.", clazz, entityId));
             throw new IllegalArgumentException(e);
@@ -98,6 +171,15 @@ public class ImportedDataCache {
         importedDataCache.put(storableId, storable);
     }
 
+    /**
+     * Put the object if there is no object with the same id yet.
+     *
+     * @return object already cached, or null if the object is put
+     */
+    public Storable putIfAbsent(BigInteger storableId, Storable storable) {
+        return importedDataCache.putIfAbsent(storableId, storable);
+    }
+
     /**
      * Populate and return array of all imported objects from importedDataCache.
      *
@@ -118,6 +200,43 @@ public class ImportedDataCache {
         return storables;
     }
 
+    /**
+     * Get all imported objects ordered so that parents go before their children.
+     */
+    public List<Storable> getAllInDependencyOrder() {
+        List<Storable> storables = getAll();
+        Map<Storable, Integer> depths = new IdentityHashMap<>(storables.size());
+        for (Storable storable : storables) {
+            int depth = 0;
+            for (Storable parent = storable.getParent(); parent != null && depth < storables.size();
+                 parent = parent.getParent()) {
+                depth++;
+            }
+            depths.put(storable, depth);
+        }
+        storables.sort(Comparator.comparingInt(depths::get));
+        return storables;
+    }
+
+    /**
+     * Replicate all imported objects, parents first; a transaction per batch of objects,
+     * so rows of a batch are written by JDBC batches at commit.
+     */
+    public void replicateAll(int batchSize) throws Exception {
+        for (List<Storable> batch : Lists.partition(getAllInDependencyOrder(), Math.max(1, batchSize))) {
+            TxExecutor.execute(() -> {
+                for (Storable storable : batch) {
+                    storable.replicate();
+                }
+                return null;
+            }, TxExecutor.defaultWritableTransaction());
+        }
+    }
+
+    private static boolean isSimpleParent(Storable storable) {
+        return SIMPLE_PARENT_MARKER.equals(storable.getDescription());
+    }
+
     private boolean checkJsonSimpleParent(JsonNode node) {
         if (node == null || node.isNull() || !node.isTextual()) {
             return false;
@@ -133,4 +252,28 @@ public class ImportedDataCache {
     public void setProjectId(BigInteger projectId) {
         this.projectId = projectId;
     }
+
+    private static final class ParsedSubtree {
+
+        private final Storable storable;
+        private final List<Storable> pendingPostImport;
+
+        private ParsedSubtree(Storable storable, List<Storable> pendingPostImport) {
+            this.storable = storable;
+            this.pendingPostImport = pendingPostImport;
+        }
+    }
+
+    private static final class DeserializerPool {
+
+        private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+                ApplicationConfig.env == null ? Runtime.getRuntime().availableProcessors()
+                        : NumberUtils.toInt(ApplicationConfig.env.getProperty(IMPORT_PARALLELISM),
+                        Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "itf-import-deserializer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
 }
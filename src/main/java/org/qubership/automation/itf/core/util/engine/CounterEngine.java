@@ -16,40 +16,58 @@
 
 package org.qubership.automation.itf.core.util.engine;
 
-import java.util.Calendar;
-import java.util.Collection;
-import java.util.Map;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.COUNTER_RESERVATION_SIZE;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.time.DateUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.qubership.automation.itf.core.hibernate.spring.managers.executor.CounterObjectManager;
 import org.qubership.automation.itf.core.model.counter.Counter;
-import org.qubership.automation.itf.core.model.counter.CounterImpl;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
+import org.qubership.automation.itf.core.util.converter.IdConverter;
 import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.qubership.automation.itf.core.util.exception.CounterLimitIsExhaustedException;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Maps;
-
+/**
+ * Daily counters by owners.
+ * Counters are loaded from DB on first use of the owners and incremented under a lock of the counter only.
+ * Indexes are reserved in DB by ranges (counter.reservation.size, 10 by default) before they are issued,
+ * so an index is never issued twice, even after restart; unused indexes of a reserved range are skipped then.
+ * On a new day the counter starts from 1 again.
+ */
 public class CounterEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CounterEngine.class);
+    private static final int DEFAULT_RESERVATION_SIZE = 10;
 
-    private static CounterEngine INSTANCE = new CounterEngine();
+    private static CounterEngine INSTANCE = new CounterEngine(new DatabaseCounterStore(),
+            ApplicationConfig.env == null
+                    ? DEFAULT_RESERVATION_SIZE
+                    : NumberUtils.toInt(ApplicationConfig.env.getProperty(COUNTER_RESERVATION_SIZE),
+                    DEFAULT_RESERVATION_SIZE),
+            Clock.systemDefaultZone());
 
-    private final Map<Set<Object>, Counter> counterMap = Maps.newHashMap();
+    private final ConcurrentMap<String, CounterState> counters = new ConcurrentHashMap<>();
+    private final CounterStore store;
+    private final int reservationSize;
+    private final Clock clock;
 
-    //TODO need optimisation the constructor. getAll() for all counters is a bed idea.
-    private CounterEngine() {
-        Collection<? extends Counter> counters = CoreObjectManager.getInstance().getManager(Counter.class).getAll();
-        for (Counter counter : counters) {
-            if (DateUtils.isSameDay(Calendar.getInstance().getTime(), counter.getDate())) {
-                counterMap.put(counter.getOwners(), counter);
-            } else {
-                counter.remove();
-            }
-        }
+    CounterEngine(CounterStore store, int reservationSize, Clock clock) {
+        this.store = store;
+        this.reservationSize = Math.max(1, reservationSize);
+        this.clock = clock;
     }
 
     public static CounterEngine getInstance() {
@@ -57,21 +75,94 @@ public class CounterEngine {
     }
 
     /**
-     * TODO: Add JavaDoc.
+     * Get next index of the counter of the owners; new counter is created with the format if there is no counter.
+     *
+     * @return formatted index
+     * @throws CounterLimitIsExhaustedException if the limit of the format is reached or the counter can't be stored
      */
     public String nextIndex(Set<Object> owners, String counterFormat) throws CounterLimitIsExhaustedException {
         if (counterFormat == null) {
             LOGGER.warn("Counter format is null");
             return null;
         }
-        synchronized (counterMap) {
-            for (Map.Entry<Set<Object>, Counter> entry : counterMap.entrySet()) {
-                if (entry.getKey().equals(owners)) {
-                    return getNextIndexAndStore(entry.getValue());
-                }
+        Set<Object> actualOwners = owners == null ? Collections.emptySet() : owners;
+        String key = ownerKey(actualOwners);
+        CounterState state = counters.get(key);
+        if (state == null) {
+            CounterState created = new CounterState();
+            state = counters.putIfAbsent(key, created);
+            if (state == null) {
+                state = created;
+            }
+        }
+        synchronized (state) {
+            int index = next(state, actualOwners, counterFormat);
+            return prepareIndex(index, state.counter.getFormat());
+        }
+    }
+
+    /*  Owners are ids; the key doesn't depend on their order and representation (String or BigInteger).
+     */
+    static String ownerKey(Set<Object> owners) {
+        return owners.stream().map(String::valueOf).sorted().collect(Collectors.joining(","));
+    }
+
+    private int next(CounterState state, Set<Object> owners, String format) throws CounterLimitIsExhaustedException {
+        LocalDate today = LocalDate.now(clock);
+        Date now = new Date(clock.millis());
+        if (state.counter == null) {
+            try {
+                state.counter = store.find(owners);
+            } catch (Exception e) {
+                throw new CounterLimitIsExhaustedException("Unable to load counter", e);
+            }
+            if (state.counter != null) {
+                state.day = Instant.ofEpochMilli(state.counter.getDate().getTime()).atZone(clock.getZone())
+                        .toLocalDate();
+                state.issued = state.counter.getIndex() == null ? 0 : state.counter.getIndex();
+                state.reserved = state.issued;
+            }
+        }
+        if (state.counter == null) {
+            int reserved = Math.min(reservationSize, limit(format));
+            try {
+                state.counter = store.create(owners, format, now, reserved);
+            } catch (Exception e) {
+                throw new CounterLimitIsExhaustedException("Unable to create new counter", e);
+            }
+            state.day = today;
+            state.issued = 0;
+            state.reserved = reserved;
+        } else if (!today.equals(state.day)) {
+            state.day = today;
+            state.issued = 0;
+            state.reserved = 0;
+        }
+        int limit = limit(state.counter.getFormat());
+        if (state.issued >= limit) {
+            throw new CounterLimitIsExhaustedException("Counter limit is reached: current index = " + state.issued
+                    + ", format counter = " + state.counter.getFormat() + ", current date = " + state.day);
+        }
+        if (state.issued >= state.reserved) {
+            int reserved = Math.min(state.issued + reservationSize, limit);
+            try {
+                store.save(state.counter, now, reserved);
+            } catch (Exception e) {
+                throw new CounterLimitIsExhaustedException("Unable to store counter", e);
             }
-            //TODO if we will have more one Impl for counter then we will need edit signature
-            return newCounter(owners, counterFormat, CounterImpl.class);
+            state.reserved = reserved;
+        }
+        return ++state.issued;
+    }
+
+    private static int limit(String format) {
+        switch (format.length()) {
+            case 2:
+                return 99;
+            case 3:
+                return 999;
+            default:
+                return Integer.MAX_VALUE;
         }
     }
 
@@ -97,33 +188,67 @@ public class CounterEngine {
         return index.toString();
     }
 
-    private String newCounter(Set<Object> owners, String format, Class clazz) throws CounterLimitIsExhaustedException {
-        try {
+    /*  Guarded by the instance lock.
+     */
+    private static final class CounterState {
+        private Counter counter;
+        private LocalDate day;
+        private int issued;
+        private int reserved;
+    }
+
+    interface CounterStore {
+
+        /**
+         * Find counter of exactly these owners, or null.
+         */
+        Counter find(Set<Object> owners) throws Exception;
+
+        Counter create(Set<Object> owners, String format, Date date, int index) throws Exception;
+
+        void save(Counter counter, Date date, int index) throws Exception;
+    }
+
+    private static class DatabaseCounterStore implements CounterStore {
+
+        @Override
+        public Counter find(Set<Object> owners) throws Exception {
+            String key = ownerKey(owners);
+            BigInteger owner = owners.isEmpty() ? null : IdConverter.toBigInt(owners.iterator().next());
+            return TxExecutor.execute(() -> {
+                Counter found = null;
+                for (Counter counter : CoreObjectManager.getInstance()
+                        .getSpecialManager(Counter.class, CounterObjectManager.class).getByOwner(owner)) {
+                    if (key.equals(ownerKey(counter.getOwners()))
+                            && (found == null || counter.getDate().after(found.getDate()))) {
+                        found = counter;
+                    }
+                }
+                return found;
+            }, TxExecutor.readOnlyTransaction());
+        }
+
+        @Override
+        public Counter create(Set<Object> owners, String format, Date date, int index) throws Exception {
             return TxExecutor.execute(() -> {
                 Counter counter = CoreObjectManager.getInstance().getManager(Counter.class).create();
                 counter.setOwners(owners);
-                counter.setDate(Calendar.getInstance().getTime());
+                counter.setDate(date);
                 counter.setFormat(format);
-                counter.setIndex(1); // Set starting value to 1 (old variant: 0) in order to avoid subsequent call of
-                // 'getNextIndexAndStore'
+                counter.setIndex(index);
                 counter.store();
-                counterMap.put(owners, counter);
-                return prepareIndex(1, format);
+                return counter;
             }, TxExecutor.nestedWritableTransaction());
-        } catch (Exception e) {
-            throw new CounterLimitIsExhaustedException("Unable to create new counter", e);
         }
-    }
 
-    private String getNextIndexAndStore(Counter counter) throws CounterLimitIsExhaustedException {
-        try {
-            return TxExecutor.execute(() -> {
-                String index = prepareIndex(counter.getNextIndex(), counter.getFormat());
+        @Override
+        public void save(Counter counter, Date date, int index) throws Exception {
+            TxExecutor.execute(() -> {
+                counter.setDate(date);
+                counter.setIndex(index);
                 counter.store();
-                return index;
+                return null;
             }, TxExecutor.nestedWritableTransaction());
-        } catch (Exception e) {
-            throw new CounterLimitIsExhaustedException("Unable to store counter", e);
         }
     }
 }
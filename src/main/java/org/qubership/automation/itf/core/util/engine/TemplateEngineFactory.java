@@ -68,6 +68,14 @@ public class TemplateEngineFactory {
         init(Suppliers.ofInstance(instance));
     }
 
+    /**
+     * Check if the text has no references, directives or escapes, so rendering would return it as is.
+     * Texts passing the check may be used without the template engine.
+     */
+    public static boolean isPlainText(String text) {
+        return text.indexOf('$') < 0 && text.indexOf('#') < 0 && text.indexOf('\\') < 0;
+    }
+
     public static String process(Storable owner, String someString, JsonContext context) {
         return get().process(owner, someString, context);
     }
@@ -0,0 +1,203 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.generator.id;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.HibernateException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prefetched ids of one kind (configuration or reporting objects).
+ * Ids are taken from a lock-free queue; when it falls below the low watermark (half of the last block),
+ * the next block is fetched in background, so callers don't wait for the database.
+ * Block size follows consumption rate: ids consumed since the previous refill, per refill period,
+ * bounded by min and max block size.
+ * Only if the queue is empty, callers wait for the refill in progress (it's counted as a stall),
+ * at most the refill timeout.
+ */
+@Slf4j
+class IdStripe {
+
+    private static final String METRIC_PREFIX = "itf.id.generator.";
+
+    /**
+     * Source of ids, normally the database.
+     */
+    interface IdSource {
+        List<BigInteger> fetch(boolean forConfigObjects, int count) throws SQLException;
+    }
+
+    private final String name;
+    private final boolean forConfigObjects;
+    private final IdSource source;
+    private final Executor executor;
+    private final int minBlock;
+    private final int maxBlock;
+    private final long refillPeriodNanos;
+    private final long refillTimeoutMillis;
+
+    private final ConcurrentLinkedQueue<BigInteger> ids = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger available = new AtomicInteger();
+    private final LongAdder consumed = new LongAdder();
+    private final AtomicReference<CompletableFuture<Void>> refill = new AtomicReference<>();
+    private volatile int lowWatermark;
+    // Accessed by the single refill in progress only
+    private long lastRefillNanos;
+
+    private final Timer refillTimer;
+    private final Counter stalls;
+
+    IdStripe(String name, boolean forConfigObjects, IdSource source, Executor executor,
+             int minBlock, int maxBlock, long refillPeriodMillis, long refillTimeoutMillis) {
+        this.name = name;
+        this.forConfigObjects = forConfigObjects;
+        this.source = source;
+        this.executor = executor;
+        this.minBlock = Math.max(minBlock, 1);
+        this.maxBlock = Math.max(maxBlock, this.minBlock);
+        this.refillPeriodNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(refillPeriodMillis, 1));
+        this.refillTimeoutMillis = Math.max(refillTimeoutMillis, 1);
+        this.lowWatermark = this.minBlock / 2;
+        this.refillTimer = Timer.builder(METRIC_PREFIX + "refill").tag("stripe", name)
+                .register(Metrics.globalRegistry);
+        this.stalls = Counter.builder(METRIC_PREFIX + "stalls").tag("stripe", name)
+                .register(Metrics.globalRegistry);
+        Gauge.builder(METRIC_PREFIX + "available", available, AtomicInteger::get).tag("stripe", name)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Get next id.
+     *
+     * @throws HibernateException if ids can't be fetched from the database.
+     */
+    BigInteger next() {
+        while (true) {
+            BigInteger id = ids.poll();
+            if (id != null) {
+                consumed.increment();
+                if (available.decrementAndGet() < lowWatermark) {
+                    startRefill();
+                }
+                return id;
+            }
+            stalls.increment();
+            awaitRefill(startRefill());
+        }
+    }
+
+    int available() {
+        return available.get();
+    }
+
+    private CompletableFuture<Void> startRefill() {
+        while (true) {
+            CompletableFuture<Void> current = refill.get();
+            if (current != null) {
+                return current;
+            }
+            CompletableFuture<Void> started = new CompletableFuture<>();
+            if (refill.compareAndSet(null, started)) {
+                try {
+                    executor.execute(() -> doRefill(started));
+                } catch (RejectedExecutionException e) {
+                    log.error("Refill of {} ids is rejected: {}", name, e.toString());
+                    fail(started, e);
+                }
+                return started;
+            }
+        }
+    }
+
+    private void doRefill(CompletableFuture<Void> started) {
+        int block = nextBlockSize();
+        long start = System.nanoTime();
+        try {
+            List<BigInteger> fetched = source.fetch(forConfigObjects, block);
+            if (fetched.isEmpty()) {
+                throw new SQLException("No ids are returned by the database");
+            }
+            ids.addAll(fetched);
+            available.addAndGet(fetched.size());
+            lowWatermark = block / 2;
+            refillTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("{} ids: {} fetched in {} ms", name, fetched.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            refill.set(null);
+            started.complete(null);
+        } catch (Throwable e) {
+            log.error("Error while generating the next {} id: {}", name, e.toString());
+            fail(started, e);
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+
+    /*  The refill is reset before the future is failed, so the next caller starts a new one.
+     */
+    private void fail(CompletableFuture<Void> started, Throwable cause) {
+        refill.compareAndSet(started, null);
+        started.completeExceptionally(cause);
+    }
+
+    private int nextBlockSize() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        boolean first = lastRefillNanos == 0;
+        lastRefillNanos = now;
+        long count = consumed.sumThenReset();
+        if (first || elapsed <= 0) {
+            return minBlock;
+        }
+        long expected = (long) ((double) count * refillPeriodNanos / elapsed);
+        return (int) Math.max(minBlock, Math.min(maxBlock, expected));
+    }
+
+    private void awaitRefill(CompletableFuture<Void> future) {
+        try {
+            future.get(refillTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new HibernateException(String.format("Next %s ids are not fetched in %d ms", name,
+                    refillTimeoutMillis), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HibernateException(e);
+        } catch (ExecutionException e) {
+            throw new HibernateException(e.getCause());
+        }
+    }
+}
@@ -16,14 +16,20 @@
 
 package org.qubership.automation.itf.core.util.generator.id;
 
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.ID_GENERATOR_BLOCK_MAX;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.ID_GENERATOR_BLOCK_MIN;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.ID_GENERATOR_REFILL_PERIOD;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.ID_GENERATOR_REFILL_TIMEOUT;
+
 import java.io.Serializable;
-import java.math.BigInteger;
-import java.sql.SQLException;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.commons.lang3.math.NumberUtils;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGenerator;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 import org.qubership.automation.itf.core.util.generator.tools.InternalDataBaseSqlExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -34,8 +40,6 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class UniqueIdGenerator implements IdentifierGenerator {
 
-    private static final LinkedBlockingQueue<BigInteger> IDS = new LinkedBlockingQueue<>();
-    private static final LinkedBlockingQueue<BigInteger> IDS_REPORTING = new LinkedBlockingQueue<>();
     public static InternalDataBaseSqlExecutor INTERNAL_DATABASE_SQL_EXECUTOR;
 
     public UniqueIdGenerator() {
@@ -77,27 +81,45 @@ public class UniqueIdGenerator implements IdentifierGenerator {
         return getNextReportingIdFromQueue();
     }
 
-    private static synchronized Serializable getNextIdFromQueue() {
-        if (IDS.isEmpty()) {
-            try {
-                IDS.addAll(INTERNAL_DATABASE_SQL_EXECUTOR.selectArrayViaNonParameterizedFunction(true));
-            } catch (SQLException e) {
-                log.error("Error while generating the next id: " + e);
-                throw new HibernateException(e);
-            }
-        }
-        return IDS.poll();
+    private static Serializable getNextIdFromQueue() {
+        return Stripes.CONFIG.next();
+    }
+
+    private static Serializable getNextReportingIdFromQueue() {
+        return Stripes.REPORTING.next();
     }
 
-    private static synchronized Serializable getNextReportingIdFromQueue() {
-        if (IDS_REPORTING.isEmpty()) {
-            try {
-                IDS_REPORTING.addAll(INTERNAL_DATABASE_SQL_EXECUTOR.selectArrayViaNonParameterizedFunction(false));
-            } catch (SQLException e) {
-                log.error("Error while generating the next reporting id: " + e);
-                throw new HibernateException(e);
+    /*  Stripes are created on the first id request, when the executor is already injected.
+     */
+    private static final class Stripes {
+
+        private static final ExecutorService REFILL_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "UniqueIdGeneratorRefill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private static final IdStripe CONFIG = create("config", true);
+        private static final IdStripe REPORTING = create("reporting", false);
+
+        private static IdStripe create(String name, boolean forConfigObjects) {
+            int minBlock = 1000;
+            int maxBlock = 20000;
+            long refillPeriod = 10000;
+            long refillTimeout = 60000;
+            if (ApplicationConfig.env != null) {
+                minBlock = NumberUtils.toInt(ApplicationConfig.env.getProperty(ID_GENERATOR_BLOCK_MIN), minBlock);
+                maxBlock = NumberUtils.toInt(ApplicationConfig.env.getProperty(ID_GENERATOR_BLOCK_MAX), maxBlock);
+                refillPeriod = NumberUtils.toLong(ApplicationConfig.env.getProperty(ID_GENERATOR_REFILL_PERIOD),
+                        refillPeriod);
+                refillTimeout = NumberUtils.toLong(ApplicationConfig.env.getProperty(ID_GENERATOR_REFILL_TIMEOUT),
+                        refillTimeout);
             }
+            return new IdStripe(name, forConfigObjects, (config, count) -> {
+                if (INTERNAL_DATABASE_SQL_EXECUTOR == null) {
+                    throw new HibernateException("InternalDataBaseSqlExecutor is not initialized yet");
+                }
+                return INTERNAL_DATABASE_SQL_EXECUTOR.selectIds(config, count);
+            }, REFILL_EXECUTOR, minBlock, maxBlock, refillPeriod, refillTimeout);
         }
-        return IDS_REPORTING.poll();
     }
 }
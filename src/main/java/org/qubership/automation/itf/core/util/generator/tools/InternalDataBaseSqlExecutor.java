@@ -19,46 +19,78 @@ package org.qubership.automation.itf.core.util.generator.tools;
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class InternalDataBaseSqlExecutor {
 
-    private static final String GET_CONFIG_IDS_QUERY = "select getid() from (select generate_series(1,1000)) sto";
-    private static final String GET_REPORTING_IDS_QUERY = "select nextval('serial') from generate_series(1,1000)";
+    private static final String GET_CONFIG_IDS_QUERY = "select getid() from (select generate_series(1,?)) sto";
+    private static final String GET_REPORTING_IDS_QUERY = "select nextval('serial') from generate_series(1,?)";
+    private static final int DEFAULT_IDS_COUNT = 1000;
     @Value("${spring.datasource.url}")
     private String url;
     @Value("${spring.datasource.username}")
     private String username;
     @Value("${spring.datasource.password}")
     private String password;
+    @Autowired(required = false)
+    private DataSource dataSource;
+
+    /**
+     * Get List of 1000 BigInteger ids from internal main db.
+     *
+     * @return List of BigInteger ids
+     * @throws SQLException if can't connect to db or sql execution failed.
+     */
+    public List<BigInteger> selectArrayViaNonParameterizedFunction(boolean forConfigObjects) throws SQLException {
+        return selectIds(forConfigObjects, DEFAULT_IDS_COUNT);
+    }
 
     /**
      * Get List of BigInteger ids from internal main db.
+     * Connection is taken from the pooled datasource if it's configured, otherwise it's opened by DriverManager.
      * Just for info:
      *  - DriverManager.getConnectionTimeout() - returns 30 (seconds),
      *  - stmt.getQueryTimeout() - returns 0 (means to wait infinitely).
      *  May be, these defaults should be changed.
      *
+     * @param forConfigObjects - true for ids of configuration objects, false for reporting ones,
+     * @param count - number of ids to get.
      * @return List of BigInteger ids
      * @throws SQLException if can't connect to db or sql execution failed.
      */
-    public List<BigInteger> selectArrayViaNonParameterizedFunction(boolean forConfigObjects) throws SQLException {
-        List<BigInteger> values = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(url, username, password);
-            Statement stmt = connection.createStatement();
-            ResultSet rs = stmt.executeQuery(forConfigObjects ? GET_CONFIG_IDS_QUERY : GET_REPORTING_IDS_QUERY)) {
-            while (rs.next()) {
-                values.add(rs.getBigDecimal(1).toBigInteger());
+    public List<BigInteger> selectIds(boolean forConfigObjects, int count) throws SQLException {
+        List<BigInteger> values = new ArrayList<>(count);
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(
+                     forConfigObjects ? GET_CONFIG_IDS_QUERY : GET_REPORTING_IDS_QUERY)) {
+            stmt.setInt(1, count);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    values.add(rs.getBigDecimal(1).toBigInteger());
+                }
             }
         }
         return values;
     }
+
+    private Connection getConnection() throws SQLException {
+        Connection connection = dataSource == null
+                ? DriverManager.getConnection(url, username, password)
+                : dataSource.getConnection();
+        if (!connection.getAutoCommit()) {
+            connection.setAutoCommit(true);
+        }
+        return connection;
+    }
 }
@@ -16,10 +16,13 @@
 
 package org.qubership.automation.itf.core.util.helper;
 
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.MESSAGE_CONTENT_STREAMING;
+
 import java.lang.reflect.ParameterizedType;
 import java.util.Map;
 
 import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 import org.qubership.automation.itf.core.util.exception.ContentException;
 import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
 import org.qubership.automation.itf.core.util.provider.content.JsonContentProvider;
@@ -34,7 +37,13 @@ public class ContentHelper {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContentHelper.class);
 
     private static ContentHelper instance = new ContentHelper();
-    private final Map<String, MessageContentProvider<?>> providers = Maps.newHashMapWithExpectedSize(3);
+    private final Map<String, MessageContentProvider<?>> providers = Maps.newConcurrentMap();
+    private final MessageContentProvider<?> defaultXmlProvider = new XmlContentProvider(false);
+    private final MessageContentProvider<?> defaultJsonProvider = new JsonContentProvider(false);
+    /*  The instance may be created before Spring sets ApplicationConfig.env,
+        so the streaming setting is applied on the first use after that.
+     */
+    private volatile boolean configured;
 
     public static ContentHelper getInstance() {
         return instance;
@@ -45,8 +54,42 @@ public class ContentHelper {
     }
 
     private void initDefault() {
-        providers.put(ParsingRuleType.XPATH.toString(), new XmlContentProvider());
-        providers.put(ParsingRuleType.JSON_PATH.toString(), new JsonContentProvider());
+        providers.put(ParsingRuleType.XPATH.toString(), defaultXmlProvider);
+        providers.put(ParsingRuleType.JSON_PATH.toString(), defaultJsonProvider);
+        configureIfReady();
+    }
+
+    /*  Default providers are replaced only if they aren't replaced by setStreaming or registerProvider yet.
+     */
+    private void configureIfReady() {
+        if (configured || ApplicationConfig.env == null) {
+            return;
+        }
+        synchronized (providers) {
+            if (configured) {
+                return;
+            }
+            configured = true;
+            if (Boolean.parseBoolean(ApplicationConfig.env.getProperty(MESSAGE_CONTENT_STREAMING, "false"))) {
+                LOGGER.info("Message content streaming mode is on");
+                providers.replace(ParsingRuleType.XPATH.toString(), defaultXmlProvider, new XmlContentProvider(true));
+                providers.replace(ParsingRuleType.JSON_PATH.toString(), defaultJsonProvider,
+                        new JsonContentProvider(true));
+            }
+        }
+    }
+
+    /**
+     * Switch default XML and JSON providers to streaming (or back to tree) mode.
+     * In streaming mode message text is validated by StAX / Jackson streaming parser only;
+     * simple XPath / JsonPath rules are evaluated against the text, and the tree is built
+     * only if some rule needs it.
+     */
+    public void setStreaming(boolean streaming) {
+        configured = true;
+        LOGGER.info("Message content streaming mode is {}", streaming ? "on" : "off");
+        providers.put(ParsingRuleType.XPATH.toString(), new XmlContentProvider(streaming));
+        providers.put(ParsingRuleType.JSON_PATH.toString(), new JsonContentProvider(streaming));
     }
 
     public void registerProvider(String parsingRuleType, MessageContentProvider<?> provider) {
@@ -58,6 +101,7 @@ public class ContentHelper {
      */
     public void trySetContent(Message message, String parsingRuleType) throws ContentException {
         if (message.getContent() == null) {
+            configureIfReady();
             MessageContentProvider<?> provider = providers.get(parsingRuleType);
             if (provider != null && provider.supports(message)) {
                 message.setContent(provider.provide(message));
@@ -17,40 +17,124 @@
 package org.qubership.automation.itf.core.util.helper;
 
 import java.math.BigInteger;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.qubership.automation.itf.core.model.jpa.project.StubProject;
 import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants;
+import org.qubership.automation.itf.core.util.converter.IdConverter;
 import org.qubership.automation.itf.core.util.db.TxExecutor;
 import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+import org.qubership.automation.itf.core.util.services.CoreServices;
+import org.qubership.automation.itf.core.util.services.projectsettings.IProjectSettingsService;
+import org.qubership.automation.itf.core.util.services.projectsettings.ProjectSettingsSnapshot;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 public class FailTimeOut {
 
+    private static final TimeUnit DEFAULT_TIME_UNIT =
+            TimeUnit.valueOf(ProjectSettingsConstants.TC_TIMEOUT_FAIL_TIME_UNIT_DEFAULT_VALUE);
+    private static final int DEFAULT_VALUE = Integer.parseInt(ProjectSettingsConstants.TC_TIMEOUT_FAIL_DEFAULT_VALUE);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(DEFAULT_TIME_UNIT.toMillis(DEFAULT_VALUE));
+
+    /*  Timeouts read from DB, for projects which are absent in the project settings cache.
+        They are invalidated when the project is changed (right now and after commit, see invalidate);
+        expiration is a safety net for changes made bypassing the object manager.
+        A timeout read concurrently with invalidation is not cached (version is changed).
+     */
+    private static final Cache<BigInteger, Duration> DB_TIMEOUTS = CacheBuilder.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+    private static final AtomicLong VERSION = new AtomicLong();
+
     /**
      * Get project settings 'Fail timeout' and 'Fail timeout timeunit' and calculate timeout in msecs.
      *
      * @return {@link long} Fail timeout value in milliseconds
      */
     public static long getTimeout(BigInteger projectId) {
+        return getDuration(projectId).toMillis();
+    }
+
+    /**
+     * Get fail timeout of the project. Settings are taken from the local snapshot of project settings service,
+     * which is kept up to date by Hazelcast map events. If the project is absent there, its settings are read
+     * from DB once and cached until the project is changed.
+     *
+     * @param projectId - project id
+     * @return configured fail timeout, or default one if settings can't be read
+     */
+    public static Duration getDuration(BigInteger projectId) {
+        if (projectId == null) {
+            return DEFAULT_TIMEOUT;
+        }
+        Duration timeout = DB_TIMEOUTS.getIfPresent(projectId);
+        if (timeout != null) {
+            return timeout;
+        }
         try {
-            return TxExecutor.execute(() -> {
-                Map<String, String> props = CoreObjectManager.getInstance().getManager(StubProject.class)
-                    .getById(projectId).getStorableProp();
-                TimeUnit configuredTimeUnit = TimeUnit.valueOf(props.getOrDefault(
-                        ProjectSettingsConstants.TC_TIMEOUT_FAIL_TIME_UNIT,
-                        ProjectSettingsConstants.TC_TIMEOUT_FAIL_TIME_UNIT_DEFAULT_VALUE));
-                long configuredValue = Long.parseLong(props.getOrDefault(
-                        ProjectSettingsConstants.TC_TIMEOUT_FAIL,
-                        ProjectSettingsConstants.TC_TIMEOUT_FAIL_DEFAULT_VALUE));
-                return configuredTimeUnit.toMillis(configuredValue);
-            }, TxExecutor.readOnlyTransaction());
+            IProjectSettingsService settings = CoreServices.getProjectSettingsService();
+            ProjectSettingsSnapshot snapshot = settings == null ? null : settings.getSnapshot(projectId);
+            if (snapshot != null) {
+                return toDuration(snapshot);
+            }
+            long current = VERSION.get();
+            timeout = load(projectId);
+            if (VERSION.get() == current) {
+                DB_TIMEOUTS.put(projectId, timeout);
+            }
+            return timeout;
         } catch (Exception e) {
+            // Not cached, so settings will be read again next time
             LoggerFactory.getLogger(Config.class).warn("FailTimeOut.getTimeout({}) exception: ", projectId, e);
-            TimeUnit timeUnit = TimeUnit.valueOf(ProjectSettingsConstants.TC_TIMEOUT_FAIL_TIME_UNIT_DEFAULT_VALUE);
-            return timeUnit.toMillis(Long.parseLong(ProjectSettingsConstants.TC_TIMEOUT_FAIL_DEFAULT_VALUE));
+            return DEFAULT_TIMEOUT;
+        }
+    }
+
+    /**
+     * Forget timeout of the project read from DB; it's invoked when the project or its settings are changed.
+     * Timeout is dropped right now and once more after commit of the current transaction,
+     * because the timeout read by other thread before commit is the old one.
+     *
+     * @param projectId - project id (BigInteger or its string representation)
+     */
+    public static void invalidate(Object projectId) {
+        if (projectId != null) {
+            BigInteger id = IdConverter.toBigInt(projectId);
+            invalidateNow(id);
+            TxExecutor.runAfterCommit(() -> invalidateNow(id));
+        }
+    }
+
+    private static void invalidateNow(BigInteger projectId) {
+        VERSION.incrementAndGet();
+        DB_TIMEOUTS.invalidate(projectId);
+    }
+
+    private static Duration load(BigInteger projectId) throws Exception {
+        // Settings map is lazy, so it's copied inside the transaction
+        Map<String, String> props = TxExecutor.execute(() -> new HashMap<>(CoreObjectManager.getInstance()
+                .getManager(StubProject.class).getById(projectId).getStorableProp()), TxExecutor.readOnlyTransaction());
+        return toDuration(new ProjectSettingsSnapshot(props));
+    }
+
+    /*  Unknown time unit gives the default unit; non-integer value gives the default timeout.
+     */
+    private static Duration toDuration(ProjectSettingsSnapshot settings) {
+        try {
+            TimeUnit configuredTimeUnit = settings.getTimeUnit(ProjectSettingsConstants.TC_TIMEOUT_FAIL_TIME_UNIT,
+                    DEFAULT_TIME_UNIT);
+            int configuredValue = settings.getInt(ProjectSettingsConstants.TC_TIMEOUT_FAIL, DEFAULT_VALUE);
+            return Duration.ofMillis(configuredTimeUnit.toMillis(configuredValue));
+        } catch (NumberFormatException e) {
+            return DEFAULT_TIMEOUT;
         }
     }
 }
@@ -29,6 +29,7 @@ import javax.annotation.Nonnull;
 import org.qubership.automation.itf.core.hibernate.spring.managers.base.ObjectManager;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
 import org.qubership.automation.itf.core.model.jpa.environment.InboundTransportConfiguration;
+import org.qubership.automation.itf.core.model.jpa.environment.OutboundRoutes;
 import org.qubership.automation.itf.core.model.jpa.environment.OutboundTransportConfiguration;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.jpa.message.template.Template;
@@ -70,7 +71,8 @@ public class ServerUtils {
                                                  @Nonnull Message message,
                                                  Template template) throws TransportException {
         String typeName = configuration.getTypeName();
-        OutboundTransportConfiguration out = server.getOutbound(receiver, typeName);
+        Map<String, String> out = OutboundRoutes.getInstance().getProperties(server, receiver, typeName,
+                () -> server.getOutbound(receiver, typeName));
         return PropertiesConverter.convert(typeName,
                 configuration,
                 out,
@@ -90,7 +92,8 @@ public class ServerUtils {
                                                  Template template,
                                                  InstanceContext instanceContext) throws TransportException {
         String typeName = configuration.getTypeName();
-        OutboundTransportConfiguration out = server.getOutbound(receiver, typeName);
+        Map<String, String> out = OutboundRoutes.getInstance().getProperties(server, receiver, typeName,
+                () -> server.getOutbound(receiver, typeName));
         return PropertiesConverter.convert(instanceContext, typeName,
                 configuration,
                 out,
@@ -34,6 +34,7 @@ import org.qubership.automation.itf.core.util.annotation.ApplyToTransport;
 import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 import org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants;
 import org.qubership.automation.itf.core.util.loader.InterceptorClassLoader;
+import org.qubership.automation.itf.core.util.loader.InterceptorInstanceCache;
 import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +61,7 @@ public class InterceptorHolder {
      * Fill Holder with interceptor modules registered.
      */
     public void fillInterceptorHolder() {
+        InterceptorInstanceCache.getInstance().invalidateAll();
         String interceptorFolderPath = ApplicationConfig.env.getProperty(InstanceSettingsConstants.INTERCEPTORS_FOLDER);
         if (!StringUtils.isEmpty(interceptorFolderPath)) {
             File interceptorsFolder = new File(interceptorFolderPath);
@@ -80,6 +82,7 @@ public class InterceptorHolder {
 
     public void clearInterceptorHolder() {
         interceptors.clear();
+        InterceptorInstanceCache.getInstance().invalidateAll();
     }
 
     public Map<String, Map<String, Class<?>>> getInterceptors() {
@@ -50,7 +50,8 @@ public class AbstractStepIterator implements Iterator<StepInstance> {
         current.init(iterator.next());
         current.setParent(parent);
         InstanceContext context = current.getContext();
-        context.putAll(parent.getContext());
+        // Parent entries are read through instead of being copied for each step
+        context.layerOver(parent.getContext());
         context.setProjectId(parent.getContext().getProjectId());
         context.setProjectUuid(parent.getContext().getProjectUuid());
         if (context.getSP() != null) {
@@ -73,6 +73,7 @@ public class InterceptorClassLoader extends AbstractLoader<TransportInterceptor>
     @Deprecated
     public void cleanClassLoaders() {
         this.classLoaderHolder.clear();
+        InterceptorInstanceCache.getInstance().invalidateAll();
     }
 
     @Override
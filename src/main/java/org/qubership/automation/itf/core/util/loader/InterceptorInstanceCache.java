@@ -0,0 +1,185 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.loader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.automation.itf.core.model.interceptor.Interceptor;
+import org.qubership.automation.itf.core.model.interceptor.TransportInterceptor;
+import org.qubership.automation.itf.core.model.jpa.interceptor.InterceptorParams;
+import org.qubership.automation.itf.core.util.annotation.ThreadSafeInterceptor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Creates TransportInterceptor instances for interceptor configurations.
+ * Classes are resolved once (via classloaders registered in {@link InterceptorClassLoader}, else by Class.forName),
+ * their constructors are kept as method handles.
+ * Instances of classes annotated with {@link ThreadSafeInterceptor} are cached by interceptor ID and version.
+ */
+public class InterceptorInstanceCache {
+
+    private static final InterceptorInstanceCache INSTANCE = new InterceptorInstanceCache();
+    private static final MethodType GENERIC_CONSTRUCTOR = MethodType.methodType(TransportInterceptor.class,
+            Object.class);
+
+    private final Cache<String, InterceptorConstructor> constructors = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .build();
+    private final Cache<InstanceKey, TransportInterceptor> instances = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    public static InterceptorInstanceCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get interceptor instance to apply to a message.
+     *
+     * @param interceptor - interceptor configuration
+     * @return cached instance for thread-safe interceptor, new instance otherwise
+     */
+    public TransportInterceptor get(Interceptor interceptor) throws Exception {
+        InterceptorConstructor constructor = getConstructor(interceptor.getTypeName());
+        Object id = interceptor.getID();
+        if (!constructor.threadSafe || id == null) {
+            return constructor.newInstance(interceptor);
+        }
+        try {
+            return instances.get(new InstanceKey(id, interceptor.getVersion(), constructor),
+                    () -> constructor.newInstance(interceptor));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Forget cached instances of the interceptor. Should be called when its configuration is changed or deleted.
+     */
+    public void invalidate(Object interceptorId) {
+        if (interceptorId == null) {
+            return;
+        }
+        instances.asMap().keySet().removeIf(key -> Objects.equals(key.id, interceptorId));
+    }
+
+    /**
+     * Forget all classes, constructors and instances. Should be called when interceptors are (re)loaded.
+     */
+    public void invalidateAll() {
+        constructors.invalidateAll();
+        instances.invalidateAll();
+    }
+
+    private InterceptorConstructor getConstructor(String typeName) throws Exception {
+        try {
+            return constructors.get(typeName, () -> InterceptorConstructor.of(resolveClass(typeName)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    private static Class<? extends TransportInterceptor> resolveClass(String typeName)
+            throws ClassNotFoundException {
+        InterceptorClassLoader classLoader = InterceptorClassLoader.getInstance();
+        if (classLoader.getClassLoaderHolder().containsKey(typeName)) {
+            return classLoader.getClass(typeName);
+        }
+        return Class.forName(typeName).asSubclass(TransportInterceptor.class);
+    }
+
+    private static final class InterceptorConstructor {
+
+        private final Class<? extends TransportInterceptor> type;
+        private final MethodHandle handle;
+        private final boolean byParameters;
+        private final boolean threadSafe;
+
+        private InterceptorConstructor(Class<? extends TransportInterceptor> type, MethodHandle handle,
+                                       boolean byParameters) {
+            this.type = type;
+            this.handle = handle.asType(GENERIC_CONSTRUCTOR);
+            this.byParameters = byParameters;
+            this.threadSafe = type.isAnnotationPresent(ThreadSafeInterceptor.class);
+        }
+
+        /*  Interceptors are constructed by Interceptor (like InterceptorClassLoader does);
+            constructor by InterceptorParams is supported for old implementations.
+         */
+        private static InterceptorConstructor of(Class<? extends TransportInterceptor> type)
+                throws NoSuchMethodException, IllegalAccessException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            try {
+                return new InterceptorConstructor(type,
+                        lookup.findConstructor(type, MethodType.methodType(void.class, Interceptor.class)), false);
+            } catch (NoSuchMethodException e) {
+                return new InterceptorConstructor(type,
+                        lookup.findConstructor(type, MethodType.methodType(void.class, InterceptorParams.class)), true);
+            }
+        }
+
+        private TransportInterceptor newInstance(Interceptor interceptor) throws Exception {
+            try {
+                return (TransportInterceptor) handle.invokeExact(byParameters
+                        ? (Object) interceptor.getParameters() : (Object) interceptor);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot create interceptor " + type.getName(), t);
+            }
+        }
+    }
+
+    private static final class InstanceKey {
+
+        private final Object id;
+        private final Object version;
+        private final InterceptorConstructor constructor;
+
+        private InstanceKey(Object id, Object version, InterceptorConstructor constructor) {
+            this.id = id;
+            this.version = version;
+            this.constructor = constructor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InstanceKey)) {
+                return false;
+            }
+            InstanceKey that = (InstanceKey) o;
+            return id.equals(that.id) && Objects.equals(version, that.version) && constructor == that.constructor;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, version, System.identityHashCode(constructor));
+        }
+    }
+}
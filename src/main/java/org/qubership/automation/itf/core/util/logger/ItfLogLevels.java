@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.logger;
+
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.LOG_LEVEL;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.LOG_LEVEL_LOGGERS;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.LOG_LEVEL_PROJECTS;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+
+import ch.qos.logback.classic.Level;
+import com.google.common.base.Splitter;
+
+/**
+ * Level thresholds of {@link ItfLogger}s, read from the environment:
+ * <ul>
+ *     <li>log.level - default level, INFO if not set,</li>
+ *     <li>log.level.loggers - overrides by logger name or its package, e.g. "org.qubership.a=DEBUG,b.C=WARN",</li>
+ *     <li>log.level.projects - overrides by project id, e.g. "123=DEBUG"; they take precedence
+ *     for loggers bound to a project.</li>
+ * </ul>
+ * A level is enabled if it's the threshold or higher. Loggers are not registered anywhere: each logger
+ * resolves its threshold against the current thresholds and re-resolves it only after a refresh,
+ * so a level check is a couple of volatile reads and logger creation takes no lock.
+ */
+public final class ItfLogLevels {
+
+    private static final Splitter.MapSplitter OVERRIDES_SPLITTER = Splitter.on(',').omitEmptyStrings()
+            .trimResults().withKeyValueSeparator(Splitter.on('=').trimResults());
+    private static volatile Thresholds thresholds = new Thresholds(Level.INFO, Collections.emptyMap(),
+            Collections.emptyMap());
+
+    private ItfLogLevels() {
+    }
+
+    /**
+     * Read thresholds from the environment; loggers pick them up on their next level check.
+     * Invalid settings are ignored.
+     */
+    public static void refresh(Environment environment) {
+        thresholds = new Thresholds(Level.toLevel(environment.getProperty(LOG_LEVEL), Level.INFO),
+                parse(environment.getProperty(LOG_LEVEL_LOGGERS)), parse(environment.getProperty(LOG_LEVEL_PROJECTS)));
+    }
+
+    static Thresholds current() {
+        return thresholds;
+    }
+
+    private static Map<String, Level> parse(String overrides) {
+        if (overrides == null || overrides.trim().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Level> levels = new HashMap<>();
+        try {
+            for (Map.Entry<String, String> entry : OVERRIDES_SPLITTER.split(overrides).entrySet()) {
+                Level level = Level.toLevel(entry.getValue(), null);
+                if (level != null) {
+                    levels.put(entry.getKey(), level);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return Collections.emptyMap();
+        }
+        return levels;
+    }
+
+    static final class Thresholds {
+        private final Level defaultLevel;
+        private final Map<String, Level> loggers;
+        private final Map<String, Level> projects;
+
+        private Thresholds(Level defaultLevel, Map<String, Level> loggers, Map<String, Level> projects) {
+            this.defaultLevel = defaultLevel;
+            this.loggers = loggers;
+            this.projects = projects;
+        }
+
+        int get(String loggerName, String projectId) {
+            Level level = projectId == null ? null : projects.get(projectId);
+            for (String name = loggerName; level == null && name != null; name = parent(name)) {
+                level = loggers.get(name);
+            }
+            return (level == null ? defaultLevel : level).toInt();
+        }
+
+        private static String parent(String name) {
+            int dot = name.lastIndexOf('.');
+            return dot < 0 ? null : name.substring(0, dot);
+        }
+    }
+}
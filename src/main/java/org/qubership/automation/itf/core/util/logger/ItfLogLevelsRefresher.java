@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.logger;
+
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.LOG_LEVEL;
+
+import javax.annotation.Nonnull;
+
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies log level settings to {@link ItfLogger}s on startup and when they are changed in config.
+ */
+@Component
+public class ItfLogLevelsRefresher implements EnvironmentAware {
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(@Nonnull Environment environment) {
+        this.environment = environment;
+        ItfLogLevels.refresh(environment);
+    }
+
+    /**
+     * Refresh thresholds if any of log.level* settings is changed.
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith(LOG_LEVEL))) {
+            ItfLogLevels.refresh(environment);
+        }
+    }
+}
@@ -16,24 +16,37 @@
 
 package org.qubership.automation.itf.core.util.logger;
 
-import org.qubership.automation.itf.core.util.config.ApplicationConfig;
+import org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 
 import ch.qos.logback.classic.Level;
 
+/**
+ * Logger filtered by ITF log level settings (see {@link ItfLogLevels}) before the underlying logger.
+ */
 public class ItfLogger implements Logger {
-    public static final String LOG_LEVEL = "log.level";
+    public static final String LOG_LEVEL = InstanceSettingsConstants.LOG_LEVEL;
 
-    private Logger logger;
+    private final Logger logger;
+    private final String projectId;
+    private volatile ResolvedThreshold threshold;
 
     public static Logger getLogger(Class classLogger) {
-        return new ItfLogger(LoggerFactory.getLogger(classLogger));
+        return new ItfLogger(LoggerFactory.getLogger(classLogger), null);
+    }
+
+    /**
+     * Get logger using log level override of the project, if any.
+     */
+    public static Logger getLogger(Class classLogger, Object projectId) {
+        return new ItfLogger(LoggerFactory.getLogger(classLogger), projectId == null ? null : projectId.toString());
     }
 
-    private ItfLogger(Logger logger) {
+    private ItfLogger(Logger logger, String projectId) {
         this.logger = logger;
+        this.projectId = projectId;
     }
 
     @Override
@@ -442,9 +455,29 @@ public class ItfLogger implements Logger {
     }
 
     private boolean logLevelEnabled(Level level) {
-        //TODO: Implement the getting project ID from UI (for ITF configuration platform).
-        // We can provide it from outside as method parameter or
-        // as configuration common properties for all projects (get it as current project id below)
-        return level.toString().equals(ApplicationConfig.env.getProperty(LOG_LEVEL,"INFO").toUpperCase());
+        return level.levelInt >= threshold();
+    }
+
+    private int threshold() {
+        ItfLogLevels.Thresholds current = ItfLogLevels.current();
+        ResolvedThreshold resolved = threshold;
+        if (resolved == null || resolved.thresholds != current) {
+            resolved = new ResolvedThreshold(current, current.get(getName(), projectId));
+            threshold = resolved;
+        }
+        return resolved.level;
+    }
+
+    /*  Threshold of this logger together with the thresholds it's resolved from,
+        so the pair is replaced atomically when thresholds are refreshed.
+     */
+    private static final class ResolvedThreshold {
+        private final ItfLogLevels.Thresholds thresholds;
+        private final int level;
+
+        private ResolvedThreshold(ItfLogLevels.Thresholds thresholds, int level) {
+            this.thresholds = thresholds;
+            this.level = level;
+        }
     }
 }
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.parser;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Pattern;
+
+import org.jdom2.xpath.XPathExpression;
+import org.jdom2.xpath.XPathFactory;
+
+import com.jayway.jsonpath.JsonPath;
+import lombok.Getter;
+
+/**
+ * Parsing rule expression compiled once for its {@link ParsingRuleType}.
+ * Only the part relevant for the type is filled:
+ * <ul>
+ *     <li>REGEX, REGEX_URI - pattern,</li>
+ *     <li>REGEX_HEADER - header name and pattern (pattern is null if expression has no '/'),</li>
+ *     <li>XPATH - xpath expression,</li>
+ *     <li>JSON_PATH - json path.</li>
+ * </ul>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class CompiledParsingRule {
+
+    @Getter
+    private final ParsingRuleType type;
+    @Getter
+    private final String expression;
+    @Getter
+    private final Pattern pattern;
+    @Getter
+    private final String headerName;
+    @Getter
+    private final JsonPath jsonPath;
+    /*  Tokens of simple definite json path / steps of simple absolute xpath, to evaluate many rules at once.
+        Null if the expression is not simple.
+     */
+    @Getter
+    private final List<Object> jsonPathTokens;
+    @Getter
+    private final List<String> xpathSteps;
+    private final XPathExpression<Object> xpathPrototype;
+
+    /*  JDOM XPathExpression keeps navigator state, so it is not thread-safe.
+        Clones of the prototype are borrowed from a small pool instead of being compiled per message.
+        The pool is bounded: clones above the limit are dropped on release, so a rule holds at most
+        XPATH_POOL_SIZE clones regardless of the number of threads, and they go away with the rule.
+     */
+    private static final int XPATH_POOL_SIZE = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    private final BlockingQueue<XPathExpression<Object>> xpathPool;
+
+    private CompiledParsingRule(ParsingRuleType type, String expression, Pattern pattern, String headerName,
+                                JsonPath jsonPath, XPathExpression<Object> xpathPrototype) {
+        this.type = type;
+        this.expression = expression;
+        this.pattern = pattern;
+        this.headerName = headerName;
+        this.jsonPath = jsonPath;
+        this.jsonPathTokens = jsonPath == null ? null : JsonPathTrie.tokenize(jsonPath);
+        this.xpathSteps = xpathPrototype == null ? null : XPathTrie.steps(expression);
+        this.xpathPrototype = xpathPrototype;
+        this.xpathPool = xpathPrototype == null ? null : new ArrayBlockingQueue<>(XPATH_POOL_SIZE);
+    }
+
+    /**
+     * Compile the expression for the parsing rule type.
+     * Compilation exceptions are the same as thrown by the corresponding compile methods.
+     *
+     * @param type       - parsing rule type
+     * @param expression - parsed (already rendered) expression of the rule
+     * @return compiled rule
+     */
+    public static CompiledParsingRule compile(ParsingRuleType type, String expression) {
+        switch (type) {
+            case REGEX:
+            case REGEX_URI:
+                return new CompiledParsingRule(type, expression, Pattern.compile(expression), null, null, null);
+            case REGEX_HEADER:
+                if (!expression.contains("/")) {
+                    return new CompiledParsingRule(type, expression, null, expression, null, null);
+                }
+                String[] splitExpression = expression.split("/", 2);
+                return new CompiledParsingRule(type, expression, Pattern.compile(splitExpression[1]),
+                        splitExpression[0], null, null);
+            case XPATH:
+                return new CompiledParsingRule(type, expression, null, null, null,
+                        XPathFactory.instance().compile(expression));
+            case JSON_PATH:
+                return new CompiledParsingRule(type, expression, null, null, JsonPath.compile(expression), null);
+            default:
+                throw new IllegalArgumentException("Undefined type of parsing rule: " + type.name());
+        }
+    }
+
+    /**
+     * Borrow xpath expression instance for exclusive use by the current thread.
+     * It should be returned via {@link #releaseXpathExpression(XPathExpression)} after evaluation.
+     *
+     * @return pooled or newly cloned expression, null if the rule is not xpath one
+     */
+    public XPathExpression<Object> borrowXpathExpression() {
+        if (xpathPrototype == null) {
+            return null;
+        }
+        XPathExpression<Object> expression = xpathPool.poll();
+        return expression == null ? xpathPrototype.clone() : expression;
+    }
+
+    /**
+     * Return xpath expression borrowed via {@link #borrowXpathExpression()}.
+     * The expression is dropped if the pool is full.
+     */
+    public void releaseXpathExpression(XPathExpression<Object> expression) {
+        if (expression != null && xpathPool != null) {
+            xpathPool.offer(expression);
+        }
+    }
+
+    public boolean isCompiledFrom(ParsingRuleType type, String expression) {
+        return this.type == type && this.expression.equals(expression);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.parser;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Cache of compiled parsing rules.
+ * Rules are keyed by ID and version, so an edited rule (new version) is compiled again;
+ * rules without ID (or with expression rendered differently per message) are compiled via expression cache.
+ */
+public class CompiledParsingRules {
+
+    private static final CompiledParsingRules INSTANCE = new CompiledParsingRules();
+    private static final int MAX_SIZE = 20000;
+
+    private final Cache<RuleKey, CompiledParsingRule> byRule = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+    private final Cache<ExpressionKey, CompiledParsingRule> byExpression = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    public static CompiledParsingRules getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get compiled form of the rule's current parsed expression.
+     *
+     * @param parsingRule - parsing rule, its parsedExpression must be already computed
+     * @return compiled rule
+     */
+    public CompiledParsingRule get(ParsingRule<?> parsingRule) {
+        ParsingRuleType type = parsingRule.getParsingType();
+        String expression = parsingRule.getParsedExpression();
+        Object id = parsingRule.getID();
+        if (id == null) {
+            return get(type, expression);
+        }
+        RuleKey ruleKey = new RuleKey(id, parsingRule.getVersion());
+        CompiledParsingRule compiled = byRule.getIfPresent(ruleKey);
+        if (compiled == null || !compiled.isCompiledFrom(type, expression)) {
+            compiled = get(type, expression);
+            byRule.put(ruleKey, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Get compiled expression of the type.
+     * Compilation exceptions (PatternSyntaxException, InvalidPathException...) are rethrown as is.
+     */
+    public CompiledParsingRule get(ParsingRuleType type, String expression) {
+        try {
+            return byExpression.get(new ExpressionKey(type, expression),
+                    () -> CompiledParsingRule.compile(type, expression));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalArgumentException(e.getCause());
+        }
+    }
+
+    /**
+     * Forget compiled versions of the rule. Should be called when the rule is edited or deleted.
+     */
+    public void invalidate(Object ruleId) {
+        if (ruleId == null) {
+            return;
+        }
+        byRule.asMap().keySet().removeIf(key -> Objects.equals(key.id, ruleId));
+    }
+
+    public void invalidateAll() {
+        byRule.invalidateAll();
+        byExpression.invalidateAll();
+    }
+
+    private static final class RuleKey {
+        private final Object id;
+        private final Object version;
+
+        private RuleKey(Object id, Object version) {
+            this.id = id;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuleKey)) {
+                return false;
+            }
+            RuleKey ruleKey = (RuleKey) o;
+            return id.equals(ruleKey.id) && Objects.equals(version, ruleKey.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, version);
+        }
+    }
+
+    private static final class ExpressionKey {
+        private final ParsingRuleType type;
+        private final String expression;
+
+        private ExpressionKey(ParsingRuleType type, String expression) {
+            this.type = type;
+            this.expression = expression;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey that = (ExpressionKey) o;
+            return type == that.type && Objects.equals(expression, that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, expression);
+        }
+    }
+}
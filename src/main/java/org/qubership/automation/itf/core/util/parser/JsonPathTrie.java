@@ -0,0 +1,254 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Prefix tree of simple definite JSON paths ($['a']['b'][0]...), evaluated by a single walk over the document.
+ * Results are the same as JsonPath gives with default configuration:
+ * a value (may be null) for existing path, nothing if path is not found.
+ * The trie can be evaluated by Jackson streaming parser as well; then only values found are materialized.
+ *
+ * @param <R> - type of objects (rules) the paths belong to
+ */
+class JsonPathTrie<R> {
+
+    private static final Pattern NORMALIZED_PATH = Pattern.compile("^\\$((?:\\['[^'\\\\]*'\\]|\\[-?\\d+\\])*)$");
+    private static final Pattern TOKEN = Pattern.compile("\\['([^'\\\\]*)'\\]|\\[(-?\\d+)\\]");
+
+    private final Node<R> root = new Node<>();
+    private int size;
+    private boolean negativeIndexes;
+
+    /**
+     * Split the path into tokens: String for property, Integer for array index.
+     *
+     * @return tokens or null if the path is not simple definite one
+     */
+    static List<Object> tokenize(JsonPath jsonPath) {
+        if (!jsonPath.isDefinite()) {
+            return null;
+        }
+        Matcher pathMatcher = NORMALIZED_PATH.matcher(jsonPath.getPath());
+        if (!pathMatcher.matches()) {
+            return null;
+        }
+        List<Object> tokens = new ArrayList<>();
+        Matcher tokenMatcher = TOKEN.matcher(pathMatcher.group(1));
+        while (tokenMatcher.find()) {
+            if (tokenMatcher.group(1) != null) {
+                tokens.add(tokenMatcher.group(1));
+            } else {
+                try {
+                    tokens.add(Integer.valueOf(tokenMatcher.group(2)));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return Collections.unmodifiableList(tokens);
+    }
+
+    void add(R owner, List<Object> tokens) {
+        Node<R> node = root;
+        for (Object token : tokens) {
+            node = node.children.computeIfAbsent(token, key -> new Node<>());
+            if (token instanceof Integer && (Integer) token < 0) {
+                negativeIndexes = true;
+            }
+        }
+        node.owners.add(owner);
+        size++;
+    }
+
+    /**
+     * Check if the trie can be evaluated by streaming parser:
+     * there are no indexes from the end of array and no paths selecting the whole document.
+     */
+    boolean isStreamable() {
+        return !negativeIndexes && root.owners.isEmpty();
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Walk the document once.
+     *
+     * @return values found, by owner; owners whose paths are not found are absent
+     */
+    Map<R, Object> evaluate(Object document) {
+        Map<R, Object> result = new IdentityHashMap<>(size);
+        walk(root, document, result);
+        return result;
+    }
+
+    /**
+     * Read the document once by streaming parser (see {@link #isStreamable()}).
+     * Root array is treated as {"array": [...]}, like JsonContentProvider does.
+     * Values are built as json-simple objects; for duplicate keys the last one wins, like in json-simple.
+     * The whole text is read, so it's validated in the same pass.
+     *
+     * @return values found, by owner; owners whose paths are not found are absent
+     * @throws IOException if the text is not a json object or array
+     */
+    Map<R, Object> evaluate(JsonParser parser) throws IOException {
+        Map<R, Object> result = new IdentityHashMap<>(size);
+        Set<Node<R>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_ARRAY) {
+            Node<R> array = root.children.get("array");
+            if (array != null) {
+                walk(array, parser, result, visited);
+            } else {
+                parser.skipChildren();
+            }
+        } else if (first == JsonToken.START_OBJECT) {
+            walk(root, parser, result, visited);
+        } else {
+            throw new JsonParseException(parser, "Json object or array is expected");
+        }
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, "Unexpected content after the root value");
+        }
+        return result;
+    }
+
+    private void walk(Node<R> node, JsonParser parser, Map<R, Object> result, Set<Node<R>> visited)
+            throws IOException {
+        if (!node.owners.isEmpty()) {
+            walk(node, readValue(parser), result);
+            return;
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node<R> child = node.children.get(parser.getCurrentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    if (!visited.add(child)) {
+                        forget(child, result);
+                    }
+                    walk(child, parser, result, visited);
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Node<R> child = node.children.get(index++);
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    walk(child, parser, result, visited);
+                }
+            }
+        }
+    }
+
+    /*  Duplicate key: the value found under the previous one is replaced, like in json-simple map.
+     */
+    private void forget(Node<R> node, Map<R, Object> result) {
+        for (R owner : node.owners) {
+            result.remove(owner);
+        }
+        for (Node<R> child : node.children.values()) {
+            forget(child, result);
+        }
+    }
+
+    /*  Same types as json-simple parser produces.
+     */
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    object.put(name, readValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return Long.valueOf(parser.getText());
+            case VALUE_NUMBER_FLOAT:
+                return Double.valueOf(parser.getText());
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private void walk(Node<R> node, Object value, Map<R, Object> result) {
+        for (R owner : node.owners) {
+            result.put(owner, value);
+        }
+        for (Map.Entry<Object, Node<R>> child : node.children.entrySet()) {
+            Object token = child.getKey();
+            if (token instanceof String) {
+                if (value instanceof Map && ((Map) value).containsKey(token)) {
+                    walk(child.getValue(), ((Map) value).get(token), result);
+                }
+            } else if (value instanceof List) {
+                List list = (List) value;
+                int index = (Integer) token;
+                if (index < 0) {
+                    index += list.size();
+                }
+                if (index >= 0 && index < list.size()) {
+                    walk(child.getValue(), list.get(index), result);
+                }
+            }
+        }
+    }
+
+    private static final class Node<R> {
+        private final Map<Object, Node<R>> children = new HashMap<>();
+        private final List<R> owners = new ArrayList<>(1);
+    }
+}
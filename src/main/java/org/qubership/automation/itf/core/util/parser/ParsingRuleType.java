@@ -16,13 +16,20 @@
 
 package org.qubership.automation.itf.core.util.parser;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.apache.commons.lang3.StringUtils;
 import org.jdom2.Attribute;
 import org.jdom2.Element;
@@ -30,15 +37,19 @@ import org.jdom2.Text;
 import org.jdom2.output.Format;
 import org.jdom2.output.XMLOutputter;
 import org.jdom2.xpath.XPathExpression;
-import org.jdom2.xpath.XPathFactory;
 import org.qubership.atp.common.utils.regex.TimeoutRegexCharSequence;
+import org.qubership.automation.itf.core.model.content.Content;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.jpa.message.parser.MessageParameter;
 import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+import org.qubership.automation.itf.core.util.exception.ContentException;
+import org.qubership.automation.itf.core.util.provider.content.JsonContentProvider;
+import org.qubership.automation.itf.core.util.provider.content.StreamableContent;
+import org.qubership.automation.itf.core.util.provider.content.XmlContentProvider;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.google.gson.Gson;
 import com.jayway.jsonpath.InvalidJsonException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -58,7 +69,7 @@ public enum ParsingRuleType {
             MessageParameter.Builder builder = MessageParameter.build(parsingRule.getParamName(), parsingRule)
                     .multiple(parsingRule.getMultiple()).setAutosave(parsingRule.getAutosave());
             if (!StringUtils.isEmpty(message.getText())) {
-                Pattern pattern = Pattern.compile(parsingRule.getParsedExpression());
+                Pattern pattern = compiled(parsingRule).getPattern();
                 Matcher matcher = pattern.matcher(new TimeoutRegexCharSequence(message.getText(),
                         maxRegexTimeoutSeconds));
                 while (matcher.find()) {
@@ -95,7 +106,8 @@ public enum ParsingRuleType {
                 namespaces.add(element.getNamespace());
             namespaces.addAll(element.getAdditionalNamespaces());
             */
-            XPathExpression<Object> xpathExpr = XPathFactory.instance().compile(parsingRule.getParsedExpression());
+            CompiledParsingRule compiled = compiled(parsingRule);
+            XPathExpression<Object> xpathExpr = compiled.borrowXpathExpression();
             /*
             XPathExpression<Object> xpathExpr = XPathFactory.instance().compile(parsingRule.getExpression(),
                     Filters.fpassthrough(), null, namespaces);
@@ -103,27 +115,106 @@ public enum ParsingRuleType {
             List evaluate;
             try {
                 evaluate = xpathExpr.evaluate(element);
-                for (Object o : evaluate) {
-                    if (o instanceof Element) {
-                        xmlOutputter.get().setFormat(Format.getPrettyFormat());
-                        builder.multipleValue(xmlOutputter.get().outputString((Element) o));
-                    } else if (o instanceof Text) {
-                        builder.multipleValue(((org.jdom2.Content) o).getValue());
-                    } else if (o instanceof Attribute) {
-                        builder.multipleValue(((Attribute) o).getValue());
-                    } else {
-                        builder.multipleValue(o.toString());
-                    }
-                    if (!parsingRule.getMultiple()) {
-                        break;
-                    }
-                }
+                buildXpathResult(parsingRule, evaluate, builder);
                 return builder.get();
             } catch (IllegalArgumentException e) {
                 //let's write more informed message, which of parsing rules is dead
                 throw new IllegalArgumentException(String.format(
                         "Failed applying xpath. Probably xPaths is incorrect. ParsingRule '%s', at %s",
                         parsingRule.getParamName(), parsingRule.getParsingRulePath()), e);
+            } finally {
+                compiled.releaseXpathExpression(xpathExpr);
+            }
+        }
+
+        @Override
+        public boolean supportsBatch() {
+            return true;
+        }
+
+        /**
+         * Simple absolute xpaths (/a/b, /a/b/text(), /a/b/@c) of all rules are evaluated
+         * by one traversal of the document; other rules are evaluated one by one.
+         */
+        @Override
+        public Map<ParsingRule, MessageParameter> parseAll(Message message,
+                                                           List<? extends ParsingRule> parsingRules)
+                throws ContentException {
+            Content<?> content = message.getContent();
+            boolean fromRoot = notMaterialized(content) || ((Element) content.get()).isRootElement();
+            XPathTrie<ParsingRule> trie = new XPathTrie<>();
+            List<ParsingRule> batched = new ArrayList<>(parsingRules.size());
+            List<ParsingRule> others = new ArrayList<>();
+            for (ParsingRule parsingRule : parsingRules) {
+                List<String> steps = fromRoot ? simpleSteps(parsingRule) : null;
+                if (steps == null) {
+                    others.add(parsingRule);
+                } else {
+                    trie.add(parsingRule, steps);
+                    batched.add(parsingRule);
+                }
+            }
+            Map<ParsingRule, MessageParameter> result = parseEach(message, others);
+            if (!trie.isEmpty()) {
+                Map<ParsingRule, List<Object>> found = trie.isStreamable() && notMaterialized(content)
+                        ? evaluateStream(trie, ((StreamableContent) content).getText())
+                        : null;
+                if (found == null) {
+                    found = trie.evaluate((Element) content.get());
+                }
+                for (ParsingRule parsingRule : batched) {
+                    MessageParameter.Builder builder = newBuilder(parsingRule);
+                    buildXpathResult(parsingRule, found.getOrDefault(parsingRule, Collections.emptyList()), builder);
+                    result.put(parsingRule, builder.get());
+                }
+            }
+            return result;
+        }
+
+        /*  The text is not validated before (see XmlContentProvider), so errors of the reader are content errors.
+         */
+        private Map<ParsingRule, List<Object>> evaluateStream(XPathTrie<ParsingRule> trie, String text)
+                throws ContentException {
+            XMLStreamReader reader = null;
+            try {
+                reader = XmlContentProvider.createReader(text);
+                return trie.evaluate(reader);
+            } catch (XMLStreamException e) {
+                throw new ContentException("Cannot parse XML in message", e);
+            } finally {
+                if (reader != null) {
+                    try {
+                        reader.close();
+                    } catch (XMLStreamException e) {
+                        // Nothing to do; the reader is over a string
+                    }
+                }
+            }
+        }
+
+        private List<String> simpleSteps(ParsingRule parsingRule) {
+            try {
+                return compiled(parsingRule).getXpathSteps();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        private void buildXpathResult(ParsingRule parsingRule, List<?> evaluate, MessageParameter.Builder builder) {
+            for (Object o : evaluate) {
+                if (o instanceof Element) {
+                    xmlOutputter.get().setFormat(Format.getPrettyFormat());
+                    builder.multipleValue(xmlOutputter.get().outputString((Element) o));
+                } else if (o instanceof Text) {
+                    builder.multipleValue(((org.jdom2.Content) o).getValue());
+                } else if (o instanceof Attribute) {
+                    builder.multipleValue(((Attribute) o).getValue());
+                } else {
+                    builder.multipleValue(o.toString());
+                }
+                if (!parsingRule.getMultiple()) {
+                    break;
+                }
             }
         }
     }, REGEX_URI {
@@ -137,7 +228,7 @@ public enum ParsingRuleType {
             MessageParameter.Builder builder = MessageParameter.build(parsingRule.getParamName(), parsingRule)
                     .multiple(parsingRule.getMultiple()).setAutosave(parsingRule.getAutosave());
             if (message.getConnectionProperties().get("uriParams") != null) {
-                Pattern pattern = Pattern.compile(parsingRule.getParsedExpression());
+                Pattern pattern = compiled(parsingRule).getPattern();
                 Matcher matcher = pattern.matcher((String) message.getConnectionProperties().get("uriParams"));
                 if (matcher.find()) {
                     buildResult(parsingRule, matcher, builder);
@@ -158,30 +249,8 @@ public enum ParsingRuleType {
                     .multiple(parsingRule.getMultiple()).setAutosave(parsingRule.getAutosave());
             try {
                 Object document = message.getContent().get();
-                Object parsingResult = JsonPath.read(document, parsingRule.getParsedExpression());
-                if (parsingRule.getMultiple()) {
-                    if (parsingResult instanceof List) {
-                        ((List<Object>) parsingResult).forEach(entry -> builder.multipleValue(jsonEntry2String(entry)));
-                    } else {
-                        builder.multipleValue(jsonEntry2String(parsingResult));
-                    }
-                } else {
-                    String result;
-                    if (parsingResult instanceof List) {
-                        List<Object> listResult = (List<Object>) parsingResult;
-                        if (listResult.isEmpty()) {
-                            result = "";
-                        } else {
-                            // It's strange but parsingResult can be list of size=1
-                            // but .get(0) == null (All elements are null)
-                            Object obj = listResult.get(0);
-                            result = Objects.isNull(obj) ? "" : jsonEntry2String(obj);
-                        }
-                    } else {
-                        result = Objects.isNull(parsingResult) ? "" : jsonEntry2String(parsingResult);
-                    }
-                    builder.multipleValue(result);
-                }
+                Object parsingResult = compiled(parsingRule).getJsonPath().read(document);
+                buildJsonResult(parsingRule, parsingResult, builder);
                 return builder.get();
             } catch (InvalidJsonException ex) {
                 // Currently each message is applicable for JsonPath (parsingRule.applicable(message)
@@ -200,6 +269,99 @@ public enum ParsingRuleType {
             }
         }
 
+        @Override
+        public boolean supportsBatch() {
+            return true;
+        }
+
+        /**
+         * Simple definite json paths ($.a.b[0].c) of all rules are evaluated by one walk over the document;
+         * other rules are evaluated one by one. Not found path gives empty parameter, like PathNotFoundException.
+         */
+        @Override
+        public Map<ParsingRule, MessageParameter> parseAll(Message message,
+                                                           List<? extends ParsingRule> parsingRules)
+                throws ContentException {
+            JsonPathTrie<ParsingRule> trie = new JsonPathTrie<>();
+            List<ParsingRule> batched = new ArrayList<>(parsingRules.size());
+            List<ParsingRule> others = new ArrayList<>();
+            for (ParsingRule parsingRule : parsingRules) {
+                List<Object> tokens = simpleTokens(parsingRule);
+                if (tokens == null) {
+                    others.add(parsingRule);
+                } else {
+                    trie.add(parsingRule, tokens);
+                    batched.add(parsingRule);
+                }
+            }
+            Map<ParsingRule, MessageParameter> result = parseEach(message, others);
+            if (!trie.isEmpty()) {
+                Content<?> content = message.getContent();
+                Map<ParsingRule, Object> found = trie.isStreamable() && notMaterialized(content)
+                        ? evaluateStream(trie, ((StreamableContent) content).getText())
+                        : null;
+                if (found == null) {
+                    found = trie.evaluate(content.get());
+                }
+                for (ParsingRule parsingRule : batched) {
+                    MessageParameter.Builder builder = newBuilder(parsingRule);
+                    if (found.containsKey(parsingRule)) {
+                        buildJsonResult(parsingRule, found.get(parsingRule), builder);
+                    }
+                    result.put(parsingRule, builder.get());
+                }
+            }
+            return result;
+        }
+
+        /*  The text is not validated before (see JsonContentProvider), so parser errors are content errors.
+         */
+        private Map<ParsingRule, Object> evaluateStream(JsonPathTrie<ParsingRule> trie, String text)
+                throws ContentException {
+            try (JsonParser parser = JsonContentProvider.createParser(text)) {
+                return trie.evaluate(parser);
+            } catch (IOException e) {
+                throw new ContentException("Cannot parse JSON in message", e);
+            } catch (NumberFormatException e) {
+                log.debug("Streaming evaluation of json paths is failed, the tree will be built", e);
+                return null;
+            }
+        }
+
+        private List<Object> simpleTokens(ParsingRule parsingRule) {
+            try {
+                return compiled(parsingRule).getJsonPathTokens();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        private void buildJsonResult(ParsingRule parsingRule, Object parsingResult, MessageParameter.Builder builder) {
+            if (parsingRule.getMultiple()) {
+                if (parsingResult instanceof List) {
+                    ((List<Object>) parsingResult).forEach(entry -> builder.multipleValue(jsonEntry2String(entry)));
+                } else {
+                    builder.multipleValue(jsonEntry2String(parsingResult));
+                }
+            } else {
+                String result;
+                if (parsingResult instanceof List) {
+                    List<Object> listResult = (List<Object>) parsingResult;
+                    if (listResult.isEmpty()) {
+                        result = "";
+                    } else {
+                        // It's strange but parsingResult can be list of size=1
+                        // but .get(0) == null (All elements are null)
+                        Object obj = listResult.get(0);
+                        result = Objects.isNull(obj) ? "" : jsonEntry2String(obj);
+                    }
+                } else {
+                    result = Objects.isNull(parsingResult) ? "" : jsonEntry2String(parsingResult);
+                }
+                builder.multipleValue(result);
+            }
+        }
+
         private String jsonEntry2String(Object entry) {
             if (entry instanceof List || entry instanceof Map) {
                 return new Gson().toJson(entry);
@@ -249,13 +411,12 @@ public enum ParsingRuleType {
 
             String[] splitExpression = parsedExpression.split("/", 2);
             requiredHeaderName = splitExpression[0];
-            String expression = splitExpression[1];
 
             if (headers.get(requiredHeaderName) == null) {
                 return builder.get();
             }
 
-            Pattern pattern = Pattern.compile(expression);
+            Pattern pattern = compiled(parsingRule).getPattern();
             Matcher matcher = pattern.matcher(Objects.toString(headers.get(requiredHeaderName)));
             if (matcher.find()) {
                 buildResult(parsingRule, matcher, builder);
@@ -269,6 +430,50 @@ public enum ParsingRuleType {
 
     public abstract MessageParameter parse(Message message, ParsingRule parsingRule);
 
+    /**
+     * Check if the type evaluates many rules at once better than one by one (see {@link #parseAll}).
+     */
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    /**
+     * Apply many rules of this type to the message at once. Parsed expressions of the rules must be computed.
+     * Rules failed with exception are absent in the result, so they can be applied (and reported) separately.
+     *
+     * @return parameters by rules (identity map)
+     * @throws ContentException if the message text is found malformed while values are streamed from it
+     */
+    public Map<ParsingRule, MessageParameter> parseAll(Message message, List<? extends ParsingRule> parsingRules)
+            throws ContentException {
+        return parseEach(message, parsingRules);
+    }
+
+    protected Map<ParsingRule, MessageParameter> parseEach(Message message,
+                                                           List<? extends ParsingRule> parsingRules) {
+        Map<ParsingRule, MessageParameter> result = new IdentityHashMap<>(parsingRules.size());
+        for (ParsingRule parsingRule : parsingRules) {
+            try {
+                result.put(parsingRule, parse(message, parsingRule));
+            } catch (RuntimeException ex) {
+                // Skip it; the rule will be applied separately and failure will be reported there
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if the content is validated but its tree is not built yet, so values can be streamed from its text.
+     */
+    protected static boolean notMaterialized(Content<?> content) {
+        return content instanceof StreamableContent && !((StreamableContent) content).isMaterialized();
+    }
+
+    protected MessageParameter.Builder newBuilder(ParsingRule parsingRule) {
+        return MessageParameter.build(parsingRule.getParamName(), parsingRule)
+                .multiple(parsingRule.getMultiple()).setAutosave(parsingRule.getAutosave());
+    }
+
     /**
      * TODO: Add JavaDoc.
      */
@@ -282,6 +487,13 @@ public enum ParsingRuleType {
                 + "' expected: " + Arrays.toString(values()));
     }
 
+    /**
+     * Get compiled form of the rule's parsed expression (cached by rule ID/version and by expression).
+     */
+    protected CompiledParsingRule compiled(ParsingRule parsingRule) {
+        return CompiledParsingRules.getInstance().get(parsingRule);
+    }
+
     protected void buildResult(ParsingRule parsingRule, Matcher matcher, MessageParameter.Builder builder) {
         if (parsingRule.getMultiple()) {
             for (int groupIndex = 1; groupIndex <= matcher.groupCount(); groupIndex++) {
@@ -0,0 +1,240 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jdom2.Attribute;
+import org.jdom2.Content;
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.jdom2.Text;
+import org.jdom2.Verifier;
+
+/**
+ * Prefix tree of simple absolute xpaths (/a/b/c, /a/b/text(), /a/b/@attr) without namespace prefixes,
+ * evaluated by a single traversal of the document.
+ * Nodes are collected in document order, as xpath evaluation does.
+ * If no path selects elements, the trie can be evaluated by StAX reader as well, without building a tree.
+ *
+ * @param <R> - type of objects (rules) the paths belong to
+ */
+class XPathTrie<R> {
+
+    private static final String NAME = "[A-Za-z_][\\w.\\-]*";
+    private static final Pattern SIMPLE_XPATH = Pattern.compile(
+            "^((?:/" + NAME + ")+)(?:/(text\\(\\))|/@(" + NAME + "))?$");
+    private static final String TEXT_STEP = "text()";
+    private static final String ATTRIBUTE_PREFIX = "@";
+
+    private final Node<R> root = new Node<>();
+    private int size;
+    private boolean elementResults;
+
+    /**
+     * Split the xpath into steps: element names, then optional "text()" or "@name" as the last step.
+     *
+     * @return steps or null if the xpath is not a simple absolute one
+     */
+    static List<String> steps(String xpath) {
+        Matcher matcher = SIMPLE_XPATH.matcher(xpath.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        List<String> steps = new ArrayList<>(Arrays.asList(matcher.group(1).substring(1).split("/")));
+        if (matcher.group(2) != null) {
+            steps.add(TEXT_STEP);
+        } else if (matcher.group(3) != null) {
+            steps.add(ATTRIBUTE_PREFIX + matcher.group(3));
+        }
+        return Collections.unmodifiableList(steps);
+    }
+
+    void add(R owner, List<String> steps) {
+        Node<R> node = root;
+        for (String step : steps) {
+            node = node.children.computeIfAbsent(step, key -> new Node<>());
+        }
+        node.owners.add(owner);
+        size++;
+        String last = steps.get(steps.size() - 1);
+        if (!TEXT_STEP.equals(last) && !last.startsWith(ATTRIBUTE_PREFIX)) {
+            elementResults = true;
+        }
+    }
+
+    /**
+     * Check if the trie can be evaluated by StAX reader, i.e. all paths select texts or attributes.
+     */
+    boolean isStreamable() {
+        return !elementResults;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Traverse the document of the root element once.
+     *
+     * @return nodes (Element, Text or Attribute) found, by owner; never contains null lists
+     */
+    Map<R, List<Object>> evaluate(Element rootElement) {
+        Map<R, List<Object>> result = new IdentityHashMap<>(size);
+        Node<R> node = matches(rootElement) ? root.children.get(rootElement.getName()) : null;
+        if (node != null) {
+            walk(node, rootElement, result);
+        }
+        return result;
+    }
+
+    /**
+     * Read the document once by StAX reader (see {@link #isStreamable()}).
+     * Texts are split and boundary whitespace is skipped the same way as JDOM SAXBuilder does.
+     *
+     * @return values (String) found, by owner; never contains null lists
+     */
+    Map<R, List<Object>> evaluate(XMLStreamReader reader) throws XMLStreamException {
+        Map<R, List<Object>> result = new IdentityHashMap<>(size);
+        List<Node<R>> stack = new ArrayList<>();
+        Node<R> node = root;
+        StringBuilder text = new StringBuilder();
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    flushText(node, text, result);
+                    stack.add(node);
+                    node = node == null || !isNoNamespace(reader.getNamespaceURI())
+                            ? null : node.children.get(reader.getLocalName());
+                    if (node != null) {
+                        collectAttributes(node, reader, result);
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    flushText(node, text, result);
+                    node = stack.remove(stack.size() - 1);
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    if (node != null && node.children.containsKey(TEXT_STEP)) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.CDATA:
+                    flushText(node, text, result);
+                    if (node != null && node.children.containsKey(TEXT_STEP)) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        flushText(node, text, result);
+                    }
+                    break;
+                case XMLStreamConstants.COMMENT:
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    flushText(node, text, result);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private void flushText(Node<R> node, StringBuilder text, Map<R, List<Object>> result) {
+        if (text.length() == 0) {
+            return;
+        }
+        String value = text.toString();
+        text.setLength(0);
+        if (!Verifier.isAllXMLWhitespace(value)) {
+            collect(node.children.get(TEXT_STEP), value, result);
+        }
+    }
+
+    private void collectAttributes(Node<R> node, XMLStreamReader reader, Map<R, List<Object>> result) {
+        for (Map.Entry<String, Node<R>> child : node.children.entrySet()) {
+            if (!child.getKey().startsWith(ATTRIBUTE_PREFIX)) {
+                continue;
+            }
+            String name = child.getKey().substring(1);
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (name.equals(reader.getAttributeLocalName(i))
+                        && isNoNamespace(reader.getAttributeNamespace(i))) {
+                    collect(child.getValue(), reader.getAttributeValue(i), result);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean isNoNamespace(String namespaceUri) {
+        return namespaceUri == null || namespaceUri.isEmpty();
+    }
+
+    private void walk(Node<R> node, Element element, Map<R, List<Object>> result) {
+        collect(node, element, result);
+        for (Map.Entry<String, Node<R>> child : node.children.entrySet()) {
+            String step = child.getKey();
+            if (TEXT_STEP.equals(step)) {
+                for (Content content : element.getContent()) {
+                    if (content instanceof Text) {
+                        collect(child.getValue(), content, result);
+                    }
+                }
+            } else if (step.startsWith(ATTRIBUTE_PREFIX)) {
+                Attribute attribute = element.getAttribute(step.substring(1));
+                if (attribute != null) {
+                    collect(child.getValue(), attribute, result);
+                }
+            }
+        }
+        for (Element childElement : element.getChildren()) {
+            if (matches(childElement)) {
+                Node<R> childNode = node.children.get(childElement.getName());
+                if (childNode != null) {
+                    walk(childNode, childElement, result);
+                }
+            }
+        }
+    }
+
+    private void collect(Node<R> node, Object found, Map<R, List<Object>> result) {
+        for (R owner : node.owners) {
+            result.computeIfAbsent(owner, key -> new ArrayList<>()).add(found);
+        }
+    }
+
+    private static boolean matches(Element element) {
+        // Unprefixed name test matches elements without namespace only
+        return Namespace.NO_NAMESPACE.equals(element.getNamespace());
+    }
+
+    private static final class Node<R> {
+        private final Map<String, Node<R>> children = new HashMap<>();
+        private final List<R> owners = new ArrayList<>(1);
+    }
+}
@@ -16,7 +16,8 @@
 
 package org.qubership.automation.itf.core.util.provider.content;
 
-import org.apache.commons.lang3.StringUtils;
+import java.io.IOException;
+
 import org.json.simple.JSONArray;
 import org.json.simple.JSONAware;
 import org.json.simple.JSONObject;
@@ -26,29 +27,105 @@ import org.qubership.automation.itf.core.model.content.Content;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.util.exception.ContentException;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 public class JsonContentProvider implements MessageContentProvider<JSONObject> {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean streaming;
+
+    public JsonContentProvider() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param streaming - if true, only the root token is checked here; json-simple tree is built on the first
+     *                  access to the content, values can be extracted before by Jackson streaming parser
+     *                  (it validates the text)
+     */
+    public JsonContentProvider(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * TODO: Add JavaDoc.
      */
     public Content<JSONObject> provide(Message message) throws ContentException {
-        try {
-            JSONParser parser = new JSONParser();
-            return new JsonContent((JSONAware) parser.parse(message.getText()));
-        } catch (ParseException e) {
-            throw new ContentException("Cannot parse JSON in message", e);
+        if (streaming) {
+            checkRoot(message.getText());
+            return new LazyJsonContent(message.getText());
         }
+        return new JsonContent(parse(message.getText()));
     }
 
     /**
      * TODO: Add JavaDoc.
      */
     public boolean supports(Message message) {
-        if (message == null || StringUtils.isBlank(message.getText())) {
+        if (message == null || message.getText() == null) {
             return false;
         }
-        String text = message.getText().trim();
-        return text.startsWith("{") && text.endsWith("}") || text.startsWith("[") || text.endsWith("]");
+        String text = message.getText();
+        int first = 0;
+        int last = text.length() - 1;
+        while (first <= last && text.charAt(first) <= ' ') {
+            first++;
+        }
+        while (last >= first && text.charAt(last) <= ' ') {
+            last--;
+        }
+        if (first > last) {
+            return false;
+        }
+        return text.charAt(first) == '{' && text.charAt(last) == '}' || text.charAt(first) == '['
+                || text.charAt(last) == ']';
+    }
+
+    /**
+     * Create Jackson streaming parser of the text.
+     */
+    public static JsonParser createParser(String text) throws IOException {
+        return JSON_FACTORY.createParser(text);
+    }
+
+    private static JSONAware parse(String text) throws ContentException {
+        try {
+            JSONParser parser = new JSONParser();
+            return (JSONAware) parser.parse(text);
+        } catch (ParseException e) {
+            throw new ContentException("Cannot parse JSON in message", e);
+        }
+    }
+
+    /*  Reads the first token only: object or array is accepted as a root, like JsonContent does.
+        The rest of the text is validated by the first pass over it (extraction of values or building of the tree).
+     */
+    private static void checkRoot(String text) throws ContentException {
+        try (JsonParser parser = createParser(text)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                throw new ContentException("Cannot take JSONObject from parsed object");
+            }
+        } catch (IOException e) {
+            throw new ContentException("Cannot parse JSON in message", e);
+        }
+    }
+
+    private static JSONObject toJsonObject(JSONAware object) throws ContentException {
+        if (object instanceof JSONArray) {
+            JSONObject jsonObject = new JSONObject();
+            jsonObject.put("array", object);
+            return jsonObject;
+        } else if (object instanceof JSONObject) {
+            return (JSONObject) object;
+        } else {
+            throw new ContentException("Cannot take JSONObject from parsed object");
+        }
     }
 
     private static class JsonContent implements Content<JSONObject> {
@@ -56,18 +133,47 @@ public class JsonContentProvider implements MessageContentProvider<JSONObject> {
         private JSONObject object;
 
         private JsonContent(JSONAware object) throws ContentException {
-            if (object instanceof JSONArray) {
-                this.object = new JSONObject();
-                this.object.put("array", object);
-            } else if (object instanceof JSONObject) {
-                this.object = (JSONObject) object;
-            } else {
-                throw new ContentException("Cannot take JSONObject from parsed object");
-            }
+            this.object = toJsonObject(object);
         }
 
         public JSONObject get() {
             return object;
         }
     }
+
+    private static class LazyJsonContent implements Content<JSONObject>, StreamableContent {
+
+        private final String text;
+        private volatile JSONObject object;
+
+        private LazyJsonContent(String text) {
+            this.text = text;
+        }
+
+        public JSONObject get() {
+            JSONObject result = object;
+            if (result == null) {
+                synchronized (this) {
+                    if (object == null) {
+                        try {
+                            object = toJsonObject(parse(text));
+                        } catch (ContentException e) {
+                            // Malformed text: the cause is reported as content error by Parser
+                            throw new IllegalStateException(e.getMessage(), e);
+                        }
+                    }
+                    result = object;
+                }
+            }
+            return result;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isMaterialized() {
+            return object != null;
+        }
+    }
 }
@@ -19,8 +19,14 @@ package org.qubership.automation.itf.core.util.provider.content;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.jdom2.input.SAXBuilder;
@@ -30,19 +36,65 @@ import org.qubership.automation.itf.core.util.exception.ContentException;
 
 public class XmlContentProvider implements MessageContentProvider<Element> {
 
+    private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private final boolean streaming;
+
     public XmlContentProvider() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param streaming - if true, only the prolog is checked here; JDOM tree is built on the first access
+     *                  to the content, values can be extracted before by StAX parser (it validates the text)
+     */
+    public XmlContentProvider(boolean streaming) {
+        this.streaming = streaming;
     }
 
     /**
      * TODO: Add JavaDoc.
      */
     public Content<Element> provide(Message message) throws ContentException {
+        if (streaming && hasNoDtd(message.getText())) {
+            return new LazyXmlContent(message.getText());
+        }
+        return new XmlContent(build(message.getText()));
+    }
+
+    /**
+     * TODO: Add JavaDoc.
+     */
+    public boolean supports(Message message) {
+        //really, Google says it is the fastest way to check XML or not
+        if (message == null || message.getText() == null) {
+            return false;
+        }
+        String text = message.getText();
+        int first = 0;
+        while (first < text.length() && text.charAt(first) <= ' ') {
+            first++;
+        }
+        return first < text.length() && text.charAt(first) == '<';
+    }
+
+    /**
+     * Create StAX reader of the text; external entities are not resolved.
+     */
+    public static XMLStreamReader createReader(String text) throws XMLStreamException {
+        return XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(text));
+    }
+
+    private static Element build(String text) throws ContentException {
         SAXBuilder builder;
         builder = new SAXBuilder();
         builder.setIgnoringBoundaryWhitespace(true);
-        InputStream stream = new ByteArrayInputStream(message.getText().getBytes(StandardCharsets.UTF_8));
+        InputStream stream = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
         try {
-            return new XmlContent(builder.build(stream).getRootElement());
+            return builder.build(stream).getRootElement();
         } catch (JDOMException e) {
             throw new ContentException("Cannot parse XML in message", e);
         } catch (IOException e) {
@@ -50,15 +102,50 @@ public class XmlContentProvider implements MessageContentProvider<Element> {
         }
     }
 
-    /**
-     * TODO: Add JavaDoc.
+    /*  Reads the prolog only; the rest of the text is validated by the first pass over it
+        (extraction of values by StAX reader or building of the tree).
+        Documents with DTD are left for JDOM, because entities declared there are resolved differently.
      */
-    public boolean supports(Message message) {
-        //really, Google says it is the fastest way to check XML or not
-        if (message == null || message.getText() == null) {
-            return false;
+    private static boolean hasNoDtd(String text) throws ContentException {
+        XMLStreamReader reader = null;
+        try {
+            reader = createReader(text);
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.DTD) {
+                    return false;
+                }
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    return true;
+                }
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            throw new ContentException("Cannot parse XML in message", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nothing to do; the reader is over a string
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        // CDATA sections are separate texts in JDOM; JDK parser reports them as characters by default
+        if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+            factory.setProperty(REPORT_CDATA_EVENT, true);
         }
-        return message.getText().trim().startsWith("<");
+        return factory;
     }
 
     private static class XmlContent implements Content<Element> {
@@ -73,4 +160,40 @@ public class XmlContentProvider implements MessageContentProvider<Element> {
             return element;
         }
     }
+
+    private static class LazyXmlContent implements Content<Element>, StreamableContent {
+
+        private final String text;
+        private volatile Element element;
+
+        LazyXmlContent(String text) {
+            this.text = text;
+        }
+
+        public Element get() {
+            Element result = element;
+            if (result == null) {
+                synchronized (this) {
+                    if (element == null) {
+                        try {
+                            element = build(text);
+                        } catch (ContentException e) {
+                            // Malformed text: the cause is reported as content error by Parser
+                            throw new IllegalStateException(e.getMessage(), e);
+                        }
+                    }
+                    result = element;
+                }
+            }
+            return result;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isMaterialized() {
+            return element != null;
+        }
+    }
 }
@@ -23,15 +23,40 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleListener;
 import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Project settings are read from Hazelcast map ATP_ITF_PROJECT_SETTINGS once per project and kept as local
+ * {@link ProjectSettingsSnapshot}s. Snapshots are replaced or dropped by the map entry listener,
+ * so settings reads don't go to Hazelcast. While the listener isn't registered, each read refreshes the snapshot;
+ * if Hazelcast is unavailable, the last known snapshot is used.
+ * Map events may be lost while the client is disconnected, so all snapshots are dropped on reconnection
+ * (if the Hazelcast instance is given by {@link #getHazelcastInstance()}).
+ */
 @Slf4j
 public abstract class AbstractProjectSettingsService implements IProjectSettingsService {
 
+    private final Map<String, ProjectSettingsSnapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile IMap<String, Map<String, String>> listenedCache;
+
     /**
      * Get project settings property value or default value from provided parameter.
      * Method gets value from Hazelcast NearCache "ATP_ITF_PROJECT_SETTINGS" if remote Hazelcast
@@ -43,8 +68,88 @@ public abstract class AbstractProjectSettingsService implements IProjectSettings
      * @return property value or provided default value.
      */
     public String get(Object projectId, String shortName, String defaultValue) {
-        String value = get(toBigInt(projectId), shortName, getProjectSettingsCache());
-        return StringUtils.isNotEmpty(value) ? value.trim() : defaultValue;
+        ProjectSettingsSnapshot snapshot = getSnapshot(projectId);
+        return snapshot == null ? defaultValue : snapshot.get(shortName, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(Object projectId, String shortName, String defaultValue) {
+        ProjectSettingsSnapshot snapshot = getSnapshot(projectId);
+        return snapshot == null
+                ? Boolean.parseBoolean(defaultValue)
+                : snapshot.getBoolean(shortName, Boolean.parseBoolean(defaultValue));
+    }
+
+    @Override
+    public TimeUnit getTimeUnit(Object projectId, String shortName, TimeUnit defaultValue) {
+        ProjectSettingsSnapshot snapshot = getSnapshot(projectId);
+        return snapshot == null ? defaultValue : snapshot.getTimeUnit(shortName, defaultValue);
+    }
+
+    /**
+     * Get local snapshot of project settings.
+     *
+     * @param projectId - project id
+     * @return snapshot, or null if there are no settings of the project (or Hazelcast is unavailable
+     *     and no snapshot was taken before)
+     */
+    @Override
+    public ProjectSettingsSnapshot getSnapshot(Object projectId) {
+        String key = toBigInt(projectId).toString();
+        ProjectSettingsSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && listenedCache != null) {
+            return snapshot;
+        }
+        IMap<String, Map<String, String>> projectSettingsCache;
+        Map<String, String> projectSettings;
+        try {
+            projectSettingsCache = getProjectSettingsCache();
+            listen(projectSettingsCache);
+            projectSettings = projectSettingsCache.get(key);
+        } catch (Exception e) {
+            if (snapshot == null) {
+                log.error("Can't get ProjectSettingsMap from Hazelcast for project {}", key, e);
+            } else {
+                log.warn("Can't get ProjectSettingsMap from Hazelcast for project {}; last known settings are used",
+                        key);
+            }
+            return snapshot;
+        }
+        /*  Snapshot is stored only if it's not changed by the listener meanwhile:
+            the listener has newer settings than the ones read here.
+         */
+        if (Objects.isNull(projectSettings)) {
+            log.warn("Something went wrong with Hazelcast project settings cache - there is no project "
+                    + "settings in cache for project {}", key);
+            if (snapshot != null) {
+                snapshots.remove(key, snapshot);
+            }
+            return snapshots.get(key);
+        }
+        ProjectSettingsSnapshot loaded = new ProjectSettingsSnapshot(projectSettings);
+        if (snapshot == null ? snapshots.putIfAbsent(key, loaded) == null : snapshots.replace(key, snapshot, loaded)) {
+            return loaded;
+        }
+        ProjectSettingsSnapshot current = snapshots.get(key);
+        return current == null ? loaded : current;
+    }
+
+    private void listen(IMap<String, Map<String, String>> projectSettingsCache) {
+        if (listenedCache == projectSettingsCache) {
+            return;
+        }
+        synchronized (snapshots) {
+            if (listenedCache != projectSettingsCache) {
+                SnapshotUpdater updater = new SnapshotUpdater();
+                projectSettingsCache.addEntryListener(updater, true);
+                HazelcastInstance hazelcastInstance = getHazelcastInstance();
+                if (hazelcastInstance != null) {
+                    hazelcastInstance.getLifecycleService().addLifecycleListener(updater);
+                }
+                listenedCache = projectSettingsCache;
+                log.info("Project settings are cached locally and updated by Hazelcast map events");
+            }
+        }
     }
 
     protected String get(BigInteger projectId, String shortName,
@@ -74,9 +179,8 @@ public abstract class AbstractProjectSettingsService implements IProjectSettings
      * @return project setting value as INTEGER or null if short name is not found in cache\db or got some exception.
      */
     public Integer getInt(Object projectId, String shortName, int defaultValue) {
-        IMap<String, Map<String, String>> projectSettingsCache = getProjectSettingsCache();
-        String value = get(toBigInt(projectId), shortName, projectSettingsCache);
-        return StringUtils.isNotEmpty(value) ? Integer.parseInt(value) : defaultValue;
+        ProjectSettingsSnapshot snapshot = getSnapshot(projectId);
+        return snapshot == null ? defaultValue : snapshot.getInt(shortName, defaultValue);
     }
 
     /**
@@ -113,10 +217,9 @@ public abstract class AbstractProjectSettingsService implements IProjectSettings
      * @return all project settings for project or empty map.
      */
     public Map<String, String> getAll(Object projectId) {
-        IMap<String, Map<String, String>> projectsSettingsCache = getProjectSettingsCache();
-        Map<String, String> projectSettings = getProjectSettings(projectsSettingsCache, projectId.toString());
-        if (Objects.nonNull(projectSettings)) {
-            return projectSettings;
+        ProjectSettingsSnapshot snapshot = getSnapshot(projectId);
+        if (Objects.nonNull(snapshot)) {
+            return snapshot.getAll();
         }
         log.warn("Can't get all project settings from cache for project '{}' ", projectId);
         return Collections.emptyMap();
@@ -124,6 +227,15 @@ public abstract class AbstractProjectSettingsService implements IProjectSettings
 
     protected abstract IMap<String, Map<String, String>> getProjectSettingsCache();
 
+    /**
+     * Get Hazelcast instance of the project settings cache, to drop local snapshots on its reconnection.
+     *
+     * @return instance, or null if it's unknown (snapshots are updated by map events only then)
+     */
+    protected HazelcastInstance getHazelcastInstance() {
+        return null;
+    }
+
     protected Map<String, String> getProjectSettings(IMap<String, Map<String, String>> projectSettingsCache,
                                                      String projectId) {
         try {
@@ -133,5 +245,70 @@ public abstract class AbstractProjectSettingsService implements IProjectSettings
             return null;
         }
     }
-}
 
+    private class SnapshotUpdater implements EntryAddedListener<String, Map<String, String>>,
+            EntryUpdatedListener<String, Map<String, String>>, EntryRemovedListener<String, Map<String, String>>,
+            EntryEvictedListener<String, Map<String, String>>, EntryExpiredListener<String, Map<String, String>>,
+            MapClearedListener, MapEvictedListener, LifecycleListener {
+
+        @Override
+        public void entryAdded(EntryEvent<String, Map<String, String>> event) {
+            update(event);
+        }
+
+        @Override
+        public void entryUpdated(EntryEvent<String, Map<String, String>> event) {
+            update(event);
+        }
+
+        @Override
+        public void entryRemoved(EntryEvent<String, Map<String, String>> event) {
+            remove(event.getKey());
+        }
+
+        @Override
+        public void entryEvicted(EntryEvent<String, Map<String, String>> event) {
+            remove(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(EntryEvent<String, Map<String, String>> event) {
+            remove(event.getKey());
+        }
+
+        @Override
+        public void mapCleared(MapEvent event) {
+            clear();
+        }
+
+        @Override
+        public void mapEvicted(MapEvent event) {
+            clear();
+        }
+
+        @Override
+        public void stateChanged(LifecycleEvent event) {
+            if (event.getState() == LifecycleEvent.LifecycleState.CLIENT_CONNECTED
+                    || event.getState() == LifecycleEvent.LifecycleState.MERGED) {
+                log.info("Hazelcast instance is {}; local project settings are dropped", event.getState());
+                clear();
+            }
+        }
+
+        private void update(EntryEvent<String, Map<String, String>> event) {
+            if (event.getValue() == null) {
+                remove(event.getKey());
+            } else {
+                snapshots.put(event.getKey(), new ProjectSettingsSnapshot(event.getValue()));
+            }
+        }
+
+        private void remove(String projectId) {
+            snapshots.remove(projectId);
+        }
+
+        private void clear() {
+            snapshots.clear();
+        }
+    }
+}
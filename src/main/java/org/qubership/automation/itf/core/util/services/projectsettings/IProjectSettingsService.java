@@ -17,6 +17,7 @@
 package org.qubership.automation.itf.core.util.services.projectsettings;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public interface IProjectSettingsService {
 
@@ -24,7 +25,32 @@ public interface IProjectSettingsService {
 
     Integer getInt(Object projectId, String shortName, int defaultValue);
 
+    default boolean getBoolean(Object projectId, String shortName, String defaultValue) {
+        return Boolean.parseBoolean(get(projectId, shortName, defaultValue));
+    }
+
+    /**
+     * Get project setting as time unit name; default value is returned if the setting is absent or unknown.
+     */
+    default TimeUnit getTimeUnit(Object projectId, String shortName, TimeUnit defaultValue) {
+        String value = get(projectId, shortName, null);
+        try {
+            return value == null ? defaultValue : TimeUnit.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+
     Map<String, String> getByPrefix(Object projectId, String prefix, boolean truncPrefix);
 
     Map<String, String> getAll(Object projectId);
+
+    /**
+     * Get local snapshot of project settings, if the service keeps it.
+     *
+     * @return snapshot, or null if there are no settings of the project
+     */
+    default ProjectSettingsSnapshot getSnapshot(Object projectId) {
+        return null;
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.services.projectsettings;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Immutable local copy of project settings.
+ * Values are trimmed once; typed values are parsed on the first read and then reused.
+ */
+public final class ProjectSettingsSnapshot {
+
+    private final Map<String, String> all;
+    private final Map<String, String> values;
+    private final Map<String, Object> parsed = new ConcurrentHashMap<>();
+
+    public ProjectSettingsSnapshot(Map<String, String> settings) {
+        this.all = Collections.unmodifiableMap(new HashMap<>(settings));
+        Map<String, String> values = new HashMap<>(settings.size() * 2);
+        for (Map.Entry<String, String> setting : settings.entrySet()) {
+            if (StringUtils.isNotEmpty(setting.getValue())) {
+                values.put(setting.getKey(), setting.getValue().trim());
+            }
+        }
+        this.values = values;
+    }
+
+    /**
+     * Get trimmed value of the setting, or default value if the setting is absent or empty.
+     */
+    public String get(String shortName, String defaultValue) {
+        String value = values.get(shortName);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get the setting as integer.
+     *
+     * @throws NumberFormatException if the value is not an integer
+     */
+    public int getInt(String shortName, int defaultValue) {
+        Object value = parsed.get(shortName);
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        String text = values.get(shortName);
+        if (text == null) {
+            return defaultValue;
+        }
+        int number = Integer.parseInt(text);
+        parsed.put(shortName, number);
+        return number;
+    }
+
+    public boolean getBoolean(String shortName, boolean defaultValue) {
+        Object value = parsed.get(shortName);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        String text = values.get(shortName);
+        if (text == null) {
+            return defaultValue;
+        }
+        boolean flag = Boolean.parseBoolean(text);
+        parsed.put(shortName, flag);
+        return flag;
+    }
+
+    /**
+     * Get the setting as time unit name (case-insensitive); default value is returned for unknown names too.
+     */
+    public TimeUnit getTimeUnit(String shortName, TimeUnit defaultValue) {
+        Object value = parsed.get(shortName);
+        if (value instanceof TimeUnit) {
+            return (TimeUnit) value;
+        }
+        String text = values.get(shortName);
+        if (text == null) {
+            return defaultValue;
+        }
+        try {
+            TimeUnit unit = TimeUnit.valueOf(text.toUpperCase());
+            parsed.put(shortName, unit);
+            return unit;
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get all settings as they are stored (values are not trimmed).
+     */
+    public Map<String, String> getAll() {
+        return all;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.util.constants.TransportState;
+import org.qubership.automation.itf.core.util.converter.PropertiesConverter;
 import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
 import org.qubership.automation.itf.core.util.exception.ExportException;
@@ -53,6 +54,7 @@ public class TransportRegistryManager implements TransportManager {
 
     public void init(AbstractTransportRegistry registry) throws ExportException {
         this.registry = registry;
+        PropertiesConverter.invalidateAll();
         this.registry.init();
     }
 
@@ -72,7 +74,12 @@ public class TransportRegistryManager implements TransportManager {
     private void registerTransport(Transport transport) throws ExportException {
         try {
             AccessTransport accessTransport = Wrapper.wrap(transport, registry);
-            registry.register(accessTransport);
+            try {
+                registry.register(accessTransport);
+            } finally {
+                // Also done by AbstractTransportRegistry, unless register is overridden
+                PropertiesConverter.invalidate(accessTransport.getTypeName());
+            }
         } catch (Exception e) {
             throw new ExportException("Error while performing transport export", e);
         }
@@ -86,6 +93,8 @@ public class TransportRegistryManager implements TransportManager {
             registry.unregister(typeName);
         } catch (RemoteException e) {
             throw new TransportException(e);
+        } finally {
+            PropertiesConverter.invalidate(typeName);
         }
     }
 
@@ -148,6 +157,7 @@ public class TransportRegistryManager implements TransportManager {
 
     public void setRegistry(AbstractTransportRegistry registry) {
         this.registry = registry;
+        PropertiesConverter.invalidateAll();
     }
 
     public void destroy() {
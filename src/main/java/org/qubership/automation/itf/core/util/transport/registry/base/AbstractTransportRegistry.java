@@ -27,6 +27,7 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.util.constants.TransportState;
+import org.qubership.automation.itf.core.util.converter.PropertiesConverter;
 import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
 import org.qubership.automation.itf.core.util.exception.ExportException;
@@ -51,6 +52,9 @@ public abstract class AbstractTransportRegistry implements TransportRegistry {
     private Map<String, TransportState> states = Maps.newConcurrentMap();
     private Map<String, String> transportTypes = Maps.newHashMapWithExpectedSize(50);
     private Map<String, Boolean> availableServers = Maps.newConcurrentMap();
+    /*  Property descriptors by short name, per transport type; dropped when the type is (re)registered.
+     */
+    private final Map<String, Map<String, PropertyDescriptor>> properties = Maps.newConcurrentMap();
     private CoreCallback coreCallback;
     private boolean loaded;
 
@@ -68,7 +72,11 @@ public abstract class AbstractTransportRegistry implements TransportRegistry {
         try {
             transportName = accessTransport.getUserName();
             states.put(accessTransport.getTypeName(), TransportState.REGISTERING);
-            protectedRegister(accessTransport);
+            try {
+                protectedRegister(accessTransport);
+            } finally {
+                invalidateProperties(accessTransport.getTypeName());
+            }
             transportTypes.put(accessTransport.getTypeName(), transportName);
             states.put(accessTransport.getTypeName(), TransportState.REGISTERED);
             LOGGER.info("Transport {} registered", transportName);
@@ -87,6 +95,7 @@ public abstract class AbstractTransportRegistry implements TransportRegistry {
      */
     public void unregister(String typeName) throws RemoteException {
         protectedUnregister(typeName);
+        invalidateProperties(typeName);
         String userName = transportTypes.remove(typeName);
         states.put(typeName, TransportState.UNDEPLOYED);
         LOGGER.info("Transport {} unregistered", userName);
@@ -94,6 +103,13 @@ public abstract class AbstractTransportRegistry implements TransportRegistry {
 
     protected abstract void protectedUnregister(String typeName) throws RemoteException;
 
+    /*  Done after the transport is (un)registered: descriptors read while registering may be the old ones.
+     */
+    private void invalidateProperties(String typeName) {
+        properties.remove(typeName);
+        PropertiesConverter.invalidate(typeName);
+    }
+
     @Override
     public void produceEvent(String typeName, MarshalledObject<Message> message,
                              StorableDescriptor triggerConfigurationDescriptor,
@@ -127,11 +143,17 @@ public abstract class AbstractTransportRegistry implements TransportRegistry {
 
     @Override
     public Map<String, PropertyDescriptor> getProperties(String typeName) throws RemoteException {
+        Map<String, PropertyDescriptor> descriptors = properties.get(typeName);
+        if (descriptors != null) {
+            return descriptors;
+        }
         AccessTransport transport = protectedFind(typeName);
         if (transport == null) {
             return Collections.emptyMap();
         }
-        return Maps.uniqueIndex(transport.getProperties(), PropertyDescriptor::getShortName);
+        descriptors = Maps.uniqueIndex(transport.getProperties(), PropertyDescriptor::getShortName);
+        properties.put(typeName, descriptors);
+        return descriptors;
     }
 
     @Override
@@ -19,60 +19,50 @@ package org.qubership.automation.itf.core.util.transport.service;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.LOCK_PROVIDER_PROCESS_TIMEOUT;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
 import javax.annotation.Nonnull;
 
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.cache.RemovalListener;
-
+/**
+ * Waiting for transport session responses. Responses are correlated by {@link ResponseRendezvous},
+ * so waiters are woken up as soon as the response is added, without polling.
+ */
 public enum LockProvider {
     INSTANCE;
     private final int timeout = setTimeout(Integer.parseInt(
             ApplicationConfig.env.getProperty(LOCK_PROVIDER_PROCESS_TIMEOUT, "25000")), 25000);
-    private LoadingCache<String, WeakValue> locks = CacheBuilder.newBuilder()
-            .expireAfterWrite(timeout, MILLISECONDS)
-            .removalListener((RemovalListener<String, WeakValue>) notification -> {
-                synchronized (notification.getValue()) {
-                    notification.getValue().notify();
-                }
-            }).build(new CacheLoader<String, WeakValue>() {
-                @Override
-                public WeakValue load(@Nonnull String id) {
-                    return new WeakValue();
-                }
-            });
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> signals = new ConcurrentHashMap<>();
 
     /**
-     * Method will take the {@link WeakValue} from cache by the key
-     * if value is present, method will call {@link Cache#invalidate(Object)}
-     * in the cache I've added the remove listener, which call notify for {@link WeakValue} object on Remove event.
+     * Wake up threads waiting in {@link #wait(String)} for the key.
      *
      * @param key - session key.
      */
     public void notify(@Nonnull String key) {
-        WeakValue value = locks.getIfPresent(key);
-        if (value != null) {
-            locks.invalidate(key);
+        CompletableFuture<Void> signal = signals.remove(key);
+        if (signal != null) {
+            signal.complete(null);
         }
     }
 
     /**
-     * Method will create an object in {@link Cache} and call {@link #wait()} method
-     * for this object to stop the current thread.
-     * Until some object call {@link #notify(String)}
+     * Stop the current thread until some object calls {@link #notify(String)} or timeout is over.
      *
      * @param sessionId - transport session id
      * @throws InterruptedException - exception
      */
     public void wait(@Nonnull String sessionId) throws InterruptedException {
-        WeakValue lock = locks.getUnchecked(sessionId);
-        synchronized (lock) {
-            lock.wait(timeout);
+        CompletableFuture<Void> signal = signals.computeIfAbsent(sessionId, id -> new CompletableFuture<>());
+        try {
+            signal.get(timeout, MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            signals.remove(sessionId, signal);
         }
     }
 
@@ -80,7 +70,7 @@ public enum LockProvider {
      * Wait for a response message.
      *
      * @param sessionId - Session Uuid to wait a response,
-     * @param interval - interval to wait, in milliseconds,
+     * @param interval - not used anymore: the waiter is woken up when the response is added,
      * @return Response Message.
      * @throws InterruptedException - in case wait is interrupted.
      */
@@ -89,43 +79,29 @@ public enum LockProvider {
     }
 
     /**
-     * Wait for a response message, fixed or exponential waits in the loop.
+     * Wait for a response message.
+     * Polling parameters are kept for compatibility: the waiter is woken up when the response is added.
      *
      * @param sessionId - Session Uuid to wait a response,
-     * @param interval - interval to wait inside loop, in milliseconds,
-     * @param maxInterval - max interval to wait, in milliseconds,
-     * @param multiplier - multiplier for exponential waits,
-     * @return Response Message.
+     * @param interval - not used,
+     * @param maxInterval - not used,
+     * @param multiplier - not used,
+     * @return Response Message or null if it's not received during timeout.
      * @throws InterruptedException - in case wait is interrupted.
      */
     public Message waitResponse(@Nonnull String sessionId, int interval, int maxInterval, float multiplier)
             throws InterruptedException {
-        int checkedInterval = interval < 50 || interval >= timeout ? 500 : interval;
-        float checkedMultiplier = Math.max(multiplier, 1.0f);
-        int checkedMaxInterval = (checkedMultiplier == 1.0f) ? checkedInterval : maxInterval;
-        return waitAndGetResponse(sessionId, checkedInterval, checkedMaxInterval, checkedMultiplier);
+        return ResponseRendezvous.INSTANCE.await(sessionId, timeout);
     }
 
-    private Message waitAndGetResponse(@Nonnull String sessionId, int interval, int maxInterval, float multiplier)
-            throws InterruptedException {
-        Message response = SessionHandler.INSTANCE.getMessage(sessionId);
-        if (response == null) {
-            int elapsed = 0;
-            int newInterval = interval;
-            WeakValue lock = locks.getUnchecked(sessionId);
-            synchronized (lock) {
-                while (response == null) {
-                    lock.wait(newInterval);
-                    response = SessionHandler.INSTANCE.getMessage(sessionId);
-                    elapsed += newInterval;
-                    if (elapsed >= timeout) {
-                        break;
-                    }
-                    newInterval = computeInterval(newInterval, maxInterval, multiplier);
-                }
-            }
-        }
-        return response;
+    /**
+     * Wait for a response message without blocking the caller.
+     *
+     * @param sessionId - Session Uuid to wait a response,
+     * @return Future of response Message; it is completed with null if the response isn't received during timeout.
+     */
+    public CompletableFuture<Message> waitResponseAsync(@Nonnull String sessionId) {
+        return ResponseRendezvous.INSTANCE.awaitAsync(sessionId, timeout);
     }
 
     /**
@@ -138,8 +114,10 @@ public enum LockProvider {
         return true;
     }
 
+    /**
+     * Nothing to clean up: timed out waits are removed by waiters themselves.
+     */
     public void cleanupCache() {
-        locks.cleanUp();
     }
 
     /**
@@ -152,12 +130,4 @@ public enum LockProvider {
     private int setTimeout(int timeout, int defaultValue) {
         return timeout > 0 ? timeout : defaultValue;
     }
-
-    private int computeInterval(int oldInterval, int maxInterval, float multiplier) {
-        if (multiplier == 1.0f) {
-            return oldInterval;
-        }
-        int newInterval = Math.round(oldInterval * multiplier);
-        return Math.min(newInterval, maxInterval);
-    }
 }
@@ -0,0 +1,195 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.transport.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlation of transport sessions with their response messages.
+ * Each session holds the response and a {@link CompletableFuture}: the producer publishes the response
+ * and then completes the future, the consumer either blocks on it or composes on it asynchronously.
+ * The response is taken once.
+ * Timeouts of all sessions are served by a single timer thread.
+ */
+public enum ResponseRendezvous {
+
+    INSTANCE;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseRendezvous.class);
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor timer = createTimer();
+
+    /**
+     * Complete the session with the response message.
+     * If nobody takes it during expiry period, the message is removed.
+     *
+     * @param sessionId - the transport session id,
+     * @param message   - response message,
+     * @param expiry    - period to keep not taken message, in milliseconds.
+     */
+    public void complete(@Nonnull String sessionId, @Nonnull Message message, long expiry) {
+        // The message is published in the map slot before waiters are signalled,
+        // so a waiter removing the session concurrently either sees the message or leaves it to the next taker
+        Session session = sessions.compute(sessionId, (id, current) -> {
+            if (current != null && current.message == null) {
+                current.message = message;
+                return current;
+            }
+            // Previous response is not taken yet: the new one replaces it
+            if (current != null) {
+                current.cancelExpiry();
+            }
+            Session created = new Session();
+            created.message = message;
+            return created;
+        });
+        session.cancelExpiry();
+        session.expiry = timer.schedule(() -> {
+            if (sessions.remove(sessionId, session)) {
+                LOGGER.warn("Response message was expired (timeout is {} sec.) and removed for sessionId {}.",
+                        MILLISECONDS.toSeconds(expiry), sessionId);
+            }
+        }, expiry, MILLISECONDS);
+        session.response.complete(message);
+    }
+
+    /**
+     * Take the response of the session if it's already received.
+     *
+     * @param sessionId - the transport session id
+     * @return response message or null
+     */
+    @Nullable
+    public Message take(@Nonnull String sessionId) {
+        Session session = sessions.get(sessionId);
+        return session != null && session.message != null ? take(sessionId, session) : null;
+    }
+
+    /**
+     * Wait for the response of the session and take it.
+     *
+     * @param sessionId - the transport session id,
+     * @param timeout   - max time to wait, in milliseconds
+     * @return response message or null if it's not received in time
+     * @throws InterruptedException - in case wait is interrupted.
+     */
+    @Nullable
+    public Message await(@Nonnull String sessionId, long timeout) throws InterruptedException {
+        Session session = sessions.computeIfAbsent(sessionId, id -> new Session());
+        try {
+            session.response.get(timeout, MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Completed concurrently with the timeout, or really nothing
+        } catch (ExecutionException e) {
+            return null;
+        }
+        return take(sessionId, session);
+    }
+
+    /**
+     * Get the future of the session response; it is taken when the future completes.
+     * The future completes with null if the response is not received in time.
+     *
+     * @param sessionId - the transport session id,
+     * @param timeout   - max time to wait, in milliseconds
+     * @return future of the response message
+     */
+    public CompletableFuture<Message> awaitAsync(@Nonnull String sessionId, long timeout) {
+        Session session = sessions.computeIfAbsent(sessionId, id -> new Session());
+        CompletableFuture<Message> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeoutTask = timer.schedule(() -> {
+            if (session.message == null) {
+                result.complete(take(sessionId, session));
+            }
+        }, timeout, MILLISECONDS);
+        session.response.whenComplete((message, throwable) -> {
+            timeoutTask.cancel(false);
+            result.complete(take(sessionId, session));
+        });
+        return result;
+    }
+
+    /**
+     * Discard the session and its response if any.
+     */
+    public void remove(@Nonnull String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session != null) {
+            session.cancelExpiry();
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /*  Only the caller which removes the session gets the response.
+        Waiting session without response is removed as well, so it's not kept after the timeout.
+        If the session was removed or replaced meanwhile, the response is taken from the current slot, if any.
+     */
+    private Message take(String sessionId, Session session) {
+        if (!sessions.remove(sessionId, session)) {
+            Session current = sessions.get(sessionId);
+            if (current == null || current.message == null || !sessions.remove(sessionId, current)) {
+                return null;
+            }
+            session = current;
+        }
+        session.cancelExpiry();
+        return session.message;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ResponseRendezvousTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static final class Session {
+        /*  Signals waiters only; the message itself is read from the field, set under the map slot lock.
+         */
+        private final CompletableFuture<Message> response = new CompletableFuture<>();
+        private volatile Message message;
+        private volatile ScheduledFuture<?> expiry;
+
+        private void cancelExpiry() {
+            ScheduledFuture<?> task = expiry;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+}
@@ -16,7 +16,6 @@
 
 package org.qubership.automation.itf.core.util.transport.service;
 
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.SESSION_HANDLER_PROCESS_TIMEOUT;
 
 import javax.annotation.Nonnull;
@@ -24,32 +23,15 @@ import javax.annotation.Nullable;
 
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.util.config.Config;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalCause;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
 
+/**
+ * Holder of transport session responses; they are kept in {@link ResponseRendezvous}
+ * and expire if not taken during timeout.
+ */
 public enum SessionHandler {
 
     INSTANCE;
-    private static final Logger LOGGER = LoggerFactory.getLogger(SessionHandler.class);
     public final int timeout = setTimeout(Config.getConfig().getInt(SESSION_HANDLER_PROCESS_TIMEOUT), 20000);
-    private Cache<String, Message> cache = CacheBuilder.newBuilder()
-            .expireAfterWrite(timeout, MILLISECONDS).removalListener(new RemovalListener<String, Message>() {
-                @Override
-                public void onRemoval(@Nonnull RemovalNotification<String, Message> notification) {
-                    if (notification.wasEvicted() && notification.getCause().equals(RemovalCause.EXPIRED)) {
-                        LockProvider.INSTANCE.notify(notification.getKey());
-                        LOGGER.warn("Response message was expired (timeout is {} sec.) "
-                                        + "and removed from cache for sessionId {}.",
-                                MILLISECONDS.toSeconds(timeout), notification.getKey());
-                    }
-                }
-            }).build();
 
     /**
      * Nullable, because in some case, the transport can reply with empty message.
@@ -59,31 +41,26 @@ public enum SessionHandler {
      */
     @Nullable
     public Message getMessage(@Nonnull String session) {
-        Message message = cache.getIfPresent(session);
-        if (message != null) {
-            cache.invalidate(session);
-        }
-        return message;
+        return ResponseRendezvous.INSTANCE.take(session);
     }
 
     /**
      * Don't put null message, when you need just response with empty message
      * Because when the transport will call {@link #getMessage(String)} it will get the null anyway.
+     * Threads waiting for the response of the session are woken up.
      *
      * @param sessionId - the transport session id.
      * @param message   - the message which build in processing of session
      */
     public void addMessage(@Nonnull String sessionId, @Nonnull Message message) {
-        cache.put(sessionId, message);
+        ResponseRendezvous.INSTANCE.complete(sessionId, message, timeout);
     }
 
     /** remove method.
      * @param sessionId - session id generated in the ITFAbstractRouteBuilder
      */
     public void remove(@Nonnull String sessionId) {
-        if (cache.getIfPresent(sessionId) != null) {
-            cache.invalidate(sessionId);
-        }
+        ResponseRendezvous.INSTANCE.remove(sessionId);
     }
 
     /**
@@ -96,8 +73,10 @@ public enum SessionHandler {
         return true;
     }
 
+    /**
+     * Nothing to clean up: not taken messages are expired by the timer of {@link ResponseRendezvous}.
+     */
     public void cleanupCache() {
-        cache.cleanUp();
     }
 
     /**
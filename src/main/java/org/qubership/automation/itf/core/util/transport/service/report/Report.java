@@ -30,6 +30,8 @@ import org.slf4j.LoggerFactory;
  *      So, each adapter method invocation must be placed into separate try-catch block.
  *  - And, moreover, adapters' exceptions should not break normal execution,
  *      So, in catch blocks we must only log errors, never throw exceptions
+ *  - Events are delivered by {@link ReportDispatcher}: synchronously, or via per-adapter queues if
+ *      report.async.enabled=true. Events of a TcContext are delivered in order; stopRun waits for delivery.
  */
 public class Report {
     public static final Logger LOGGER = LoggerFactory.getLogger(Report.class);
@@ -39,190 +41,103 @@ public class Report {
      */
     //TODO need refactoring and use thread local to avoid collisions - Please proof if this is still actual or not
     public static void openSection(AbstractInstance instance, String title) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.openSection(instance, title);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'openSection'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("openSection", instance.getContext().tc(), false,
+                reportAdapter -> reportAdapter.openSection(instance, title));
     }
 
     /**
      * Perform 'closeSection' method in all report adapters registered.
      */
     public static void closeSection(AbstractInstance instance) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.closeSection(instance);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'closeSection'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("closeSection", instance.getContext().tc(), false,
+                reportAdapter -> reportAdapter.closeSection(instance));
     }
 
     /**
      * Perform 'info' method in all report adapters registered.
      */
     public static void info(AbstractInstance instance, String title, SpContext spContext) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.info(instance, title, spContext);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'info'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("info", instance.getContext().tc(), true,
+                reportAdapter -> reportAdapter.info(instance, title, spContext));
     }
 
     /**
      * Perform 'info' method in all report adapters registered.
      */
     public static void info(final AbstractInstance instance, final String title, final String message) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.info(instance, title, message);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'info'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("info", instance.getContext().tc(), true,
+                reportAdapter -> reportAdapter.info(instance, title, message));
     }
 
     /**
      * Perform 'warn' method in all report adapters registered.
      */
     public static void warn(final AbstractInstance instance, final String title, final String message) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.warn(instance, title, message);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'warn'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("warn", instance.getContext().tc(), true,
+                reportAdapter -> reportAdapter.warn(instance, title, message));
     }
 
     /**
      * Perform 'error' method in all report adapters registered.
      */
     public static void error(AbstractInstance instance, String title, SpContext spContext, Throwable exception) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.error(instance, title, spContext, exception);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'error'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("error", instance.getContext().tc(), false,
+                reportAdapter -> reportAdapter.error(instance, title, spContext, exception));
     }
 
     /**
      * Perform 'error' method in all report adapters registered.
      */
     public static void error(AbstractInstance instance, String title, String message, Throwable exception) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.error(instance, title, message, exception);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'error'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("error", instance.getContext().tc(), false,
+                reportAdapter -> reportAdapter.error(instance, title, message, exception));
     }
 
     /**
      * Perform 'terminated' method in all report adapters registered.
      */
     public static void terminated(AbstractInstance instance, String title, String message, Throwable exception) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.terminated(instance, title, message, exception);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'terminated'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("terminated", instance.getContext().tc(), false,
+                reportAdapter -> reportAdapter.terminated(instance, title, message, exception));
     }
 
     /**
      * Perform 'startRun' method in all report adapters registered.
      */
     public static void startRun(TcContext context) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(context)) {
-                try {
-                    reportAdapter.startRun(context);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'startRun'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("startRun", context, false,
+                reportAdapter -> reportAdapter.startRun(context));
     }
 
     /**
      * Perform 'startAtpRun' method in all report adapters registered.
      */
     public static void startAtpRun(String testRunId) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            try {
-                reportAdapter.startAtpRun(testRunId);
-            } catch (Throwable ex) {
-                LOGGER.error("Report Adapter {} Error while 'startAtpRun'", reportAdapter, ex);
-            }
-        }
+        ReportDispatcher.getInstance().dispatchAfterAll("startAtpRun",
+                reportAdapter -> reportAdapter.startAtpRun(testRunId));
     }
 
     /**
      * Perform 'stopRun' method in all report adapters registered.
+     * In asynchronous mode, waits until all events of the run are delivered.
      */
     public static void stopRun(InstanceContext context, Status status) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(context.tc())) {
-                try {
-                    reportAdapter.stopRun(context, status);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'stopRun'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatchAndFlush("stopRun", context.tc(),
+                reportAdapter -> reportAdapter.stopRun(context, status));
     }
 
     /**
      * Perform 'stopAllRuns' method in all report adapters registered.
      */
     public static void stopAllRuns() {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            try {
-                reportAdapter.stopAllRuns();
-            } catch (Throwable ex) {
-                LOGGER.error("Report Adapter {} Error while 'stopAllRuns'", reportAdapter, ex);
-            }
-        }
+        ReportDispatcher.getInstance().dispatchAfterAll("stopAllRuns", ReportAdapter::stopAllRuns);
     }
 
     /**
      * Perform 'reportCallChainInfo' method in all report adapters registered.
      */
     public static void reportCallChainInfo(CallChainInstance instance) {
-        for (ReportAdapter reportAdapter : ReportAdapterStorage.getInstance().getAdapters()) {
-            if (reportAdapter.needToReport(instance.getContext().tc())) {
-                try {
-                    reportAdapter.reportCallChainInfo(instance);
-                } catch (Throwable ex) {
-                    LOGGER.error("Report Adapter {} Error while 'reportCallChainInfo'", reportAdapter, ex);
-                }
-            }
-        }
+        ReportDispatcher.getInstance().dispatch("reportCallChainInfo", instance.getContext().tc(), false,
+                reportAdapter -> reportAdapter.reportCallChainInfo(instance));
     }
 }
@@ -57,5 +57,12 @@ public interface ReportAdapter {
     void reportCallChainInfo(CallChainInstance instance);
 
     boolean needToReport(TcContext context);
+
+    /**
+     * Called after a batch of events is delivered to the adapter in asynchronous mode
+     * (see {@link ReportDispatcher}); adapter can send buffered data here.
+     */
+    default void afterBatch() {
+    }
 }
 
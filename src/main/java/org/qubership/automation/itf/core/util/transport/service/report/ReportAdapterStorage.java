@@ -55,6 +55,7 @@ public class ReportAdapterStorage {
      * TODO: Add JavaDoc.
      */
     public void terminateAll() {
+        ReportDispatcher.getInstance().shutdown();
         for (ReportAdapter adapter : STORAGE) {
             adapter.terminate();
         }
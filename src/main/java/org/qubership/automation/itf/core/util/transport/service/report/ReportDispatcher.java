@@ -0,0 +1,437 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.transport.service.report;
+
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.REPORT_ASYNC_BATCH_SIZE;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.REPORT_ASYNC_ENABLED;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.REPORT_ASYNC_FLUSH_TIMEOUT;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.REPORT_ASYNC_LANES;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.REPORT_ASYNC_OVERFLOW_POLICY;
+import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.REPORT_ASYNC_QUEUE_CAPACITY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.core.util.config.ApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+
+/**
+ * Delivers report events to report adapters.
+ * <ul>
+ *     <li>Synchronous mode (default): adapters are invoked on the calling thread, as before.</li>
+ *     <li>Asynchronous mode (report.async.enabled=true): each adapter has bounded queue(s) served by own worker
+ *     thread(s); events are delivered in batches, so a slow adapter doesn't slow down the execution.
+ *     Events of the same TcContext always go to the same queue, so their order is kept.
+ *     Note: adapters get the same instance objects, which can be changed by execution before the event is
+ *     delivered.</li>
+ * </ul>
+ * Adapter exceptions are only logged, in both modes.
+ */
+public class ReportDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportDispatcher.class);
+    private static final String METRIC_PREFIX = "itf.report.queue.";
+
+    /**
+     * What to do with an event when adapter queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait for a free place in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop 'info' and 'warn' events, wait for a free place for other events.
+         */
+        DROP_INFO
+    }
+
+    @Getter
+    private final boolean async;
+    private final int queueCapacity;
+    private final int lanes;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long flushTimeoutMillis;
+    private final Supplier<List<ReportAdapter>> adapters;
+    private final Map<ReportAdapter, AdapterQueue> queues = new ConcurrentHashMap<>();
+    private volatile boolean stopped;
+
+    /**
+     * Constructor.
+     *
+     * @param async              - deliver events asynchronously or not
+     * @param queueCapacity      - capacity of each adapter queue
+     * @param lanes              - number of queues (and worker threads) per adapter
+     * @param batchSize          - max number of events delivered by a worker at once
+     * @param overflowPolicy     - what to do when queue is full
+     * @param flushTimeoutMillis - max time to wait for delivery on stopRun/flush
+     */
+    public ReportDispatcher(boolean async, int queueCapacity, int lanes, int batchSize,
+                            OverflowPolicy overflowPolicy, long flushTimeoutMillis) {
+        this(async, queueCapacity, lanes, batchSize, overflowPolicy, flushTimeoutMillis,
+                () -> ReportAdapterStorage.getInstance().getAdapters());
+    }
+
+    ReportDispatcher(boolean async, int queueCapacity, int lanes, int batchSize, OverflowPolicy overflowPolicy,
+                     long flushTimeoutMillis, Supplier<List<ReportAdapter>> adapters) {
+        this.adapters = adapters;
+        this.async = async;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.lanes = Math.max(1, lanes);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.flushTimeoutMillis = flushTimeoutMillis;
+    }
+
+    public static ReportDispatcher getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Deliver event to all adapters which need to report the context.
+     *
+     * @param method    - adapter method name, for logging
+     * @param tc        - context of the event, passed to {@link ReportAdapter#needToReport}; it also selects the queue
+     * @param droppable - if true, event can be dropped on queue overflow (see {@link OverflowPolicy#DROP_INFO})
+     * @param call      - adapter method invocation
+     */
+    public void dispatch(String method, TcContext tc, boolean droppable, Consumer<ReportAdapter> call) {
+        for (ReportAdapter reportAdapter : adapters.get()) {
+            if (reportAdapter.needToReport(tc)) {
+                if (async && !stopped) {
+                    getQueue(reportAdapter).offer(new ReportEvent(method, call, droppable, null), tc);
+                } else {
+                    invoke(reportAdapter, method, call);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deliver event and wait until all events of the context (including this one) are delivered.
+     */
+    public void dispatchAndFlush(String method, TcContext tc, Consumer<ReportAdapter> call) {
+        List<CountDownLatch> delivered = new ArrayList<>();
+        for (ReportAdapter reportAdapter : adapters.get()) {
+            if (reportAdapter.needToReport(tc)) {
+                if (async && !stopped) {
+                    CountDownLatch latch = new CountDownLatch(1);
+                    getQueue(reportAdapter).offer(new ReportEvent(method, call, false, latch), tc);
+                    delivered.add(latch);
+                } else {
+                    invoke(reportAdapter, method, call);
+                }
+            }
+        }
+        await(delivered, method);
+    }
+
+    /**
+     * Wait until all queued events are delivered, then invoke adapters on the calling thread.
+     * Used for events which are not bound to a context.
+     */
+    public void dispatchAfterAll(String method, Consumer<ReportAdapter> call) {
+        flushAll();
+        for (ReportAdapter reportAdapter : adapters.get()) {
+            invoke(reportAdapter, method, call);
+        }
+    }
+
+    /**
+     * Wait until all events queued so far are delivered (or flush timeout is exceeded).
+     */
+    public void flushAll() {
+        List<CountDownLatch> delivered = new ArrayList<>();
+        for (AdapterQueue queue : queues.values()) {
+            for (Lane lane : queue.lanes) {
+                CountDownLatch latch = new CountDownLatch(1);
+                lane.put(new ReportEvent("flush", adapter -> { }, false, latch));
+                delivered.add(latch);
+            }
+        }
+        await(delivered, "flush");
+    }
+
+    /**
+     * Deliver queued events and stop workers; next events are delivered synchronously.
+     * Events queued while stopping are delivered on the calling thread, after the worker is finished.
+     */
+    public void shutdown() {
+        flushAll();
+        stopped = true;
+        for (AdapterQueue queue : queues.values()) {
+            for (Lane lane : queue.lanes) {
+                lane.thread.interrupt();
+            }
+        }
+        for (AdapterQueue queue : queues.values()) {
+            for (Lane lane : queue.lanes) {
+                lane.drain();
+            }
+        }
+    }
+
+    /**
+     * Get current state of adapter queues.
+     */
+    public List<ReportQueueMetrics> getMetrics() {
+        List<ReportQueueMetrics> metrics = new ArrayList<>(queues.size());
+        for (AdapterQueue queue : queues.values()) {
+            metrics.add(new ReportQueueMetrics(queue.name, queue.depth(), queue.lagMillis(),
+                    queue.delivered.get(), queue.dropped.get()));
+        }
+        return metrics;
+    }
+
+    private AdapterQueue getQueue(ReportAdapter reportAdapter) {
+        return queues.computeIfAbsent(reportAdapter, AdapterQueue::new);
+    }
+
+    private void await(List<CountDownLatch> delivered, String method) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushTimeoutMillis);
+        try {
+            for (CountDownLatch latch : delivered) {
+                if (!latch.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    LOGGER.warn("Report events are not delivered in {} ms on '{}'; continue without waiting",
+                            flushTimeoutMillis, method);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void invoke(ReportAdapter reportAdapter, String method, Consumer<ReportAdapter> call) {
+        try {
+            call.accept(reportAdapter);
+        } catch (Throwable ex) {
+            LOGGER.error("Report Adapter {} Error while '{}'", reportAdapter, method, ex);
+        }
+    }
+
+    private static final class ReportEvent {
+
+        private final String method;
+        private final Consumer<ReportAdapter> call;
+        private final boolean droppable;
+        private final CountDownLatch delivered;
+        private final long queuedAt = System.currentTimeMillis();
+
+        private ReportEvent(String method, Consumer<ReportAdapter> call, boolean droppable,
+                            CountDownLatch delivered) {
+            this.method = method;
+            this.call = call;
+            this.droppable = droppable;
+            this.delivered = delivered;
+        }
+    }
+
+    private final class AdapterQueue {
+
+        private final ReportAdapter reportAdapter;
+        private final String name;
+        private final Lane[] lanes;
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        private AdapterQueue(ReportAdapter reportAdapter) {
+            this.reportAdapter = reportAdapter;
+            this.name = reportAdapter.getClass().getSimpleName();
+            this.lanes = new Lane[ReportDispatcher.this.lanes];
+            for (int i = 0; i < this.lanes.length; i++) {
+                this.lanes[i] = new Lane(this, name + "-report-" + i);
+            }
+            registerMetrics();
+        }
+
+        private void offer(ReportEvent event, TcContext tc) {
+            Lane lane = lanes[tc == null || tc.getID() == null
+                    ? 0 : Math.floorMod(tc.getID().hashCode(), lanes.length)];
+            if (!lane.queue.offer(event)) {
+                if (event.droppable && overflowPolicy == OverflowPolicy.DROP_INFO) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                lane.put(event);
+            } else {
+                lane.drainIfStopped();
+            }
+        }
+
+        private int depth() {
+            int depth = 0;
+            for (Lane lane : lanes) {
+                depth += lane.queue.size();
+            }
+            return depth;
+        }
+
+        private long lagMillis() {
+            long oldest = Long.MAX_VALUE;
+            for (Lane lane : lanes) {
+                ReportEvent head = lane.queue.peek();
+                if (head != null) {
+                    oldest = Math.min(oldest, head.queuedAt);
+                }
+            }
+            return oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest;
+        }
+
+        private void registerMetrics() {
+            try {
+                Gauge.builder(METRIC_PREFIX + "depth", this, AdapterQueue::depth)
+                        .tag("adapter", name).register(Metrics.globalRegistry);
+                Gauge.builder(METRIC_PREFIX + "lag", this, AdapterQueue::lagMillis)
+                        .tag("adapter", name).baseUnit("milliseconds").register(Metrics.globalRegistry);
+                FunctionCounter.builder(METRIC_PREFIX + "delivered", delivered, AtomicLong::get)
+                        .tag("adapter", name).register(Metrics.globalRegistry);
+                FunctionCounter.builder(METRIC_PREFIX + "dropped", dropped, AtomicLong::get)
+                        .tag("adapter", name).register(Metrics.globalRegistry);
+            } catch (Exception e) {
+                LOGGER.warn("Cannot register report queue metrics for adapter {}", name, e);
+            }
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final AdapterQueue owner;
+        private final BlockingQueue<ReportEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+
+        private Lane(AdapterQueue owner, String threadName) {
+            this.owner = owner;
+            this.thread = new Thread(this, threadName);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        /*  Waits for a free place even if interrupted (the interrupt flag is restored),
+            so the event keeps its place after the events queued before.
+         */
+        private void put(ReportEvent event) {
+            Uninterruptibles.putUninterruptibly(queue, event);
+            drainIfStopped();
+        }
+
+        /*  The worker exits when stopped and its queue is empty,
+            so an event queued concurrently with shutdown is delivered by the caller.
+         */
+        private void drainIfStopped() {
+            if (stopped) {
+                drain();
+            }
+        }
+
+        /*  Deliver the rest of the queue on the calling thread once the worker is finished, keeping the order.
+         */
+        private synchronized void drain() {
+            if (thread != Thread.currentThread()) {
+                Uninterruptibles.joinUninterruptibly(thread, flushTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            boolean delivered = false;
+            ReportEvent event;
+            while ((event = queue.poll()) != null) {
+                deliver(event);
+                delivered = true;
+            }
+            if (delivered) {
+                invoke(owner.reportAdapter, "afterBatch", ReportAdapter::afterBatch);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<ReportEvent> batch = new ArrayList<>(batchSize);
+            while (!stopped || !queue.isEmpty()) {
+                try {
+                    ReportEvent first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                } catch (InterruptedException e) {
+                    queue.drainTo(batch);
+                }
+                for (ReportEvent event : batch) {
+                    deliver(event);
+                }
+                if (!batch.isEmpty()) {
+                    invoke(owner.reportAdapter, "afterBatch", ReportAdapter::afterBatch);
+                }
+                batch.clear();
+            }
+        }
+
+        private void deliver(ReportEvent event) {
+            invoke(owner.reportAdapter, event.method, event.call);
+            owner.delivered.incrementAndGet();
+            if (event.delivered != null) {
+                event.delivered.countDown();
+            }
+        }
+    }
+
+    private static final class Holder {
+
+        private static final ReportDispatcher INSTANCE = create();
+
+        private static ReportDispatcher create() {
+            if (ApplicationConfig.env == null) {
+                return new ReportDispatcher(false, 10000, 1, 100, OverflowPolicy.BLOCK, 30000);
+            }
+            boolean async = Boolean.parseBoolean(ApplicationConfig.env.getProperty(REPORT_ASYNC_ENABLED, "false"));
+            OverflowPolicy policy;
+            try {
+                policy = OverflowPolicy.valueOf(ApplicationConfig.env.getProperty(REPORT_ASYNC_OVERFLOW_POLICY,
+                        OverflowPolicy.BLOCK.name()).trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown {} value; {} is used", REPORT_ASYNC_OVERFLOW_POLICY, OverflowPolicy.BLOCK);
+                policy = OverflowPolicy.BLOCK;
+            }
+            ReportDispatcher dispatcher = new ReportDispatcher(async,
+                    NumberUtils.toInt(ApplicationConfig.env.getProperty(REPORT_ASYNC_QUEUE_CAPACITY), 10000),
+                    NumberUtils.toInt(ApplicationConfig.env.getProperty(REPORT_ASYNC_LANES), 1),
+                    NumberUtils.toInt(ApplicationConfig.env.getProperty(REPORT_ASYNC_BATCH_SIZE), 100),
+                    policy,
+                    NumberUtils.toLong(ApplicationConfig.env.getProperty(REPORT_ASYNC_FLUSH_TIMEOUT), 30000));
+            LOGGER.info("Report dispatching is {}", async ? "asynchronous, overflow policy " + policy : "synchronous");
+            return dispatcher;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.transport.service.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Snapshot of a report adapter queue state.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ReportQueueMetrics {
+
+    private final String adapter;
+    /*  Events waiting for delivery.
+     */
+    private final int depth;
+    /*  Age of the oldest event waiting for delivery, ms.
+     */
+    private final long lagMillis;
+    private final long delivered;
+    private final long dropped;
+}
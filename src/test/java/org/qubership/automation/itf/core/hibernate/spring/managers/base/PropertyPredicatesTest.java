@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.hibernate.spring.managers.base;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.tuple.Triple;
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.system.operation.Operation;
+import org.qubership.automation.itf.core.util.constants.Match;
+
+public class PropertyPredicatesTest {
+
+    private static final Set<String> MAPPED = new HashSet<>(Arrays.asList(
+            "ID", "name", "description", "projectId", "operationDefinitionKey"));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSimplePropertiesAreTranslatedAndOthersRemain() {
+        Triple<String, Match, ?> byCollection = Triple.of("situations", Match.IN, Collections.emptySet());
+        Triple<String, Match, ?> byWrongType = Triple.of("name", Match.EQUALS, 5);
+        Triple<String, Match, ?> byUnknown = Triple.of("unknown", Match.EQUALS, "x");
+        PropertyPredicates translation = PropertyPredicates.translate(Operation.class, MAPPED, BigInteger.ONE,
+                new Triple[]{
+                    Triple.of("name", Match.EQUALS, "getOrder"),
+                    Triple.of("operationDefinitionKey", Match.NOT_EQUALS, "key"),
+                    Triple.of("description", Match.EQUALS, null),
+                    Triple.of("operationDefinitionKey", Match.IN, Arrays.asList("a", "b")),
+                    byCollection, byWrongType, byUnknown});
+
+        assertEquals("operation.projectId = 1 && operation.name = getOrder"
+                        + " && (operation.operationDefinitionKey != key || operation.operationDefinitionKey is null)"
+                        + " && operation.description is null && operation.operationDefinitionKey in [a, b]",
+                translation.getPredicate().toString());
+        assertEquals(Arrays.asList(byCollection, byWrongType, byUnknown), Arrays.asList(translation.getRemaining()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnmappedPropertiesRemain() {
+        Triple<String, Match, ?> byUnmapped = Triple.of("description", Match.EQUALS, "x");
+        PropertyPredicates translation = PropertyPredicates.translate(Operation.class,
+                Collections.singleton("name"), BigInteger.ONE,
+                new Triple[]{Triple.of("name", Match.EQUALS, "getOrder"), byUnmapped});
+        assertEquals("operation.name = getOrder", translation.getPredicate().toString());
+        assertEquals(Collections.singletonList(byUnmapped), Arrays.asList(translation.getRemaining()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNoProjectScopeWithoutProjectId() {
+        PropertyPredicates translation = PropertyPredicates.translate(Operation.class, MAPPED, null,
+                new Triple[]{Triple.of("name", Match.IN, "getOrder")});
+        assertEquals("operation.name = getOrder", translation.getPredicate().toString());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.hibernate.spring.managers.reports;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.hibernate.spring.repositories.reports.InstanceContextRepository;
+import org.qubership.automation.itf.core.model.jpa.context.MonitoringContextTree;
+
+public class InstanceContextObjectManagerTest {
+
+    private static final BigInteger CONTEXT_ID = BigInteger.valueOf(100);
+    private static final Integer PART_NUM = 1;
+
+    private final InstanceContextRepository repository = mock(InstanceContextRepository.class);
+    private final InstanceContextObjectManager manager = new InstanceContextObjectManager(repository);
+
+    @Test
+    public void testTreeIsAssembledFromSetBasedQueries() {
+        mockContext("PASSED");
+
+        MonitoringContextTree tree = manager.getContextTree("100", PART_NUM);
+
+        assertEquals(3, tree.getRows().size());
+        assertEquals(2, tree.getSteps().size());
+        MonitoringContextTree.StepDetails step = tree.getStep(BigInteger.valueOf(1));
+        assertEquals(BigInteger.valueOf(11), step.getSpContextId());
+        assertEquals("{\"a\":1}", step.getStepContext());
+        assertEquals("ok", step.getValidationResults());
+        assertEquals(Collections.singletonMap("param", "value"), step.getMessageParameters());
+        assertEquals("request", step.getIncomingMessage().getText());
+        assertEquals(Collections.singletonMap("Content-Type", "text/xml"), step.getIncomingMessage().getHeaders());
+        assertEquals(Collections.singletonMap("endpoint", "/x"),
+                step.getOutgoingMessage().getConnectionProperties());
+        MonitoringContextTree.StepDetails failed = tree.getStep(BigInteger.valueOf(2));
+        assertEquals("Timeout", failed.getErrorName());
+        assertNull(failed.getIncomingMessage());
+
+        verify(repository).getStepInstancesMessageIds(anyCollection(), eq(PART_NUM));
+        verify(repository).getMessageTexts(anyCollection(), eq(PART_NUM));
+        verify(repository).getMessagesHeaders(anyCollection(), eq(PART_NUM));
+        assertEquals("request".length() + "response".length() + "{\"a\":1}".length() + "ok".length()
+                + "No response".length() + "param".length() + "value".length() + "Content-Type".length()
+                + "text/xml".length() + "endpoint".length() + "/x".length() + 2 * "step".length()
+                + "NULL".length() + 6 * 16, tree.getSize());
+        assertSame(tree, manager.getContextTree("100", PART_NUM));
+        verify(repository, times(1)).getTcContextTree(CONTEXT_ID, PART_NUM);
+    }
+
+    @Test
+    public void testPageAndUnfinishedContextAreNotCached() {
+        mockContext("IN_PROGRESS");
+
+        MonitoringContextTree page = manager.getContextTree("100", PART_NUM, 1, 1);
+        assertEquals(1, page.getOffset());
+        assertEquals(3, page.getTotalRows());
+        assertEquals(1, page.getRows().size());
+        assertEquals(Collections.singleton(BigInteger.valueOf(2)), page.getSteps().keySet());
+
+        manager.getContextTree("100", PART_NUM, 1, 1);
+        verify(repository, times(2)).getTcContextTreePage(CONTEXT_ID, PART_NUM, 1, 1);
+        verify(repository, never()).getTcContextTree(CONTEXT_ID, PART_NUM);
+    }
+
+    private void mockContext(String status) {
+        when(repository.getContextStatus(CONTEXT_ID, PART_NUM)).thenReturn(status);
+        when(repository.getTcContextTree(CONTEXT_ID, PART_NUM)).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(1), BigInteger.ZERO, "step"},
+                new Object[]{BigInteger.valueOf(2), BigInteger.ZERO, "step"},
+                new Object[]{BigInteger.ZERO, BigInteger.ZERO, "NULL"}));
+        when(repository.getTcContextTreeSize(CONTEXT_ID, PART_NUM)).thenReturn(3);
+        when(repository.getTcContextTreePage(CONTEXT_ID, PART_NUM, 1, 1)).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(2), BigInteger.ZERO, "step"}));
+        when(repository.getStepInstancesErrors(anyCollection(), any())).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(2), "Timeout", "No response"}));
+        when(repository.getStepInstancesMessageIds(anyCollection(), any())).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(1), BigInteger.valueOf(11), BigInteger.valueOf(21),
+                    BigInteger.valueOf(22), "{\"a\":1}", "ok"}));
+        when(repository.getMessageTexts(anyCollection(), any())).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(21), "request"}, new Object[]{BigInteger.valueOf(22), "response"}));
+        when(repository.getMessagesHeaders(anyCollection(), any())).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(21), "Content-Type", "text/xml"}));
+        when(repository.getMessagesConnectionProperties(anyCollection(), any())).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(22), "endpoint", "/x"}));
+        when(repository.getSpMessagesParameters(anyCollection(), any())).thenReturn(rows(
+                new Object[]{BigInteger.valueOf(11), "param", "value"}));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+}
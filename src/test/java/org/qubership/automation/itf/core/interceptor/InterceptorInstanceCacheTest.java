@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.interceptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.interceptor.Interceptor;
+import org.qubership.automation.itf.core.model.interceptor.InterceptorChain;
+import org.qubership.automation.itf.core.model.interceptor.TransportInterceptor;
+import org.qubership.automation.itf.core.model.jpa.interceptor.TemplateInterceptor;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.util.annotation.ThreadSafeInterceptor;
+import org.qubership.automation.itf.core.util.loader.InterceptorInstanceCache;
+
+public class InterceptorInstanceCacheTest {
+
+    @After
+    public void tearDown() {
+        InterceptorInstanceCache.getInstance().invalidateAll();
+    }
+
+    @Test
+    public void testThreadSafeInterceptorIsCreatedOncePerVersion() throws Exception {
+        Interceptor interceptor = interceptor(SharedInterceptor.class, 1);
+        InterceptorInstanceCache cache = InterceptorInstanceCache.getInstance();
+        TransportInterceptor first = cache.get(interceptor);
+        assertSame(first, cache.get(interceptor));
+        when(interceptor.getVersion()).thenReturn(2);
+        TransportInterceptor second = cache.get(interceptor);
+        assertNotSame(first, second);
+        cache.invalidate(interceptor.getID());
+        assertNotSame(second, cache.get(interceptor));
+    }
+
+    @Test
+    public void testNotThreadSafeInterceptorIsCreatedPerCall() throws Exception {
+        Interceptor interceptor = interceptor(AppendingInterceptor.class, 1);
+        assertNotSame(InterceptorInstanceCache.getInstance().get(interceptor),
+                InterceptorInstanceCache.getInstance().get(interceptor));
+    }
+
+    @Test
+    public void testChainAppliesActiveInterceptorsInOrder() throws Exception {
+        InterceptorChain chain = new InterceptorChain();
+        chain.add(interceptor(AppendingInterceptor.class, 1));
+        chain.add(interceptor(SharedInterceptor.class, 1));
+        Interceptor inactive = interceptor(AppendingInterceptor.class, 1);
+        when(inactive.isActive()).thenReturn(false);
+        chain.add(inactive);
+        assertEquals("text-appended-shared", chain.apply(new Message("text")).getText());
+    }
+
+    private Interceptor interceptor(Class<? extends TransportInterceptor> type, int version) {
+        Interceptor interceptor = mock(TemplateInterceptor.class);
+        when(interceptor.getTypeName()).thenReturn(type.getName());
+        when(interceptor.getID()).thenReturn(BigInteger.valueOf(type.getSimpleName().length()));
+        when(interceptor.getVersion()).thenReturn(version);
+        when(interceptor.isActive()).thenReturn(true);
+        return interceptor;
+    }
+
+    public static class AppendingInterceptor extends TransportInterceptor {
+
+        public AppendingInterceptor(Interceptor interceptor) {
+            super(interceptor);
+        }
+
+        @Override
+        public Message apply(Message data) {
+            data.setText(data.getText() + "-appended");
+            return data;
+        }
+
+        @Override
+        public String validate() {
+            return null;
+        }
+    }
+
+    @ThreadSafeInterceptor
+    public static class SharedInterceptor extends TransportInterceptor {
+
+        public SharedInterceptor(Interceptor interceptor) {
+            super(interceptor);
+        }
+
+        @Override
+        public Message apply(Message data) {
+            data.setText(data.getText() + "-shared");
+            return data;
+        }
+
+        @Override
+        public String validate() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.message.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.model.jpa.message.parser.AbstractParsingRule;
+import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+import org.qubership.automation.itf.core.model.jpa.system.System;
+import org.qubership.automation.itf.core.util.exception.ContentException;
+import org.qubership.automation.itf.core.util.helper.ContentHelper;
+import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
+
+/**
+ * Compares evaluation of a 50-rule configuration by {@link ParsingRuleType#parseAll} (one traversal
+ * of the message) with rule-by-rule {@link ParsingRuleType#parse}.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main ParsingRuleBatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParsingRuleBatchBenchmark {
+
+    private static final int RULES = 50;
+
+    @Param({"JSON_PATH", "XPATH"})
+    private ParsingRuleType type;
+
+    private Message message;
+    private List<ParsingRule> rules;
+
+    /**
+     * Builds a message of 50 fields and a rule per field.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder content = new StringBuilder();
+        rules = new ArrayList<>(RULES);
+        if (type == ParsingRuleType.JSON_PATH) {
+            content.append("{\"header\":{\"version\":\"1\"},\"body\":{");
+            for (int i = 0; i < RULES; i++) {
+                content.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":{\"value\":\"v")
+                        .append(i).append("\"}");
+                rules.add(rule("$.body.field" + i + ".value"));
+            }
+            content.append("}}");
+        } else {
+            content.append("<message><header><version>1</version></header><body>");
+            for (int i = 0; i < RULES; i++) {
+                content.append("<field").append(i).append(" code=\"c").append(i).append("\">v").append(i)
+                        .append("</field").append(i).append('>');
+                rules.add(rule(i % 2 == 0 ? "/message/body/field" + i + "/text()" : "/message/body/field" + i
+                        + "/@code"));
+            }
+            content.append("</body></message>");
+        }
+        message = new Message(content.toString());
+        ContentHelper.getInstance().trySetContent(message, type.toString());
+    }
+
+    @Benchmark
+    public void oneByOne(Blackhole blackhole) {
+        for (ParsingRule rule : rules) {
+            blackhole.consume(type.parse(message, rule));
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) throws ContentException {
+        blackhole.consume(type.parseAll(message, rules));
+    }
+
+    private ParsingRule rule(String expression) {
+        ParsingRule rule = new BenchmarkParsingRule();
+        rule.setParamName("param");
+        rule.setParsingType(type);
+        rule.setExpression(expression);
+        rule.prepare(null, false);
+        return rule;
+    }
+
+    private static class BenchmarkParsingRule extends AbstractParsingRule<System> {
+
+        @Override
+        public String getParsingRulePath() {
+            return getExpression();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.message.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.model.jpa.message.parser.MessageParameter;
+import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
+import org.qubership.automation.itf.core.model.jpa.message.parser.SystemParsingRule;
+import org.qubership.automation.itf.core.util.exception.ContentException;
+import org.qubership.automation.itf.core.util.helper.ContentHelper;
+import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
+import org.qubership.automation.itf.core.util.provider.content.JsonContentProvider;
+import org.qubership.automation.itf.core.util.provider.content.MessageContentProvider;
+import org.qubership.automation.itf.core.util.provider.content.StreamableContent;
+import org.qubership.automation.itf.core.util.provider.content.XmlContentProvider;
+
+public class ParsingRuleBatchTest {
+
+    private static final String JSON = "{\"header\":{\"version\":\"1\",\"siteId\":null},"
+            + "\"body\":{\"rollBack\":false,\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2}],"
+            + "\"nested\":{\"x\":{\"y\":\"z\"}}}}";
+
+    private static final String XML = "<order id=\"42\"><item code=\"A\">first</item><item code=\"B\">second</item>"
+            + "<total>10</total><note><![CDATA[cdata]]></note></order>";
+
+    @Test
+    public void testJsonPathBatchGivesSameResultsAsOneByOne() throws ContentException {
+        assertBatchEqualsOneByOne(ParsingRuleType.JSON_PATH, JSON,
+                "$.header.version", "header.siteId", "$.body.rollBack", "$.body.items[0].id",
+                "$.body.items[-1].id", "$.body.items[0].tags", "$.body.items[5].id", "$.body.nested.x",
+                "$.body.missing", "$.body.items[*].id", "$..id", "$.header.version.deeper");
+    }
+
+    @Test
+    public void testXpathBatchGivesSameResultsAsOneByOne() throws ContentException {
+        assertBatchEqualsOneByOne(ParsingRuleType.XPATH, XML,
+                "/order/@id", "/order/item/text()", "/order/item/@code", "/order/total", "/order/note/text()",
+                "/order/missing/text()", "/other/item", "//item/text()", "/order/item[2]/text()");
+    }
+
+    @Test
+    public void testStreamedXmlGivesSameResultsAsTree() throws ContentException {
+        String xml = "<?xml version=\"1.0\"?>\n<order id=\"42\" xmlns:ns=\"urn:x\" ns:id=\"7\">\n"
+                + "  <item code=\"A\">first &amp; <!-- c --> second</item>\n"
+                + "  <item code=\"B\"><![CDATA[ <cdata> ]]>tail&#65;</item>\n  <item>   </item>\n"
+                + "  <ns:item code=\"N\">namespaced</ns:item><empty/>\n</order>";
+        String[] expressions = {"/order/@id", "/order/item/text()", "/order/item/@code", "/order/@ns",
+                "/order/missing/text()", "/other/item/text()", "/order/empty/text()"};
+        assertStreamedEqualsTree(ParsingRuleType.XPATH, xml, new XmlContentProvider(true), expressions);
+    }
+
+    @Test
+    public void testStreamedJsonGivesSameResultsAsTree() throws ContentException {
+        String json = "{\"a\":{\"b\":1,\"c\":[1.50,\"x\",null,{\"d\":true}]},\"dup\":{\"x\":1},"
+                + "\"dup\":{\"y\":2},\"big\":12345678901,\"str\":\"q\\\"\\u0041\"}";
+        String[] expressions = {"$.a.b", "$.a.c", "$.a.c[0]", "$.a.c[2]", "$.a.c[3].d", "$.a.c[9]", "$.dup.x",
+                "$.dup.y", "$.big", "$.str", "$.a", "$.a.b.c"};
+        assertStreamedEqualsTree(ParsingRuleType.JSON_PATH, json, new JsonContentProvider(true), expressions);
+        assertStreamedEqualsTree(ParsingRuleType.JSON_PATH, "[{\"id\":1},{\"id\":2}]", new JsonContentProvider(true),
+                "$.array[1].id", "$.array[0]", "$.array[5].id");
+    }
+
+    @Test(expected = ContentException.class)
+    public void testStreamingProviderRejectsNonJsonRoot() throws ContentException {
+        new JsonContentProvider(true).provide(new Message("\"a\""));
+    }
+
+    @Test(expected = ContentException.class)
+    public void testMalformedJsonIsRejectedByExtractionPass() throws ContentException {
+        parseStreamed(ParsingRuleType.JSON_PATH, "{\"a\":1", new JsonContentProvider(true), "$.a", "$.b");
+    }
+
+    @Test(expected = ContentException.class)
+    public void testMalformedXmlIsRejectedByExtractionPass() throws ContentException {
+        parseStreamed(ParsingRuleType.XPATH, "<a><b>1</b>", new XmlContentProvider(true), "/a/b/text()", "/a/@c");
+    }
+
+    @Test
+    public void testInvalidRuleIsLeftForSeparateApplying() throws ContentException {
+        Message message = message(ParsingRuleType.JSON_PATH, JSON);
+        ParsingRule valid = rule(ParsingRuleType.JSON_PATH, "$.header.version", false);
+        ParsingRule invalid = rule(ParsingRuleType.JSON_PATH, "$.[[", false);
+        List<ParsingRule> rules = new ArrayList<>();
+        rules.add(valid);
+        rules.add(invalid);
+        Map<ParsingRule, MessageParameter> result = ParsingRuleType.JSON_PATH.parseAll(message, rules);
+        assertTrue(result.containsKey(valid));
+        assertFalse(result.containsKey(invalid));
+    }
+
+    private void assertBatchEqualsOneByOne(ParsingRuleType type, String content, String... expressions)
+            throws ContentException {
+        Message message = message(type, content);
+        List<ParsingRule> rules = new ArrayList<>();
+        for (String expression : expressions) {
+            rules.add(rule(type, expression, false));
+            rules.add(rule(type, expression, true));
+        }
+        Map<ParsingRule, MessageParameter> batch = type.parseAll(message, rules);
+        for (ParsingRule rule : rules) {
+            MessageParameter expected = type.parse(message, rule);
+            MessageParameter actual = batch.get(rule);
+            String description = rule.getParsedExpression() + (rule.getMultiple() ? " (multiple)" : "");
+            assertEquals(description, expected.getMultipleValue(), actual.getMultipleValue());
+            if (!expected.getMultipleValue().isEmpty()) {
+                assertEquals(description, expected.getSingleValue(), actual.getSingleValue());
+            }
+        }
+    }
+
+    private void assertStreamedEqualsTree(ParsingRuleType type, String content,
+                                          MessageContentProvider<?> streamingProvider,
+                                          String... expressions) throws ContentException {
+        Message treeMessage = message(type, content);
+        Message streamedMessage = new Message(content);
+        streamedMessage.setContent(streamingProvider.provide(streamedMessage));
+        List<ParsingRule> rules = new ArrayList<>();
+        for (String expression : expressions) {
+            rules.add(rule(type, expression, false));
+            rules.add(rule(type, expression, true));
+        }
+        Map<ParsingRule, MessageParameter> streamed = type.parseAll(streamedMessage, rules);
+        assertFalse(((StreamableContent) streamedMessage.getContent()).isMaterialized());
+        Map<ParsingRule, MessageParameter> tree = type.parseAll(treeMessage, rules);
+        for (ParsingRule rule : rules) {
+            String description = rule.getParsedExpression() + (rule.getMultiple() ? " (multiple)" : "");
+            assertEquals(description, tree.get(rule).getMultipleValue(), streamed.get(rule).getMultipleValue());
+        }
+    }
+
+    private void parseStreamed(ParsingRuleType type, String content, MessageContentProvider<?> streamingProvider,
+                               String... expressions) throws ContentException {
+        Message message = new Message(content);
+        message.setContent(streamingProvider.provide(message));
+        List<ParsingRule> rules = new ArrayList<>();
+        for (String expression : expressions) {
+            rules.add(rule(type, expression, false));
+        }
+        type.parseAll(message, rules);
+    }
+
+    private Message message(ParsingRuleType type, String content) throws ContentException {
+        Message message = new Message(content);
+        ContentHelper.getInstance().trySetContent(message, type.toString());
+        return message;
+    }
+
+    private ParsingRule rule(ParsingRuleType type, String expression, boolean multiple) {
+        ParsingRule rule = mock(SystemParsingRule.class);
+        when(rule.getParamName()).thenReturn("param");
+        when(rule.getParsingType()).thenReturn(type);
+        when(rule.getExpression()).thenReturn(expression);
+        when(rule.getParsedExpression()).thenReturn(expression);
+        when(rule.getMultiple()).thenReturn(multiple);
+        when(rule.getAutosave()).thenReturn(false);
+        return rule;
+    }
+}
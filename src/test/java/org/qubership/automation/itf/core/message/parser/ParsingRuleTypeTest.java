@@ -18,6 +18,8 @@ package org.qubership.automation.itf.core.message.parser;
 
 import static org.qubership.automation.itf.core.util.parser.ParsingRuleType.XPATH;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +30,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.jdom2.Element;
+import org.jdom2.xpath.XPathExpression;
 import org.junit.Test;
 import org.testng.reporters.Files;
 
@@ -38,6 +41,7 @@ import org.qubership.automation.itf.core.model.jpa.message.parser.ParsingRule;
 import org.qubership.automation.itf.core.model.jpa.message.parser.SystemParsingRule;
 import org.qubership.automation.itf.core.util.exception.ContentException;
 import org.qubership.automation.itf.core.util.helper.ContentHelper;
+import org.qubership.automation.itf.core.util.parser.CompiledParsingRule;
 import org.qubership.automation.itf.core.util.parser.ParsingRuleType;
 import org.qubership.automation.itf.core.util.provider.content.XmlContentProvider;
 
@@ -103,4 +107,14 @@ public class ParsingRuleTypeTest {
         MessageParameter parse = XPATH.parse(message, parsingRule);
         assertEquals("900000002319", parse.getSingleValue());
     }
+
+    @Test
+    public void testXpathExpressionIsReusedAfterRelease() {
+        CompiledParsingRule compiled = CompiledParsingRule.compile(XPATH, "/a/b");
+        XPathExpression<Object> first = compiled.borrowXpathExpression();
+        XPathExpression<Object> second = compiled.borrowXpathExpression();
+        assertNotSame(first, second);
+        compiled.releaseXpathExpression(first);
+        assertSame(first, compiled.borrowXpathExpression());
+    }
 }
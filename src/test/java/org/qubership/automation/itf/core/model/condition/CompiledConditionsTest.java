@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.condition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.util.constants.Condition;
+import org.qubership.automation.itf.core.util.constants.Etc;
+
+public class CompiledConditionsTest {
+
+    private static final Condition[] CONDITIONS = {Condition.EQUALS, Condition.NOTEQUALS, Condition.MATCHES,
+            Condition.NOTMATCHES, Condition.EXISTS, Condition.NOTEXISTS, Condition.LESS, Condition.GREATER};
+    private static final Etc[] ETCS = {Etc.AND, Etc.OR, null};
+
+    @Test
+    public void testCompiledChainGivesSameResultsAsEtcQueue() {
+        JsonContext context = new JsonContext();
+        context.put("a", "1");
+        context.put("b", "abc");
+        String[] names = {"a", "b", "missing"};
+        String[] values = {"1", "abc", "a.*", "2", "0"};
+        Random random = new Random(20250303L);
+        for (int run = 0; run < 5000; run++) {
+            List<ConditionParameter> parameters = new ArrayList<>();
+            int size = 1 + random.nextInt(6);
+            for (int i = 0; i < size; i++) {
+                parameters.add(parameter(names[random.nextInt(names.length)],
+                        CONDITIONS[random.nextInt(CONDITIONS.length)], values[random.nextInt(values.length)],
+                        ETCS[random.nextInt(ETCS.length)]));
+            }
+            assertEquals(parameters.toString(), evaluateByQueue(context, parameters), evaluate(context, parameters));
+        }
+    }
+
+    @Test
+    public void testProgramIsRebuiltWhenParametersChange() {
+        JsonContext context = new JsonContext();
+        context.put("a", "1");
+        List<ConditionParameter> parameters = new ArrayList<>();
+        parameters.add(parameter("a", Condition.EQUALS, "1", null));
+        CompiledConditions compiled = CompiledConditions.of(parameters);
+        assertSame(compiled, CompiledConditions.of(parameters));
+        assertTrue(compiled.evaluate(context));
+
+        parameters.get(0).setValue("2");
+        assertNotSame(compiled, CompiledConditions.of(parameters));
+        assertFalse(CompiledConditions.of(parameters).evaluate(context));
+    }
+
+    private static String evaluate(JsonContext context, List<ConditionParameter> parameters) {
+        try {
+            return String.valueOf(ConditionsHelper.isApplicable(context, parameters));
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+
+    /*  Evaluation as it was implemented before compilation of conditions.
+     */
+    private static String evaluateByQueue(JsonContext context, List<ConditionParameter> parameters) {
+        Queue<Etc> etcQueue = new ArrayDeque<>();
+        for (ConditionParameter parameter : parameters) {
+            if (parameter.getEtc() != null) {
+                etcQueue.add(parameter.getEtc());
+            }
+        }
+        boolean result = parameters.get(0).applicable(context);
+        for (int i = 1; i < parameters.size(); i++) {
+            if (!etcQueue.contains(Etc.OR) && !result) {
+                break;
+            }
+            Etc etc = etcQueue.poll();
+            if (etc == null) {
+                return String.format("Etc attribute was not specified for condition "
+                        + "property %s, don't know how to process...", parameters.get(i - 1).getName());
+            }
+            result = etc == Etc.AND
+                    ? result && parameters.get(i).applicable(context)
+                    : result || parameters.get(i).applicable(context);
+        }
+        return String.valueOf(result);
+    }
+
+    private static ConditionParameter parameter(String name, Condition condition, String value, Etc etc) {
+        ConditionParameter parameter = new ConditionParameter();
+        parameter.setName(name);
+        parameter.setCondition(condition);
+        parameter.setValue(value);
+        parameter.setEtc(etc);
+        return parameter;
+    }
+}
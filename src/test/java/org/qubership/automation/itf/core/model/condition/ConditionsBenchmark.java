@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.condition;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.util.constants.Condition;
+import org.qubership.automation.itf.core.util.constants.Etc;
+import org.qubership.automation.itf.core.util.engine.TemplateEngine;
+import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
+
+/**
+ * Compares situation selection (conditions of every situation are checked against one message context)
+ * by {@link ConditionsHelper#isApplicable} with the evaluation as it was before conditions compilation:
+ * value rendered and regex compiled on every check, Etc queue built for every situation.
+ * Only the last situation matches, so all of them are evaluated.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main ConditionsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionsBenchmark {
+
+    @Param({"100", "500"})
+    private int situations;
+
+    private JsonContext context;
+    private List<List<ConditionParameter>> triggers;
+
+    /**
+     * Builds triggers of 3 conditions each: constant EQUALS, constant MATCHES and EQUALS with a reference.
+     */
+    @Setup
+    public void setUp() {
+        TemplateEngineFactory.init(new ReferenceTemplateEngine());
+        context = new JsonContext();
+        context.put("operation", "createOrder");
+        context.put("msisdn", "7900123" + (situations - 1));
+        context.put("expected", "v" + (situations - 1));
+        context.put("actual", "v" + (situations - 1));
+        triggers = new ArrayList<>(situations);
+        for (int i = 0; i < situations; i++) {
+            List<ConditionParameter> conditions = new ArrayList<>();
+            conditions.add(parameter("operation", Condition.EQUALS, "createOrder", Etc.AND));
+            conditions.add(parameter("msisdn", Condition.MATCHES, "7900\\d{3}" + i, Etc.AND));
+            conditions.add(parameter("actual", Condition.EQUALS, "${expected}", null));
+            triggers.add(conditions);
+        }
+    }
+
+    @Benchmark
+    public int compiled() {
+        for (int i = 0; i < triggers.size(); i++) {
+            if (ConditionsHelper.isApplicable(context, triggers.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int perCheck() {
+        for (int i = 0; i < triggers.size(); i++) {
+            if (isApplicableByQueue(context, triggers.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isApplicableByQueue(JsonContext context, List<ConditionParameter> parameters) {
+        Queue<Etc> etcQueue = new ArrayDeque<>();
+        for (ConditionParameter parameter : parameters) {
+            if (parameter.getEtc() != null) {
+                etcQueue.add(parameter.getEtc());
+            }
+        }
+        boolean result = check(context, parameters.get(0));
+        for (int i = 1; i < parameters.size(); i++) {
+            if (!etcQueue.contains(Etc.OR) && !result) {
+                break;
+            }
+            result = etcQueue.poll() == Etc.AND
+                    ? result && check(context, parameters.get(i))
+                    : result || check(context, parameters.get(i));
+        }
+        return result;
+    }
+
+    private static boolean check(JsonContext context, ConditionParameter parameter) {
+        if (!context.containsKey(parameter.getName()) && context instanceof InstanceContext) {
+            return false;
+        }
+        Object keyValue = context.get(parameter.getName());
+        String stringValue = keyValue == null ? "" : keyValue.toString();
+        String processedValue = TemplateEngineFactory.process(null, parameter.getValue(), context);
+        return parameter.getCondition() == Condition.MATCHES
+                ? Pattern.compile(processedValue).matcher(stringValue).matches()
+                : stringValue.equals(processedValue);
+    }
+
+    private static ConditionParameter parameter(String name, Condition condition, String value, Etc etc) {
+        ConditionParameter parameter = new ConditionParameter();
+        parameter.setName(name);
+        parameter.setCondition(condition);
+        parameter.setValue(value);
+        parameter.setEtc(etc);
+        return parameter;
+    }
+
+    /*  Resolves ${name} references only; cheaper than velocity, so the gain shown is the lower bound.
+     */
+    private static class ReferenceTemplateEngine implements TemplateEngine {
+
+        @Override
+        public String process(Storable owner, String someString, JsonContext context) {
+            StringBuilder result = new StringBuilder(someString.length());
+            int start = 0;
+            int reference;
+            while ((reference = someString.indexOf("${", start)) >= 0) {
+                int end = someString.indexOf('}', reference);
+                result.append(someString, start, reference);
+                Object value = context.get(someString.substring(reference + 2, end));
+                result.append(value == null ? someString.substring(reference, end + 1) : value);
+                start = end + 1;
+            }
+            return result.append(someString, start, someString.length()).toString();
+        }
+
+        @Override
+        public String process(Map<String, Storable> storables, String someString, JsonContext context) {
+            return process((Storable) null, someString, context);
+        }
+
+        @Override
+        public String process(Storable owner, String someString, JsonContext context, String coords) {
+            return process(owner, someString, context);
+        }
+
+        @Override
+        public String process(Map<String, Storable> storables, String someString, JsonContext context,
+                              String coords) {
+            return process((Storable) null, someString, context);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.jpa.context;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.base.Splitter;
+
+/**
+ * Compares dotted key resolution of {@link JsonContext} via cached {@link JsonContextPath}
+ * with the former regex-per-segment resolution.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main JsonContextPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonContextPathBenchmark {
+
+    private static final Splitter SPLITTER = Splitter.on('.');
+    private static final Pattern ARRAY_PATTERN = Pattern.compile("(\\w+)\\s*\\[\\s*(\\d+)\\s*\\]");
+    private static final Pattern MAP_PATTERN = Pattern.compile("(\\w+)\\s*\\[\\s*(\"|')(\\w+)(\\2)\\s*\\]");
+
+    @Param({"tc.saved.customerId", "sp.request.items[3].id", "tc.saved.headers['Content_Type']",
+            "tc.saved.a.b.c.d.e.f"})
+    private String key;
+
+    private JsonContext context;
+
+    /**
+     * Builds a context of the typical tc/sp shape.
+     */
+    @Setup
+    public void setUp() {
+        context = new JsonContext();
+        context.create("tc");
+        context.create("tc.saved");
+        context.create("sp");
+        context.create("sp.request");
+        for (int i = 0; i < 50; i++) {
+            context.put("tc.saved.param" + i, "value" + i);
+            context.put("sp.request.items[" + i + "]", new JsonContext());
+            context.put("sp.request.items[" + i + "].id", i);
+        }
+        context.put("tc.saved.customerId", "12345");
+        context.put("tc.saved.headers['Content_Type']", "text/xml");
+        String deep = "tc.saved";
+        for (String part : new String[]{"a", "b", "c", "d", "e"}) {
+            deep += "." + part;
+            context.create(deep);
+        }
+        context.put("tc.saved.a.b.c.d.e.f", "deep");
+    }
+
+    @Benchmark
+    public void cachedPath(Blackhole blackhole) {
+        blackhole.consume(context.get(key));
+    }
+
+    @Benchmark
+    public void regexPerSegment(Blackhole blackhole) {
+        blackhole.consume(legacyGet(context, key));
+    }
+
+    private static Object legacyGet(Map root, String stringKey) {
+        Object tmpObject = root;
+        Iterator<String> iterator = SPLITTER.split(stringKey).iterator();
+        Matcher arrayMatcher = ARRAY_PATTERN.matcher("");
+        Matcher mapMatcher = MAP_PATTERN.matcher("");
+        do {
+            String keyPart = iterator.next();
+            if (!(tmpObject instanceof Map)) {
+                return null;
+            }
+            if (arrayMatcher.reset(keyPart).matches()) {
+                Object o = rawGet((Map) tmpObject, arrayMatcher.group(1));
+                int index = Integer.parseInt(arrayMatcher.group(2));
+                tmpObject = (o instanceof List && ((List) o).size() > index) ? ((List) o).get(index) : null;
+            } else if (mapMatcher.reset(keyPart).matches()) {
+                Object o = rawGet((Map) tmpObject, mapMatcher.group(1));
+                tmpObject = (o instanceof Map) ? ((Map) o).get(mapMatcher.group(3)) : null;
+            } else {
+                tmpObject = rawGet((Map) tmpObject, keyPart);
+            }
+        } while (iterator.hasNext());
+        return tmpObject;
+    }
+
+    private static Object rawGet(Map map, String keyPart) {
+        return map instanceof JsonContext ? ((JsonContext) map).getOwn(keyPart) : map.get(keyPart);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.jpa.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.simple.JSONArray;
+import org.junit.Test;
+
+public class JsonContextTest {
+
+    @Test
+    public void testPathIsParsedOnceAndShared() {
+        JsonContextPath path = JsonContextPath.of("tc.saved.list[1].map['key']");
+        assertSame(path, JsonContextPath.of("tc.saved.list[1].map['key']"));
+        assertEquals(4, path.size());
+        assertEquals(JsonContextPath.Kind.PLAIN, path.segment(0).kind);
+        assertEquals(JsonContextPath.Kind.LIST_INDEX, path.segment(2).kind);
+        assertEquals("list", path.segment(2).name);
+        assertEquals(1, path.segment(2).index());
+        assertEquals(JsonContextPath.Kind.MAP_KEY, path.last().kind);
+        assertEquals("map", path.last().name);
+        assertEquals("key", path.last().subKey);
+    }
+
+    @Test
+    public void testEmptyPartsAreKept() {
+        assertEquals(3, JsonContextPath.parse("a..b").size());
+        assertEquals(1, JsonContextPath.parse("").size());
+        assertEquals(2, JsonContextPath.parse("a.").size());
+    }
+
+    @Test
+    public void testPutAndGetNested() {
+        JsonContext context = new JsonContext();
+        context.create("tc");
+        context.create("tc.saved");
+        context.put("tc.saved.value", "v");
+        context.put("tc.saved.list[2]", "third");
+        context.put("tc.saved.map[\"key\"]", "mapped");
+        assertEquals("v", context.get("tc.saved.value"));
+        assertEquals("third", context.get("tc.saved.list[2]"));
+        assertNull(context.get("tc.saved.list[0]"));
+        assertNull(context.get("tc.saved.list[5]"));
+        assertEquals(3, ((List) context.get("tc.saved.list")).size());
+        assertTrue(context.get("tc.saved.list") instanceof JSONArray);
+        assertEquals("mapped", context.get("tc.saved.map['key']"));
+        assertTrue(context.get("tc.saved.map") instanceof Map);
+        assertTrue(context.containsKey("tc.saved.value"));
+        assertFalse(context.containsKey("tc.missing.value"));
+    }
+
+    @Test
+    public void testTopLevelIndexedKey() {
+        JsonContext context = new JsonContext();
+        context.put("port[0]", 23);
+        context.put("port[1]", 24);
+        assertEquals(24, context.get("port[1]"));
+        assertTrue(context.get("port") instanceof JSONArray);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetThroughMissingParentThrows() {
+        new JsonContext().get("tc.missing.value");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIndexOfNotListThrows() {
+        JsonContext context = new JsonContext();
+        context.create("tc");
+        context.put("tc.value", "string");
+        context.get("tc.value[0].x");
+    }
+
+    @Test
+    public void testLayerReadsThroughAndKeepsOwnWrites() {
+        JsonContext parent = new JsonContext();
+        parent.create("tc");
+        parent.put("tc.value", "v");
+        parent.put("sp", "parent");
+        parent.put("nullable", null);
+        JsonContext child = new JsonContext();
+        child.put("sp", "child");
+        child.put("own", "o");
+        child.layerOver(parent);
+
+        assertTrue(child.isLayered());
+        assertEquals("parent", child.get("sp"));
+        assertEquals("v", child.get("tc.value"));
+        child.put("sp", "child");
+        child.put("tc.other", "shared");
+        assertEquals("parent", parent.get("sp"));
+        assertEquals("shared", parent.get("tc.other"));
+        assertNull(child.getOrDefault("nullable", "default"));
+        assertEquals("default", child.getOrDefault("missing", "default"));
+        assertTrue(child.isLayered());
+
+        JsonContext copy = new JsonContext();
+        copy.putAll(parent);
+        copy.put("own", "o");
+        copy.put("sp", "child");
+        copy.put("tc.other", "shared");
+        assertEquals(copy.getJsonString().length(), child.getJsonString().length());
+        assertFalse(child.isLayered());
+        assertEquals(new HashMap<>(copy), new HashMap<>(child));
+        assertEquals(4, child.size());
+    }
+
+    @Test
+    public void testLayerRemoveDoesNotAffectBase() {
+        JsonContext parent = new JsonContext();
+        parent.put("sp", "parent");
+        JsonContext child = new JsonContext();
+        child.layerOver(parent);
+        assertEquals("parent", child.remove("sp"));
+        assertFalse(child.containsKey("sp"));
+        assertEquals("parent", parent.get("sp"));
+    }
+}
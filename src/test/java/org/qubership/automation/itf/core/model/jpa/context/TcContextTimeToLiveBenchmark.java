@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.jpa.context;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import org.qubership.automation.itf.core.hibernate.spring.managers.base.ObjectManager;
+import org.qubership.automation.itf.core.model.jpa.project.StubProject;
+import org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants;
+import org.qubership.automation.itf.core.util.db.TxExecutor;
+import org.qubership.automation.itf.core.util.helper.FailTimeOut;
+import org.qubership.automation.itf.core.util.manager.CoreObjectManager;
+import org.qubership.automation.itf.core.util.manager.CoreObjectManagerService;
+import org.qubership.automation.itf.core.util.services.CoreServices;
+import org.qubership.automation.itf.core.util.services.projectsettings.AbstractProjectSettingsService;
+
+import com.hazelcast.map.IMap;
+
+/**
+ * Compares {@link TcContext} creation with time to live set from 'Fail timeout' project settings:
+ * <ul>
+ *     <li>DB_PER_CONTEXT - the former way: project settings are read in a transaction per context;</li>
+ *     <li>DB_CACHED - the project is absent in project settings cache: settings are read from DB once;</li>
+ *     <li>SNAPSHOT - settings are taken from the local snapshot of project settings service
+ *     (Hazelcast map is mocked and read once).</li>
+ * </ul>
+ * Transaction and project loading are emulated by a fixed CPU cost, so the real difference is bigger.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main TcContextTimeToLiveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TcContextTimeToLiveBenchmark {
+
+    private static final BigInteger PROJECT_ID = BigInteger.valueOf(42);
+    private static final long TRANSACTION_COST = 2000;
+
+    @Param({"DB_PER_CONTEXT", "DB_CACHED", "SNAPSHOT"})
+    private String source;
+    private boolean perContext;
+
+    /**
+     * Registers an object manager returning the project with 'Fail timeout' settings
+     * and project settings service with the same settings (for SNAPSHOT source only).
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        TxExecutor.init(new EmulatedTransactionManager());
+        Map<String, String> settings = new HashMap<>();
+        settings.put(ProjectSettingsConstants.TC_TIMEOUT_FAIL, "30");
+        settings.put(ProjectSettingsConstants.TC_TIMEOUT_FAIL_TIME_UNIT, "SECONDS");
+        StubProject project = new StubProject();
+        project.setStorableProp(settings);
+        ObjectManager<StubProject> projectManager = mock(ObjectManager.class, Mockito.withSettings().stubOnly());
+        when(projectManager.getById(PROJECT_ID)).thenAnswer(invocation -> {
+            Blackhole.consumeCPU(TRANSACTION_COST);
+            return project;
+        });
+        CoreObjectManagerService service = mock(CoreObjectManagerService.class, Mockito.withSettings().stubOnly());
+        when(service.getManager(StubProject.class)).thenReturn((ObjectManager) projectManager);
+        Constructor<CoreObjectManager> constructor =
+                CoreObjectManager.class.getDeclaredConstructor(CoreObjectManagerService.class);
+        constructor.setAccessible(true);
+        constructor.newInstance(service);
+
+        if ("SNAPSHOT".equals(source)) {
+            IMap<String, Map<String, String>> cache = mock(IMap.class, Mockito.withSettings().stubOnly());
+            when(cache.get(PROJECT_ID.toString())).thenReturn(settings);
+            new CoreServices(new AbstractProjectSettingsService() {
+                @Override
+                protected IMap<String, Map<String, String>> getProjectSettingsCache() {
+                    return cache;
+                }
+            });
+        } else {
+            new CoreServices(null);
+        }
+        perContext = "DB_PER_CONTEXT".equals(source);
+        FailTimeOut.invalidate(PROJECT_ID);
+    }
+
+    @Benchmark
+    public TcContext createContext() {
+        if (perContext) {
+            FailTimeOut.invalidate(PROJECT_ID);
+        }
+        TcContext context = new TcContext();
+        context.setProjectId(PROJECT_ID);
+        context.setTimeToLive();
+        return context;
+    }
+
+    private static class EmulatedTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            Blackhole.consumeCPU(TRANSACTION_COST);
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.jpa.context.codec;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding / decoding of a context shaped like a real test case context:
+ * saved variables, parsed message parameters and a few stored messages.
+ * Stored size of each codec is printed at setup.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main ContextCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextCodecBenchmark {
+
+    @Param({"JSON", "DEFLATE", "SNAPPY"})
+    private ContextCodec codec;
+
+    @Param({"20", "200"})
+    private int steps;
+
+    private String json;
+    private String stored;
+
+    /**
+     * Builds the context of 'steps' step results, each with parameters and a message body.
+     */
+    @Setup
+    public void setUp() {
+        JSONObject saved = new JSONObject();
+        JSONObject context = new JSONObject();
+        for (int i = 0; i < steps; i++) {
+            JSONObject step = new JSONObject();
+            step.put("status", i % 7 == 0 ? "FAILED" : "PASSED");
+            step.put("duration", 100L + i);
+            JSONArray parameters = new JSONArray();
+            for (int j = 0; j < 10; j++) {
+                parameters.add("customer-" + i + "-" + j);
+            }
+            step.put("parameters", parameters);
+            step.put("message", "<soapenv:Envelope><soapenv:Body><ns:order id=\"" + i + "\"><ns:customer>customer-"
+                    + i + "</ns:customer><ns:items><ns:item code=\"A\">1</ns:item><ns:item code=\"B\">2</ns:item>"
+                    + "</ns:items></ns:order></soapenv:Body></soapenv:Envelope>");
+            saved.put("step" + i, step);
+        }
+        saved.put("orderId", "order-" + steps);
+        context.put("saved", saved);
+        context.put("environment", "env-" + steps);
+        json = context.toJSONString();
+        stored = ContextCodecs.encode(json, codec);
+        System.out.printf("%n%s, %d steps: json %d chars, stored %d chars%n", codec, steps, json.length(),
+                stored.length());
+    }
+
+    @Benchmark
+    public String encode() {
+        return ContextCodecs.encode(json, codec);
+    }
+
+    @Benchmark
+    public Object decodeAndParse() throws ParseException {
+        return new JSONParser().parse(ContextCodecs.decode(stored));
+    }
+
+    @Benchmark
+    public Object readSingleValue() throws IOException {
+        return ContextCodecs.readValue(stored, "saved", "orderId");
+    }
+}
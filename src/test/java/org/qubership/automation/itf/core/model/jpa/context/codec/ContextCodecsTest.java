@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.jpa.context.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+public class ContextCodecsTest {
+
+    private static final String JSON = "{\"tc\":{\"saved\":{\"id\":\"42\",\"list\":[1,2.5,true,null]}},"
+            + "\"name\":\"\\u043f\\u0440\\u0438\\u0432\\u0435\\u0442\",\"count\":7,\"empty\":null}";
+
+    @Test
+    public void testEncodedValueIsDecodedToTheSameJson() {
+        for (ContextCodec codec : ContextCodec.values()) {
+            String stored = ContextCodecs.encode(JSON, codec);
+            assertEquals(codec != ContextCodec.JSON, ContextCodecs.isEncoded(stored));
+            assertEquals(JSON, ContextCodecs.decode(stored));
+        }
+    }
+
+    @Test
+    public void testPlainJsonIsDecodedAsIs() {
+        assertFalse(ContextCodecs.isEncoded(JSON));
+        assertEquals(JSON, ContextCodecs.decode(JSON));
+        assertNull(ContextCodecs.decode(null));
+        assertEquals("~unknown:text", ContextCodecs.decode("~unknown:text"));
+    }
+
+    @Test
+    public void testSingleValueIsReadFromEncodedAndPlainJson() throws IOException {
+        for (ContextCodec codec : ContextCodec.values()) {
+            String stored = ContextCodecs.encode(JSON, codec);
+            assertEquals("42", ContextCodecs.readValue(stored, "tc", "saved", "id"));
+            assertEquals(7L, ContextCodecs.readValue(stored, "count"));
+            JSONArray list = (JSONArray) ContextCodecs.readValue(stored, "tc", "saved", "list");
+            assertEquals(4, list.size());
+            assertEquals(2.5, list.get(1));
+            assertTrue(ContextCodecs.readValue(stored, "tc") instanceof JSONObject);
+            assertNull(ContextCodecs.readValue(stored, "empty"));
+            assertNull(ContextCodecs.readValue(stored, "count", "nested"));
+            assertNull(ContextCodecs.readValue(stored, "missing"));
+        }
+    }
+
+    @Test
+    public void testStoredJsonStringLoadsEncodedAndLegacyValues() throws ParseException {
+        TcContext legacy = new TcContext();
+        legacy.setStoredJsonString(JSON);
+        TcContext encoded = new TcContext();
+        encoded.setStoredJsonString(ContextCodecs.encode(JSON, ContextCodec.DEFLATE));
+        assertEquals(new HashMap<>(legacy), new HashMap<>(encoded));
+        assertEquals("42", encoded.get("tc.saved.id"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.model.jpa.environment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.server.ServerHB;
+import org.qubership.automation.itf.core.model.jpa.system.System;
+
+public class OutboundRoutesTest {
+
+    private static final String TYPE = "org.qubership.automation.itf.transport.rest.outbound.RESTOutboundTransport";
+
+    @Test
+    public void testRouteIsResolvedOnceUntilInvalidated() {
+        OutboundRoutes routes = new OutboundRoutes();
+        ServerHB server = new ServerHB();
+        server.setID(BigInteger.ONE);
+        System system = new System();
+        system.setID(BigInteger.TEN);
+        OutboundTransportConfiguration outbound = new OutboundTransportConfiguration(TYPE, server, system);
+        outbound.put("endpoint", "/api");
+        AtomicInteger loads = new AtomicInteger();
+
+        Map<String, String> first = routes.getProperties(server, system, TYPE, () -> {
+            loads.incrementAndGet();
+            return outbound;
+        });
+        outbound.put("endpoint", "/changed");
+        for (int i = 0; i < 2; i++) {
+            assertSame(first, routes.getProperties(server, system, TYPE, () -> {
+                loads.incrementAndGet();
+                return outbound;
+            }));
+        }
+        assertEquals(1, loads.get());
+        assertEquals("/api", first.get("endpoint"));
+
+        routes.invalidate();
+        routes.getProperties(server, system, TYPE, () -> {
+            loads.incrementAndGet();
+            return outbound;
+        });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRouteResolvedDuringChangeIsNotCached() {
+        OutboundRoutes routes = new OutboundRoutes();
+        ServerHB server = new ServerHB();
+        server.setID(BigInteger.ONE);
+        System system = new System();
+        system.setID(BigInteger.TEN);
+        OutboundTransportConfiguration outbound = new OutboundTransportConfiguration(TYPE, server, system);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            routes.getProperties(server, system, TYPE, () -> {
+                loads.incrementAndGet();
+                routes.invalidate();
+                return outbound;
+            });
+        }
+        assertEquals(2, loads.get());
+    }
+}
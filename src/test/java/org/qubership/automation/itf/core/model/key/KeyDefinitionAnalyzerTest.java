@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.model.key;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.util.exception.KeyDefinitionException;
+
+public class KeyDefinitionAnalyzerTest {
+
+    @Test
+    public void testTrivialDefinitionsAreEvaluatedWithoutEngine() throws KeyDefinitionException {
+        InstanceContext context = new InstanceContext();
+        context.put("operation", " getOrder ");
+
+        KeyDefinition constant = KeyDefinitionAnalyzer.analyze(" createOrder ");
+        assertTrue(constant instanceof ByConstantKeyDefinition);
+        assertEquals("createOrder", constant.defineKey(context));
+
+        for (String macro : new String[]{"$operation", "${operation}", " $operation\n"}) {
+            KeyDefinition param = KeyDefinitionAnalyzer.analyze(macro);
+            assertTrue(macro, param instanceof BySingleParamKeyDefinition);
+            assertEquals(macro, "getOrder", param.defineKey(context));
+        }
+        assertEquals("tc.request-type", KeyDefinitionAnalyzer.analyze("${tc.request-type}").getExpression());
+    }
+
+    @Test
+    public void testAbsentParentOfParamGivesNoKey() throws KeyDefinitionException {
+        InstanceContext context = new InstanceContext();
+        context.put("operation", "getOrder");
+        assertNull(KeyDefinitionAnalyzer.analyze("$request.operation").defineKey(context));
+    }
+
+    @Test
+    public void testOtherDefinitionsAreLeftForEngine() {
+        for (String macro : new String[]{null, " ", "$a$b", "${a", "$a}", "$!a", "$a.b()", "$a[0]", "op_$a",
+                "#if($a)x#end", "\\$a", "#set($a = 1)$a"}) {
+            assertNull(macro, KeyDefinitionAnalyzer.analyze(macro));
+        }
+    }
+}
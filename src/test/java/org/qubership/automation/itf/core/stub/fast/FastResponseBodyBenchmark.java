@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.stub.fast;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+
+/**
+ * Compares producing of a fast stub response body by the Velocity engine with the compiled body
+ * ({@link FastResponseBody}): pre-encoded static body and ${var} substitution.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main FastResponseBodyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FastResponseBodyBenchmark {
+
+    private static final String STATIC_BODY = "{\"status\":\"OK\",\"code\":0,\"items\":[{\"id\":1,\"name\":\"first\"},"
+            + "{\"id\":2,\"name\":\"second\"}],\"description\":\"Order is accepted for processing\"}";
+    private static final String SUBSTITUTION_BODY = "{\"status\":\"OK\",\"msisdn\":\"${msisdn}\",\"items\":["
+            + "{\"id\":1,\"name\":\"first\"},{\"id\":2,\"name\":\"second\"}],\"order\":\"${orderId}\"}";
+
+    @Param({"STATIC", "SUBSTITUTION"})
+    private FastResponseBody.Kind kind;
+
+    private String text;
+    private FastResponseBody body;
+    private JsonContext context;
+    private VelocityEngine velocity;
+
+    /**
+     * Compiles the body and initializes the engine.
+     */
+    @Setup
+    public void setUp() {
+        text = kind == FastResponseBody.Kind.STATIC ? STATIC_BODY : SUBSTITUTION_BODY;
+        body = FastResponseBody.compile(text);
+        context = new JsonContext();
+        context.put("msisdn", "79001234567");
+        context.put("orderId", "ORD-42");
+        velocity = new VelocityEngine();
+        velocity.init();
+    }
+
+    @Benchmark
+    public byte[] velocity() {
+        StringWriter writer = new StringWriter();
+        velocity.evaluate(new VelocityContext(context), writer, "body", text);
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object compiled() {
+        return kind == FastResponseBody.Kind.STATIC
+                ? body.getEncoded()
+                : body.render(context).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.stub.fast;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+
+public class FastResponseBodyTest {
+
+    @Test
+    public void testBodiesAreClassifiedAndRenderedAsVelocityDoes() {
+        JsonContext context = new JsonContext();
+        context.put("msisdn", "79001234567");
+        Map<String, Object> order = new HashMap<>();
+        order.put("id", 42L);
+        order.put("state-code", "NEW");
+        context.put("order", order);
+        VelocityEngine velocity = new VelocityEngine();
+        velocity.init();
+
+        String[] substitutions = {"{\"msisdn\":\"${msisdn}\"}", "${order.id}/${order.state-code}", "${msisdn}",
+            "<a>${order.id}</a>{}"};
+        for (String text : substitutions) {
+            FastResponseBody body = FastResponseBody.compile(text);
+            assertEquals(text, FastResponseBody.Kind.SUBSTITUTION, body.getKind());
+            StringWriter expected = new StringWriter();
+            velocity.evaluate(new VelocityContext(context), expected, "test", text);
+            assertEquals(text, expected.toString(), body.render(context));
+        }
+        assertNull(FastResponseBody.compile("${missing}").render(context));
+        assertNull(FastResponseBody.compile("${missing.id}").render(context));
+        assertNull(FastResponseBody.compile("${msisdn.id}").render(context));
+
+        for (String text : new String[]{"$msisdn", "${msisdn} $order", "#set($a = 1)", "\\${msisdn}", "5$",
+            "${order.id()}", "$!{msisdn}"}) {
+            FastResponseBody body = FastResponseBody.compile(text);
+            assertEquals(text, FastResponseBody.Kind.DYNAMIC, body.getKind());
+            assertNull(text, body.render(context));
+        }
+    }
+
+    @Test
+    public void testStaticResponseIsPreEncoded() {
+        ResponseDescription response = new ResponseDescription();
+        response.setBody("{\"result\":\"ок\"}");
+        response.setResponseCode("200");
+        response.getHeaders().put("Content-Type", "application/json");
+        assertTrue(response.isStaticResponse());
+        ByteBuffer encoded = response.getCompiledBody().getEncoded();
+        assertEquals("{\"result\":\"ок\"}", StandardCharsets.UTF_8.decode(encoded).toString());
+        assertEquals(0, response.getCompiledBody().getEncoded().position());
+
+        response.getHeaders().put("X-Id", "${msisdn}");
+        assertFalse(response.isStaticResponse());
+        response.getHeaders().remove("X-Id");
+        response.setBody("${msisdn}");
+        assertFalse(response.isStaticResponse());
+        assertEquals(FastResponseBody.Kind.SUBSTITUTION, response.getCompiledBody().getKind());
+    }
+}
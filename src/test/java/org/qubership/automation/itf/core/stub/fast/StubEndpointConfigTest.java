@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.stub.fast;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.condition.ConditionsHelper;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.util.constants.Condition;
+import org.qubership.automation.itf.core.util.constants.Etc;
+
+public class StubEndpointConfigTest {
+
+    @Test
+    public void testCandidatesGiveSameFirstMatchAsFullScan() {
+        Random random = new Random(20250303L);
+        List<ResponseDescription> responses = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            List<ConditionParameter> conditions = new ArrayList<>();
+            conditions.add(parameter("msisdn", Condition.EQUALS, String.valueOf(random.nextInt(50)),
+                    random.nextInt(5) == 0 ? Etc.OR : Etc.AND));
+            if (random.nextBoolean()) {
+                conditions.add(parameter("type", Condition.EQUALS, String.valueOf(random.nextInt(3)), null));
+            }
+            responses.add(response("op" + random.nextInt(2), conditions));
+        }
+        responses.add(response("op0", new ArrayList<>()));
+        StubEndpointConfig config = new StubEndpointConfig();
+        config.setConditionalResponses(responses);
+        for (int i = 0; i < 200; i++) {
+            JsonContext context = new JsonContext();
+            context.put("msisdn", String.valueOf(random.nextInt(60)));
+            context.put("type", String.valueOf(random.nextInt(3)));
+            String operation = "op" + random.nextInt(3);
+            assertSame(firstMatch(responses, operation, context),
+                    firstMatch(config.getCandidateResponses(operation, context), operation, context));
+        }
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenResponsesAreAdded() {
+        JsonContext context = new JsonContext();
+        context.put("msisdn", "1");
+        StubEndpointConfig config = new StubEndpointConfig();
+        config.setConditionalResponses(new ArrayList<>());
+        assertEquals(0, config.getCandidateResponses("op", context).size());
+        ResponseDescription response = response("op", new ArrayList<>(Arrays.asList(
+                parameter("msisdn", Condition.EQUALS, "1", null))));
+        config.getConditionalResponses().add(response);
+        assertEquals(Arrays.asList(response), config.getCandidateResponses("op", context));
+    }
+
+    @Test
+    public void testMissingParentOfDiscriminatorGivesUnindexedCandidates() {
+        ResponseDescription indexed = response("op", new ArrayList<>(Arrays.asList(
+                parameter("request.msisdn", Condition.EQUALS, "1", null))));
+        ResponseDescription empty = response("op", new ArrayList<>(Arrays.asList(
+                parameter("request.msisdn", Condition.EQUALS, "", null))));
+        ResponseDescription unconditional = response("op", new ArrayList<>());
+        StubEndpointConfig config = new StubEndpointConfig();
+        config.setConditionalResponses(new ArrayList<>(Arrays.asList(indexed, empty, unconditional)));
+        JsonContext context = new JsonContext();
+        context.put("other", "1");
+        assertEquals(Arrays.asList(empty, unconditional), config.getCandidateResponses("op", context));
+        context.create("request");
+        context.put("request.msisdn", "1");
+        assertEquals(Arrays.asList(indexed, empty, unconditional), config.getCandidateResponses("op", context));
+    }
+
+    @Test
+    public void testHolderKeepsConfigsPerProjectAndTransport() {
+        UUID project = UUID.randomUUID();
+        StubEndpointConfig config = new StubEndpointConfig();
+        config.setConfiguredEndpoint("/orders/create");
+        FastResponseConfigsHolder.INSTANCE.putConfig(project.toString(), "REST", config);
+        assertSame(config, FastResponseConfigsHolder.INSTANCE.getConfig(project.toString(), "REST", "/orders/create"));
+        assertNull(FastResponseConfigsHolder.INSTANCE.getConfig(project.toString(), "SOAP", "/orders/create"));
+        assertEquals(1, FastResponseConfigsHolder.INSTANCE.getEndpoints(project).size());
+        FastResponseConfigsHolder.INSTANCE.resetConfigByKey(project + "/REST//orders/create");
+        assertNull(FastResponseConfigsHolder.INSTANCE.getConfig(project.toString(), "REST", "/orders/create"));
+        FastResponseConfigsHolder.INSTANCE.putConfig(project.toString(), "SOAP", config);
+        FastResponseConfigsHolder.INSTANCE.resetConfigForProject(project.toString());
+        assertEquals(0, FastResponseConfigsHolder.INSTANCE.getEndpoints(project).size());
+    }
+
+    private static ResponseDescription firstMatch(List<ResponseDescription> responses, String operation,
+                                                  JsonContext context) {
+        for (ResponseDescription response : responses) {
+            FastResponseCondition condition = response.getResponseCondition();
+            if (operation.equals(condition.getOperationDefinitionKey())
+                    && ConditionsHelper.isApplicable(context, condition.getConditionParameters())) {
+                return response;
+            }
+        }
+        return null;
+    }
+
+    private static ResponseDescription response(String operation, List<ConditionParameter> conditions) {
+        FastResponseCondition condition = new FastResponseCondition();
+        condition.setOperationDefinitionKey(operation);
+        condition.setConditionParameters(conditions);
+        ResponseDescription response = new ResponseDescription();
+        response.setResponseCondition(condition);
+        return response;
+    }
+
+    private static ConditionParameter parameter(String name, Condition condition, String value, Etc etc) {
+        ConditionParameter parameter = new ConditionParameter();
+        parameter.setName(name);
+        parameter.setCondition(condition);
+        parameter.setValue(value);
+        parameter.setEtc(etc);
+        return parameter;
+    }
+}
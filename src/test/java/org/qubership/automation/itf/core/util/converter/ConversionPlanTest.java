@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
+import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
+
+public class ConversionPlanTest {
+
+    private final ConversionPlan plan = new ConversionPlan(descriptors());
+
+    @Test
+    public void testLastNonBlankValueWins() {
+        Map<String, String> transport = new HashMap<>();
+        transport.put("endpoint", "/first");
+        transport.put("timeout", "10");
+        Map<String, String> outbound = new HashMap<>();
+        outbound.put("endpoint", "/second");
+        outbound.put("timeout", " ");
+        outbound.put("unknown", "value");
+        ConnectionProperties properties = plan.convert(null, Arrays.asList(transport, null, outbound));
+        assertEquals("/second", properties.get("endpoint"));
+        assertEquals(10, properties.get("timeout"));
+        assertFalse(properties.containsKey("unknown"));
+        assertFalse(properties.containsKey("headers"));
+    }
+
+    @Test
+    public void testImmutableValuesAreReusedAndMapsAreNot() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put("timeout", "100000");
+        configuration.put("headers", "Content-Type=text/xml");
+        ConnectionProperties first = plan.convert(null, configuration);
+        ConnectionProperties second = plan.convert(null, configuration);
+        assertSame(first.get("timeout"), second.get("timeout"));
+        assertEquals(first.get("headers"), second.get("headers"));
+        assertNotSame(first.get("headers"), second.get("headers"));
+
+        configuration.put("timeout", "5");
+        assertEquals(5, plan.convert(null, configuration).get("timeout"));
+    }
+
+    private static Map<String, PropertyDescriptor> descriptors() {
+        Map<String, PropertyDescriptor> descriptors = new LinkedHashMap<>();
+        descriptors.put("endpoint", descriptor("endpoint", "java.lang.String"));
+        descriptors.put("timeout", descriptor("timeout", "java.lang.Integer"));
+        descriptors.put("headers", descriptor("headers", "java.util.Map"));
+        return descriptors;
+    }
+
+    private static PropertyDescriptor descriptor(String name, String typeName) {
+        return new PropertyDescriptor(name, name, typeName, "", true, false, false, false, false, false,
+                new String[0], false, false, false, false, 0, null, null, null);
+    }
+}
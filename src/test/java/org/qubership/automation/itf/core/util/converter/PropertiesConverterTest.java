@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
+import org.qubership.automation.itf.core.util.descriptor.PropertyDescriptor;
+import org.qubership.automation.itf.core.util.transport.manager.TransportRegistryManager;
+import org.qubership.automation.itf.core.util.transport.registry.base.AbstractTransportRegistry;
+
+public class PropertiesConverterTest {
+
+    private static final String TYPE = "org.qubership.automation.itf.transport.test.TestOutboundTransport";
+
+    @After
+    public void tearDown() {
+        TransportRegistryManager.getInstance().setRegistry(null);
+    }
+
+    @Test
+    public void testPlanBuiltConcurrentlyWithInvalidationIsNotUsed() throws Exception {
+        AbstractTransportRegistry registry = mock(AbstractTransportRegistry.class);
+        Map<String, PropertyDescriptor> old = descriptors("endpoint");
+        Map<String, PropertyDescriptor> current = descriptors("timeout");
+        when(registry.getProperties(TYPE)).then(invocation -> {
+            // The transport is registered again while the old descriptors are being converted
+            PropertiesConverter.invalidate(TYPE);
+            return old;
+        }).thenReturn(current);
+        TransportRegistryManager.getInstance().setRegistry(registry);
+
+        Map<String, String> configuration = Collections.singletonMap("timeout", "10");
+        assertFalse(PropertiesConverter.convert(TYPE, configuration).containsKey("timeout"));
+        ConnectionProperties properties = PropertiesConverter.convert(TYPE, configuration);
+        assertEquals(10, properties.get("timeout"));
+        assertEquals(10, PropertiesConverter.convert(TYPE, configuration).get("timeout"));
+    }
+
+    private static Map<String, PropertyDescriptor> descriptors(String name) {
+        return Collections.singletonMap(name, new PropertyDescriptor(name, name,
+                "timeout".equals(name) ? "java.lang.Integer" : "java.lang.String", "", true, false, false, false,
+                false, false, new String[0], false, false, false, false, 0, null, null, null));
+    }
+}
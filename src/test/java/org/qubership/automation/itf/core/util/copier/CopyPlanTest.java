@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.copier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.jpa.system.stub.Situation;
+
+public class CopyPlanTest {
+
+    @Test
+    public void testPropertiesAreClassifiedByAnnotationsAndTypes() {
+        Map<String, CopyPlan.Property> properties = properties(Situation.class);
+        assertEquals(CopyPlan.Kind.REFERENCE, properties.get("parent").getKind());
+        assertEquals(CopyPlan.Kind.CHILD_COLLECTION, properties.get("steps").getKind());
+        assertEquals(CopyPlan.Kind.COLLECTION, properties.get("parsingRules").getKind());
+        assertEquals(CopyPlan.Kind.MAP, properties.get("keysToRegenerate").getKind());
+        assertEquals(CopyPlan.Kind.VALUE, properties.get("preScript").getKind());
+        assertTrue(properties.get("naturalId").isProduceNewObject());
+        assertFalse(properties.get("name").isProduceNewObject());
+        assertFalse(properties.containsKey("ID"));
+    }
+
+    @Test
+    public void testPlanIsBuiltOnceAndAccessorsWork() throws Exception {
+        assertSame(CopyPlan.of(Situation.class), CopyPlan.of(Situation.class));
+        CopyPlan.Property preScript = properties(Situation.class).get("preScript");
+        Situation source = new Situation();
+        source.setPreScript("script");
+        Situation copy = (Situation) CopyPlan.of(Situation.class).newInstance();
+        preScript.set(copy, preScript.get(source));
+        assertEquals("script", copy.getPreScript());
+    }
+
+    private static Map<String, CopyPlan.Property> properties(Class<Situation> type) {
+        Map<String, CopyPlan.Property> properties = new HashMap<>();
+        for (CopyPlan.Property property : CopyPlan.of(type).getProperties()) {
+            properties.put(property.getName(), property);
+        }
+        return properties;
+    }
+}
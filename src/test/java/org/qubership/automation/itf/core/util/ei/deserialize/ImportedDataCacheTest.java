@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.ei.deserialize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.common.Storable;
+import org.qubership.automation.itf.core.model.jpa.storage.AbstractStorable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ImportedDataCacheTest {
+
+    private static final BigInteger SESSION_ID = BigInteger.valueOf(20250101);
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS);
+
+    @After
+    public void tearDown() {
+        DeserializedEntitiesCache.getInstance().removeSessionRecord(SESSION_ID);
+    }
+
+    @Test
+    public void testParallelDeserializationGivesOneObjectPerEntity() throws Exception {
+        ImportedDataCache cache = DeserializedEntitiesCache.getInstance().createSessionRecord(SESSION_ID,
+                BigInteger.ONE);
+        List<JsonParser> parsers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            parsers.add(mapper.getFactory().createParser("{\"id\":" + (i % 20) + ",\"type\":\""
+                    + ImportedStorable.class.getName() + "\",\"name\":\"entity" + (i % 20) + "\"}"));
+        }
+        List<Storable> storables = cache.deserializeAll(parsers, SESSION_ID);
+        assertEquals(200, storables.size());
+        for (int i = 0; i < 200; i++) {
+            Storable storable = storables.get(i);
+            assertEquals("entity" + (i % 20), storable.getName());
+            assertSame(cache.getById(BigInteger.valueOf(i % 20)), storable);
+        }
+    }
+
+    @Test
+    public void testSessionRecordIsRemoved() {
+        ImportedDataCache cache = DeserializedEntitiesCache.getInstance().createSessionRecord(SESSION_ID,
+                BigInteger.ONE);
+        assertSame(cache, DeserializedEntitiesCache.getInstance().getCacheBySessionId(SESSION_ID));
+        DeserializedEntitiesCache.getInstance().removeSessionRecord(SESSION_ID);
+        assertNull(DeserializedEntitiesCache.getInstance().getCacheBySessionId(SESSION_ID));
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ImportedStorable extends AbstractStorable {
+    }
+}
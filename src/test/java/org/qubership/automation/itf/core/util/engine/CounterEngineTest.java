@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.counter.Counter;
+import org.qubership.automation.itf.core.model.counter.CounterImpl;
+import org.qubership.automation.itf.core.util.exception.CounterLimitIsExhaustedException;
+
+public class CounterEngineTest {
+
+    private final MemoryStore store = new MemoryStore();
+    private final MovableClock clock = new MovableClock();
+
+    @Test
+    public void testIndexesAreReservedByRangesAndNotReissuedAfterRestart() throws Exception {
+        Set<Object> owners = new HashSet<>(Arrays.asList(new BigInteger("2"), new BigInteger("1")));
+        CounterEngine engine = new CounterEngine(store, 5, clock);
+        for (int i = 1; i <= 7; i++) {
+            assertEquals(String.format("%03d", i), engine.nextIndex(owners, "000"));
+        }
+        assertEquals(2, store.writes.get());
+
+        // Same owners in other order and representation; indexes 8..10 of the reserved range are skipped
+        CounterEngine restarted = new CounterEngine(store, 5, clock);
+        assertEquals("011", restarted.nextIndex(new HashSet<>(Arrays.asList("1", "2")), "000"));
+        assertEquals(1, store.counters.size());
+
+        clock.instant = clock.instant.plus(1, ChronoUnit.DAYS);
+        assertEquals("001", restarted.nextIndex(owners, "000"));
+        assertEquals(1, store.counters.size());
+    }
+
+    @Test
+    public void testConcurrentIndexesAreUniqueUpToLimit() throws Exception {
+        CounterEngine engine = new CounterEngine(store, 10, clock);
+        Set<Object> owners = Collections.singleton(BigInteger.TEN);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                List<String> indexes = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    try {
+                        indexes.add(engine.nextIndex(owners, "00"));
+                    } catch (CounterLimitIsExhaustedException e) {
+                        break;
+                    }
+                }
+                return indexes;
+            }));
+        }
+        Set<String> issued = new HashSet<>();
+        int total = 0;
+        for (Future<List<String>> future : futures) {
+            List<String> indexes = future.get();
+            issued.addAll(indexes);
+            total += indexes.size();
+        }
+        executor.shutdown();
+        assertEquals(99, total);
+        assertEquals(99, issued.size());
+        assertTrue(issued.contains("01") && issued.contains("99"));
+    }
+
+    private static class MemoryStore implements CounterEngine.CounterStore {
+
+        private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public Counter find(Set<Object> owners) {
+            return counters.get(CounterEngine.ownerKey(owners));
+        }
+
+        @Override
+        public Counter create(Set<Object> owners, String format, Date date, int index) {
+            Counter counter = new CounterImpl();
+            counter.setOwners(owners);
+            counter.setFormat(format);
+            save(counter, date, index);
+            counters.put(CounterEngine.ownerKey(owners), counter);
+            return counter;
+        }
+
+        @Override
+        public void save(Counter counter, Date date, int index) {
+            counter.setDate(date);
+            counter.setIndex(index);
+            writes.incrementAndGet();
+        }
+    }
+
+    private static class MovableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T10:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.generator.id;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.HibernateException;
+import org.junit.After;
+import org.junit.Test;
+
+public class IdStripeTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Integer> requestedBlocks = new CopyOnWriteArrayList<>();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testIdsAreUniqueUnderConcurrentConsumption() throws Exception {
+        IdStripe stripe = new IdStripe("test-unique", true, this::fetch, executor, 100, 1000, 100, 5000);
+        Set<BigInteger> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> consumers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            consumers.add(executor.submit(() -> {
+                for (int j = 0; j < 5000; j++) {
+                    ids.add(stripe.next());
+                }
+            }));
+        }
+        for (Future<?> consumer : consumers) {
+            consumer.get();
+        }
+        assertEquals(40000, ids.size());
+    }
+
+    @Test
+    public void testNextBlockIsFetchedBeforeQueueIsEmpty() throws Exception {
+        IdStripe stripe = new IdStripe("test-prefetch", true, this::fetch, executor, 100, 100, 100, 5000);
+        for (int i = 0; i < 60; i++) {
+            stripe.next();
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (stripe.available() < 100 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(140, stripe.available());
+        assertEquals(2, requestedBlocks.size());
+    }
+
+    @Test
+    public void testBlockSizeFollowsConsumptionRate() {
+        IdStripe stripe = new IdStripe("test-adaptive", true, this::fetch, executor, 10, 100000, 60000, 5000);
+        for (int i = 0; i < 20000; i++) {
+            stripe.next();
+        }
+        assertTrue(requestedBlocks.toString(), requestedBlocks.stream().anyMatch(block -> block > 10));
+    }
+
+    @Test(expected = HibernateException.class)
+    public void testFetchErrorIsThrownToWaitingCaller() {
+        new IdStripe("test-error", false, (config, count) -> {
+            throw new SQLException("connection refused");
+        }, executor, 10, 10, 100, 5000).next();
+    }
+
+    @Test
+    public void testRejectedRefillFailsCallerAndIsRetried() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        IdStripe stripe = new IdStripe("test-rejected", true, this::fetch, command -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("shutdown");
+            }
+            executor.execute(command);
+        }, 10, 10, 100, 5000);
+        try {
+            stripe.next();
+            fail("HibernateException is expected");
+        } catch (HibernateException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        reject.set(false);
+        assertEquals(BigInteger.ONE, stripe.next());
+    }
+
+    @Test
+    public void testErrorInRefillFailsCallerAndIsRetried() {
+        AtomicBoolean error = new AtomicBoolean(true);
+        IdStripe stripe = new IdStripe("test-error-retry", true, (config, count) -> {
+            if (error.get()) {
+                throw new NoClassDefFoundError("driver");
+            }
+            return fetch(config, count);
+        }, executor, 10, 10, 100, 5000);
+        try {
+            stripe.next();
+            fail("HibernateException is expected");
+        } catch (HibernateException e) {
+            assertTrue(e.getCause() instanceof NoClassDefFoundError);
+        }
+        error.set(false);
+        assertEquals(BigInteger.ONE, stripe.next());
+    }
+
+    @Test(expected = HibernateException.class)
+    public void testCallerWaitsForRefillAtMostTimeout() {
+        new IdStripe("test-timeout", true, (config, count) -> {
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fetch(config, count);
+        }, executor, 10, 10, 100, 100).next();
+    }
+
+    private List<BigInteger> fetch(boolean forConfigObjects, int count) {
+        requestedBlocks.add(count);
+        List<BigInteger> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(BigInteger.valueOf(sequence.incrementAndGet()));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.logger;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants;
+
+public class ItfLogLevelsTest {
+
+    @After
+    public void tearDown() {
+        ItfLogLevels.refresh(environment(new HashMap<>()));
+    }
+
+    @Test
+    public void testConfiguredLevelAndHigherAreEnabled() {
+        Logger logger = ItfLogger.getLogger(ItfLogLevelsTest.class);
+        assertFalse(logger.isDebugEnabled());
+        assertTrue(logger.isInfoEnabled());
+        assertTrue(logger.isErrorEnabled());
+
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(InstanceSettingsConstants.LOG_LEVEL, "warn");
+        ItfLogLevels.refresh(environment(settings));
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+        assertTrue(logger.isErrorEnabled());
+    }
+
+    @Test
+    public void testLoggerAndProjectOverrides() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(InstanceSettingsConstants.LOG_LEVEL, "ERROR");
+        settings.put(InstanceSettingsConstants.LOG_LEVEL_LOGGERS, "org.qubership.automation.itf.core.util=DEBUG, x=");
+        settings.put(InstanceSettingsConstants.LOG_LEVEL_PROJECTS, "42=TRACE,7=WARN");
+        ItfLogLevels.refresh(environment(settings));
+
+        assertTrue(ItfLogger.getLogger(ItfLogLevelsTest.class).isDebugEnabled());
+        assertFalse(ItfLogger.getLogger(ItfLogLevelsTest.class).isTraceEnabled());
+        assertFalse(ItfLogger.getLogger(String.class).isWarnEnabled());
+        assertTrue(ItfLogger.getLogger(String.class, 42).isTraceEnabled());
+        assertFalse(ItfLogger.getLogger(ItfLogLevelsTest.class, 7).isInfoEnabled());
+        assertFalse(ItfLogger.getLogger(String.class, 1).isWarnEnabled());
+    }
+
+    private static StandardEnvironment environment(Map<String, Object> settings) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", settings));
+        return environment;
+    }
+}
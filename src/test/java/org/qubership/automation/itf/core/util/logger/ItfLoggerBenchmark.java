@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.logger;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Compares a disabled debug call of {@link ItfLogger} with the former level check,
+ * which read log.level from the Spring environment on each call.
+ * loggerPerRequest measures a project logger created per request, as ItfLogger.getLogger(Class, projectId) is used.
+ * Run: java -cp target/test-classes:target/classes:&lt;deps&gt; org.openjdk.jmh.Main ItfLoggerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItfLoggerBenchmark {
+
+    private StandardEnvironment environment;
+    private Logger logger;
+
+    /**
+     * Sets INFO level in an environment with the usual system and OS property sources.
+     */
+    @Setup
+    public void setUp() {
+        environment = new StandardEnvironment();
+        environment.getPropertySources().addLast(new MapPropertySource("application",
+                Collections.singletonMap(InstanceSettingsConstants.LOG_LEVEL, "info")));
+        ItfLogLevels.refresh(environment);
+        logger = ItfLogger.getLogger(ItfLoggerBenchmark.class);
+    }
+
+    @Benchmark
+    public boolean propertyPerCall() {
+        return Level.DEBUG.toString().equals(environment.getProperty(InstanceSettingsConstants.LOG_LEVEL, "INFO")
+                .toUpperCase());
+    }
+
+    @Benchmark
+    public boolean cachedThreshold() {
+        return logger.isDebugEnabled();
+    }
+
+    @Benchmark
+    public boolean loggerPerRequest() {
+        return ItfLogger.getLogger(ItfLoggerBenchmark.class, 42).isDebugEnabled();
+    }
+}
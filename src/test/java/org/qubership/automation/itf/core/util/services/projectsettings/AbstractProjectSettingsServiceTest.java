@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.services.projectsettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.EntryEventType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleListener;
+import com.hazelcast.core.LifecycleService;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapListener;
+
+public class AbstractProjectSettingsServiceTest {
+
+    private static final BigInteger PROJECT_ID = BigInteger.ONE;
+
+    private IMap<String, Map<String, String>> cache;
+    private AbstractProjectSettingsService service;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        cache = mock(IMap.class);
+        service = new AbstractProjectSettingsService() {
+            @Override
+            protected IMap<String, Map<String, String>> getProjectSettingsCache() {
+                return cache;
+            }
+        };
+    }
+
+    @Test
+    public void testSettingsAreReadOnceAndUpdatedByEvents() {
+        when(cache.get("1")).thenReturn(settings("true"));
+        assertTrue(service.getBoolean(PROJECT_ID, "flag", "false"));
+        assertEquals(15, service.getInt(PROJECT_ID, "timeout", 0).intValue());
+        assertEquals(TimeUnit.SECONDS, service.getTimeUnit(PROJECT_ID, "unit", TimeUnit.MINUTES));
+        assertEquals(TimeUnit.MINUTES, service.getTimeUnit(PROJECT_ID, "flag", TimeUnit.MINUTES));
+        assertEquals("default", service.get(PROJECT_ID, "missing", "default"));
+        verify(cache, times(1)).get("1");
+
+        MapListener listener = captureListener();
+        ((EntryUpdatedListener<String, Map<String, String>>) listener).entryUpdated(
+                new EntryEvent<>("cache", null, EntryEventType.UPDATED.getType(), "1", settings("false")));
+        assertFalse(service.getBoolean(PROJECT_ID, "flag", "true"));
+
+        ((EntryRemovedListener<String, Map<String, String>>) listener).entryRemoved(
+                new EntryEvent<>("cache", null, EntryEventType.REMOVED.getType(), "1", null));
+        when(cache.get("1")).thenReturn(null);
+        assertTrue(service.getBoolean(PROJECT_ID, "flag", "true"));
+        assertTrue(service.getAll(PROJECT_ID).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testListenerUpdateWinsOverConcurrentRead() {
+        when(cache.get("1")).thenAnswer(invocation -> {
+            ((EntryUpdatedListener<String, Map<String, String>>) captureListener()).entryUpdated(
+                    new EntryEvent<>("cache", null, EntryEventType.UPDATED.getType(), "1", settings("false")));
+            return settings("true");
+        });
+        assertFalse(service.getBoolean(PROJECT_ID, "flag", "true"));
+        assertFalse(service.getBoolean(PROJECT_ID, "flag", "true"));
+    }
+
+    @Test
+    public void testSnapshotsAreDroppedOnReconnection() {
+        HazelcastInstance instance = mock(HazelcastInstance.class);
+        LifecycleService lifecycleService = mock(LifecycleService.class);
+        when(instance.getLifecycleService()).thenReturn(lifecycleService);
+        service = new AbstractProjectSettingsService() {
+            @Override
+            protected IMap<String, Map<String, String>> getProjectSettingsCache() {
+                return cache;
+            }
+
+            @Override
+            protected HazelcastInstance getHazelcastInstance() {
+                return instance;
+            }
+        };
+        when(cache.get("1")).thenReturn(settings("true"));
+        assertTrue(service.getBoolean(PROJECT_ID, "flag", "false"));
+        ArgumentCaptor<LifecycleListener> captor = ArgumentCaptor.forClass(LifecycleListener.class);
+        verify(lifecycleService).addLifecycleListener(captor.capture());
+
+        when(cache.get("1")).thenReturn(settings("false"));
+        captor.getValue().stateChanged(new LifecycleEvent(LifecycleEvent.LifecycleState.CLIENT_DISCONNECTED));
+        assertTrue(service.getBoolean(PROJECT_ID, "flag", "false"));
+        captor.getValue().stateChanged(new LifecycleEvent(LifecycleEvent.LifecycleState.CLIENT_CONNECTED));
+        assertFalse(service.getBoolean(PROJECT_ID, "flag", "true"));
+    }
+
+    @Test
+    public void testLastKnownSettingsAreUsedIfHazelcastIsUnavailable() {
+        when(cache.get("1")).thenReturn(settings("true"));
+        when(cache.addEntryListener(any(MapListener.class), anyBoolean()))
+                .thenThrow(new IllegalStateException("Hazelcast is unavailable"));
+        assertNull(service.getSnapshot(PROJECT_ID));
+
+        service = new AbstractProjectSettingsService() {
+            private boolean available = true;
+
+            @Override
+            protected IMap<String, Map<String, String>> getProjectSettingsCache() {
+                if (available) {
+                    available = false;
+                    return mockCacheWithSettings();
+                }
+                throw new IllegalStateException("Hazelcast is unavailable");
+            }
+        };
+        assertTrue(service.getBoolean(PROJECT_ID, "flag", "false"));
+        assertTrue(service.getBoolean(PROJECT_ID, "flag", "false"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private IMap<String, Map<String, String>> mockCacheWithSettings() {
+        IMap<String, Map<String, String>> cache = mock(IMap.class);
+        when(cache.get("1")).thenReturn(settings("true"));
+        return cache;
+    }
+
+    private MapListener captureListener() {
+        ArgumentCaptor<MapListener> captor = ArgumentCaptor.forClass(MapListener.class);
+        verify(cache).addEntryListener(captor.capture(), anyBoolean());
+        return captor.getValue();
+    }
+
+    private static Map<String, String> settings(String flag) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("flag", flag);
+        settings.put("timeout", " 15 ");
+        settings.put("unit", "seconds");
+        return settings;
+    }
+}
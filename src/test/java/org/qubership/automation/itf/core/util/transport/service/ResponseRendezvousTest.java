@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package org.qubership.automation.itf.core.util.transport.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+
+public class ResponseRendezvousTest {
+
+    private final ResponseRendezvous rendezvous = ResponseRendezvous.INSTANCE;
+
+    @Test
+    public void testWaiterIsWokenUpByResponse() throws Exception {
+        String sessionId = UUID.randomUUID().toString();
+        Message message = new Message("response");
+        ScheduledExecutorService producer = Executors.newSingleThreadScheduledExecutor();
+        try {
+            producer.schedule(() -> rendezvous.complete(sessionId, message, 10000), 100, TimeUnit.MILLISECONDS);
+            long start = System.nanoTime();
+            assertSame(message, rendezvous.await(sessionId, 10000));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+            assertNull(rendezvous.take(sessionId));
+        } finally {
+            producer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testResponseReceivedBeforeWaitIsTakenOnce() throws Exception {
+        String sessionId = UUID.randomUUID().toString();
+        Message message = new Message("response");
+        rendezvous.complete(sessionId, message, 10000);
+        assertSame(message, rendezvous.await(sessionId, 10));
+        assertNull(rendezvous.await(sessionId, 10));
+    }
+
+    @Test
+    public void testAsyncWaitCompletesWithNullOnTimeoutAndSessionIsRemoved() throws Exception {
+        String sessionId = UUID.randomUUID().toString();
+        int size = rendezvous.size();
+        CompletableFuture<Message> response = rendezvous.awaitAsync(sessionId, 50);
+        assertNull(response.get(5, TimeUnit.SECONDS));
+        assertEquals(size, rendezvous.size());
+    }
+
+    @Test
+    public void testResponseRacingWithWaiterTimeoutIsNotLost() throws Exception {
+        ScheduledExecutorService producer = Executors.newSingleThreadScheduledExecutor();
+        try {
+            for (int i = 0; i < 200; i++) {
+                String sessionId = UUID.randomUUID().toString();
+                Message message = new Message("response");
+                producer.schedule(() -> rendezvous.complete(sessionId, message, 10000), 1, TimeUnit.MILLISECONDS);
+                Message received = rendezvous.await(sessionId, 1);
+                if (received == null) {
+                    received = rendezvous.await(sessionId, 5000);
+                }
+                assertSame(message, received);
+            }
+        } finally {
+            producer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNotTakenResponseExpires() throws Exception {
+        String sessionId = UUID.randomUUID().toString();
+        rendezvous.complete(sessionId, new Message("response"), 50);
+        Thread.sleep(500);
+        assertNull(rendezvous.take(sessionId));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.automation.itf.core.util.transport.service.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+
+public class ReportDispatcherTest {
+
+    @Test
+    public void testEventsOfContextAreDeliveredInOrderAndFlushedOnStop() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        ReportAdapter adapter = adapter();
+        ReportDispatcher dispatcher = new ReportDispatcher(true, 100, 4, 10,
+                ReportDispatcher.OverflowPolicy.BLOCK, 5000, () -> Collections.singletonList(adapter));
+        TcContext tc = tc(1);
+        for (int i = 0; i < 50; i++) {
+            int number = i;
+            dispatcher.dispatch("info", tc, true, reportAdapter -> events.add("info" + number));
+        }
+        dispatcher.dispatchAndFlush("stopRun", tc, reportAdapter -> events.add("stopRun"));
+        assertEquals(51, events.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("info" + i, events.get(i));
+        }
+        assertEquals("stopRun", events.get(50));
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testSlowAdapterDoesNotBlockCallerAndInfoIsDroppedOnOverflow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> events = new CopyOnWriteArrayList<>();
+        ReportAdapter adapter = adapter();
+        ReportDispatcher dispatcher = new ReportDispatcher(true, 2, 1, 10,
+                ReportDispatcher.OverflowPolicy.DROP_INFO, 5000, () -> Collections.singletonList(adapter));
+        TcContext tc = tc(2);
+        dispatcher.dispatch("openSection", tc, false, reportAdapter -> {
+            await(release);
+            events.add("openSection");
+        });
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch("info", tc, true, reportAdapter -> events.add("info"));
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        ReportQueueMetrics metrics = dispatcher.getMetrics().get(0);
+        assertTrue(metrics.getDropped() > 0);
+        assertTrue(metrics.getDepth() <= 2);
+        release.countDown();
+        dispatcher.dispatchAndFlush("stopRun", tc, reportAdapter -> events.add("stopRun"));
+        assertEquals("openSection", events.get(0));
+        assertEquals("stopRun", events.get(events.size() - 1));
+        assertEquals(22 - metrics.getDropped(), events.size());
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testInterruptedCallerKeepsOrderAndInterruptFlag() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> events = new CopyOnWriteArrayList<>();
+        ReportAdapter adapter = adapter();
+        ReportDispatcher dispatcher = new ReportDispatcher(true, 1, 1, 10,
+                ReportDispatcher.OverflowPolicy.BLOCK, 5000, () -> Collections.singletonList(adapter));
+        TcContext tc = tc(4);
+        dispatcher.dispatch("openSection", tc, false, reportAdapter -> {
+            await(release);
+            events.add("openSection");
+        });
+        dispatcher.dispatch("info0", tc, false, reportAdapter -> events.add("info0"));
+        Thread.currentThread().interrupt();
+        new Thread(release::countDown).start();
+        dispatcher.dispatch("info1", tc, false, reportAdapter -> events.add("info1"));
+        assertTrue(Thread.interrupted());
+        dispatcher.dispatchAndFlush("stopRun", tc, reportAdapter -> events.add("stopRun"));
+        assertEquals(Arrays.asList("openSection", "info0", "info1", "stopRun"), events);
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testSynchronousModeInvokesAdapterOnCallingThread() {
+        ReportAdapter adapter = adapter();
+        ReportDispatcher dispatcher = new ReportDispatcher(false, 1, 1, 1,
+                ReportDispatcher.OverflowPolicy.BLOCK, 0, () -> Collections.singletonList(adapter));
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        dispatcher.dispatch("info", tc(3), true, reportAdapter -> threads.add(Thread.currentThread()));
+        dispatcher.dispatch("error", tc(3), false, reportAdapter -> {
+            throw new IllegalStateException("must be logged only");
+        });
+        assertEquals(Collections.singletonList(caller), threads);
+        assertTrue(dispatcher.getMetrics().isEmpty());
+    }
+
+    @Test
+    public void testAdapterDecidesOnEventsWithoutContext() {
+        ReportAdapter adapter = mock(ReportAdapter.class);
+        ReportDispatcher dispatcher = new ReportDispatcher(false, 1, 1, 1,
+                ReportDispatcher.OverflowPolicy.BLOCK, 0, () -> Collections.singletonList(adapter));
+        List<String> events = new CopyOnWriteArrayList<>();
+        dispatcher.dispatch("info", null, true, reportAdapter -> events.add("info"));
+        assertTrue(events.isEmpty());
+    }
+
+    private ReportAdapter adapter() {
+        ReportAdapter adapter = mock(ReportAdapter.class);
+        when(adapter.needToReport(any())).thenReturn(true);
+        return adapter;
+    }
+
+    private TcContext tc(int id) {
+        TcContext tc = mock(TcContext.class);
+        when(tc.getID()).thenReturn(BigInteger.valueOf(id));
+        return tc;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}